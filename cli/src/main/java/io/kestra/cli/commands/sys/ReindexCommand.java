@@ -3,6 +3,7 @@ package io.kestra.cli.commands.sys;
 import io.kestra.cli.AbstractCommand;
 import io.kestra.core.models.flows.Flow;
 import io.kestra.core.repositories.FlowRepositoryInterface;
+import io.kestra.jdbc.repository.AbstractJdbcExecutionRepository;
 import io.micronaut.context.ApplicationContext;
 import jakarta.inject.Inject;
 import lombok.extern.slf4j.Slf4j;
@@ -20,7 +21,7 @@ public class ReindexCommand extends AbstractCommand {
     @Inject
     private ApplicationContext applicationContext;
 
-    @CommandLine.Option(names = {"-t", "--type"}, description = "The type of the records to reindex, only 'flow' is supported for now.")
+    @CommandLine.Option(names = {"-t", "--type"}, description = "The type of the records to reindex, only 'flow' and 'execution-rollup' are supported for now.")
     private String type;
 
     @Override
@@ -38,6 +39,14 @@ public class ReindexCommand extends AbstractCommand {
 
             stdOut("Successfully reindex " + allFlow.size() + " flow(s).");
         }
+        else if ("execution-rollup".equals(type)) {
+            AbstractJdbcExecutionRepository executionRepository = applicationContext.findBean(AbstractJdbcExecutionRepository.class)
+                .orElseThrow(() -> new IllegalArgumentException("Reindexing type '" + type + "' is only supported with a JDBC repository"));
+
+            int count = executionRepository.rebuildRollups();
+
+            stdOut("Successfully reindex " + count + " execution rollup(s).");
+        }
         else {
             throw new IllegalArgumentException("Reindexing type '" + type + "' is not supported");
         }
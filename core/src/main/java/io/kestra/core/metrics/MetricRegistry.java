@@ -55,6 +55,8 @@ public class MetricRegistry {
 
 
     public final static String JDBC_QUERY_DURATION = "jdbc.query.duration";
+    public final static String JDBC_QUEUE_ASYNC_DROPPED_COUNT = "jdbc.queue.async.dropped.count";
+    public final static String JDBC_QUEUE_ASYNC_LAG_DURATION = "jdbc.queue.async.lag.duration";
 
     public final static String TAG_TASK_TYPE = "task_type";
     public final static String TAG_FLOW_ID = "flow_id";
@@ -14,7 +14,10 @@ import io.kestra.core.models.TenantInterface;
 import io.kestra.core.serializers.ListOrMapOfLabelDeserializer;
 import io.kestra.core.serializers.ListOrMapOfLabelSerializer;
 import io.swagger.v3.oas.annotations.Hidden;
+import lombok.AccessLevel;
 import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
 import lombok.Value;
 import lombok.With;
 import lombok.extern.slf4j.Slf4j;
@@ -25,6 +28,7 @@ import io.kestra.core.models.flows.State;
 import io.kestra.core.models.tasks.ResolvedTask;
 import io.kestra.core.runners.FlowableUtils;
 import io.kestra.core.runners.RunContextLogger;
+import io.kestra.core.utils.ChunkedList;
 import io.kestra.core.utils.MapUtils;
 
 import java.time.Instant;
@@ -87,6 +91,16 @@ public class Execution implements DeletedInterface, TenantInterface {
     @Builder.Default
     boolean deleted = false;
 
+    @JsonIgnore
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    final transient TaskRunIndex taskRunIndex = new TaskRunIndex();
+
+    @JsonIgnore
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    final transient OutputsCache outputsCache = new OutputsCache();
+
     public static class ExecutionBuilder {
         void prebuild() {
             this.originalId = this.id;
@@ -125,19 +139,20 @@ public class Execution implements DeletedInterface, TenantInterface {
     }
 
     public Execution withTaskRun(TaskRun taskRun) throws InternalException {
-        ArrayList<TaskRun> newTaskRunList = new ArrayList<>(this.taskRunList);
-
-        boolean b = Collections.replaceAll(
-            newTaskRunList,
-            this.findTaskRunByTaskRunId(taskRun.getId()),
-            taskRun
-        );
+        int position = this.taskRunIndex.position(this.taskRunList, taskRun.getId());
 
-        if (!b) {
+        if (position < 0) {
+            // keep the previous exception for a missing taskRun
+            this.findTaskRunByTaskRunId(taskRun.getId());
             throw new IllegalStateException("Can't replace taskRun '" + taskRun.getId() + "' on execution'" + this.getId() + "'");
         }
 
-        return new Execution(
+        TaskRun previous = this.taskRunList.get(position);
+
+        // only the chunk holding the taskRun is copied, the others are shared with this execution
+        List<TaskRun> newTaskRunList = ChunkedList.<TaskRun>copyOf(this.taskRunList).with(position, taskRun);
+
+        Execution execution = new Execution(
             this.tenantId,
             this.id,
             this.namespace,
@@ -153,6 +168,40 @@ public class Execution implements DeletedInterface, TenantInterface {
             this.trigger,
             this.deleted
         );
+
+        // positions are unchanged, the new execution can reuse the index
+        execution.taskRunIndex.inherit(this.taskRunIndex);
+        this.inheritOutputs(execution, position, previous, taskRun);
+
+        return execution;
+    }
+
+    /**
+     * Pass the outputs already computed to the execution created by {@link #withTaskRun(TaskRun)} when they can be
+     * kept as is, or updated by merging only the new outputs when they would have been merged last anyway.
+     */
+    private void inheritOutputs(Execution execution, int position, TaskRun previous, TaskRun taskRun) {
+        Map<String, Object> outputs = this.outputsCache.get(this.taskRunList);
+
+        // the value and the parent of a taskRun are used in the outputs of its childs
+        if (outputs == null ||
+            !previous.getTaskId().equals(taskRun.getTaskId()) ||
+            !Objects.equals(previous.getValue(), taskRun.getValue()) ||
+            !Objects.equals(previous.getParentTaskRunId(), taskRun.getParentTaskRunId())
+        ) {
+            return;
+        }
+
+        if (Objects.equals(previous.getOutputs(), taskRun.getOutputs())) {
+            execution.outputsCache.set(execution.taskRunList, outputs);
+        } else if (previous.getOutputs() == null &&
+            this.taskRunList.subList(position + 1, this.taskRunList.size()).stream().allMatch(t -> t.getOutputs() == null)
+        ) {
+            execution.outputsCache.set(
+                execution.taskRunList,
+                Collections.unmodifiableMap(MapUtils.merge(outputs, execution.outputs(taskRun)))
+            );
+        }
     }
 
     public Execution childExecution(String childExecutionId, List<TaskRun> taskRunList, State state) {
@@ -186,16 +235,13 @@ public class Execution implements DeletedInterface, TenantInterface {
     }
 
     public TaskRun findTaskRunByTaskRunId(String id) throws InternalException {
-        Optional<TaskRun> find = (this.taskRunList == null ? new ArrayList<TaskRun>() : this.taskRunList)
-            .stream()
-            .filter(taskRun -> taskRun.getId().equals(id))
-            .findFirst();
+        int position = this.taskRunIndex.position(this.taskRunList, id);
 
-        if (find.isEmpty()) {
+        if (position < 0) {
             throw new InternalException("Can't find taskrun with taskrunId '" + id + "' on execution '" + this.id + "' " + this.toStringState());
         }
 
-        return find.get();
+        return this.taskRunList.get(position);
     }
 
     public TaskRun findTaskRunByTaskIdAndValue(String id, List<String> values) throws InternalException {
@@ -619,6 +665,11 @@ public class Execution implements DeletedInterface, TenantInterface {
             return ImmutableMap.of();
         }
 
+        Map<String, Object> cached = this.outputsCache.get(this.taskRunList);
+        if (cached != null) {
+            return cached;
+        }
+
         Map<String, Object> result = new HashMap<>();
 
         for (TaskRun current : this.taskRunList) {
@@ -627,6 +678,9 @@ public class Execution implements DeletedInterface, TenantInterface {
             }
         }
 
+        result = Collections.unmodifiableMap(result);
+        this.outputsCache.set(this.taskRunList, result);
+
         return result;
     }
 
@@ -710,15 +764,11 @@ public class Execution implements DeletedInterface, TenantInterface {
         boolean ended = false;
 
         while (!ended) {
-            final TaskRun finalTaskRun = taskRun;
-            Optional<TaskRun> find = this.taskRunList
-                .stream()
-                .filter(t -> t.getId().equals(finalTaskRun.getParentTaskRunId()))
-                .findFirst();
+            int position = taskRun.getParentTaskRunId() == null ? -1 : this.taskRunIndex.position(this.taskRunList, taskRun.getParentTaskRunId());
 
-            if (find.isPresent()) {
-                result.add(find.get());
-                taskRun = find.get();
+            if (position >= 0) {
+                taskRun = this.taskRunList.get(position);
+                result.add(taskRun);
             } else {
                 ended = true;
             }
@@ -789,4 +839,69 @@ public class Execution implements DeletedInterface, TenantInterface {
 
         return crc32.getValue();
     }
+
+    /**
+     * Lazy index of the position of each taskRun by id, validated on each lookup so a list modified in place
+     * only leads to a rebuild.
+     */
+    static class TaskRunIndex {
+        private volatile Map<String, Integer> positions;
+
+        int position(List<TaskRun> taskRunList, String id) {
+            if (taskRunList == null || id == null) {
+                return -1;
+            }
+
+            Map<String, Integer> current = this.positions;
+            if (current == null || current.size() != taskRunList.size()) {
+                current = this.build(taskRunList);
+            }
+
+            Integer position = current.get(id);
+            if (position != null && (position >= taskRunList.size() || !taskRunList.get(position).getId().equals(id))) {
+                position = this.build(taskRunList).get(id);
+            }
+
+            return position == null ? -1 : position;
+        }
+
+        void inherit(TaskRunIndex other) {
+            this.positions = other.positions;
+        }
+
+        private Map<String, Integer> build(List<TaskRun> taskRunList) {
+            Map<String, Integer> built = new HashMap<>(taskRunList.size() * 2);
+
+            for (int i = 0; i < taskRunList.size(); i++) {
+                built.putIfAbsent(taskRunList.get(i).getId(), i);
+            }
+
+            this.positions = built;
+
+            return built;
+        }
+    }
+
+    /**
+     * Lazy cache of the outputs, only valid for the taskRun list it was computed for.
+     */
+    static class OutputsCache {
+        private volatile Cached cached;
+
+        Map<String, Object> get(List<TaskRun> taskRunList) {
+            Cached current = this.cached;
+
+            if (current == null || current.taskRunList() != taskRunList || current.size() != taskRunList.size()) {
+                return null;
+            }
+
+            return current.outputs();
+        }
+
+        void set(List<TaskRun> taskRunList, Map<String, Object> outputs) {
+            this.cached = new Cached(taskRunList, taskRunList.size(), outputs);
+        }
+
+        private record Cached(List<TaskRun> taskRunList, int size, Map<String, Object> outputs) {}
+    }
 }
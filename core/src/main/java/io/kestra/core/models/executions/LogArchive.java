@@ -0,0 +1,80 @@
+package io.kestra.core.models.executions;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Value;
+import org.slf4j.event.Level;
+
+import javax.validation.constraints.NotNull;
+import java.net.URI;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The logs of an execution moved out of the logs table into compressed files of the internal storage.
+ * Each archive pass writes a new segment with the logs it moved, the segments are ordered by date.
+ */
+@Value
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class LogArchive {
+    String tenantId;
+
+    @NotNull
+    String namespace;
+
+    @NotNull
+    String flowId;
+
+    @NotNull
+    String executionId;
+
+    @NotNull
+    List<Segment> segments;
+
+    @NotNull
+    Long count;
+
+    @NotNull
+    Instant startDate;
+
+    @NotNull
+    Instant endDate;
+
+    public String uid() {
+        return this.executionId;
+    }
+
+    @Value
+    @AllArgsConstructor
+    @Builder
+    public static class Segment {
+        @NotNull
+        URI uri;
+
+        @NotNull
+        Long count;
+
+        /**
+         * The number of logs by level, so a page can skip the segments before it without reading them.
+         */
+        @NotNull
+        Map<Level, Long> levels;
+
+        @NotNull
+        Instant startDate;
+
+        @NotNull
+        Instant endDate;
+
+        public long count(List<String> levels) {
+            return this.levels
+                .entrySet()
+                .stream()
+                .filter(entry -> levels.contains(entry.getKey().name()))
+                .mapToLong(Map.Entry::getValue)
+                .sum();
+        }
+    }
+}
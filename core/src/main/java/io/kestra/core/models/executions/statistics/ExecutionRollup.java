@@ -0,0 +1,95 @@
+package io.kestra.core.models.executions.statistics;
+
+import io.kestra.core.models.flows.State;
+import io.kestra.core.utils.IdUtils;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Value;
+
+import javax.validation.constraints.NotNull;
+import java.time.LocalDate;
+import java.util.function.BinaryOperator;
+
+/**
+ * The executions of a flow started on a day and currently in a state, used to compute the statistics without scanning
+ * the executions.
+ * The min and max durations are never lowered back when an execution leaves the bucket.
+ */
+@Value
+@AllArgsConstructor
+@Builder
+public class ExecutionRollup {
+    String tenantId;
+
+    @NotNull
+    String namespace;
+
+    @NotNull
+    String flowId;
+
+    @NotNull
+    LocalDate date;
+
+    @NotNull
+    State.Type state;
+
+    @NotNull
+    Long count;
+
+    @NotNull
+    Long durationSum;
+
+    Long durationMin;
+
+    Long durationMax;
+
+    public String uid() {
+        return IdUtils.fromParts(
+            this.tenantId,
+            this.namespace,
+            this.flowId,
+            this.date.toString(),
+            this.state.name()
+        );
+    }
+
+    public ExecutionRollup plus(ExecutionRollup other) {
+        return new ExecutionRollup(
+            this.tenantId,
+            this.namespace,
+            this.flowId,
+            this.date,
+            this.state,
+            this.count + other.count,
+            this.durationSum + other.durationSum,
+            bound(this.durationMin, other.durationMin, Math::min),
+            bound(this.durationMax, other.durationMax, Math::max)
+        );
+    }
+
+    public ExecutionRollup negate() {
+        return new ExecutionRollup(
+            this.tenantId,
+            this.namespace,
+            this.flowId,
+            this.date,
+            this.state,
+            -this.count,
+            -this.durationSum,
+            null,
+            null
+        );
+    }
+
+    private static Long bound(Long first, Long second, BinaryOperator<Long> operator) {
+        if (first == null) {
+            return second;
+        }
+
+        if (second == null) {
+            return first;
+        }
+
+        return operator.apply(first, second);
+    }
+}
@@ -4,6 +4,7 @@ import io.kestra.core.exceptions.DeserializationException;
 import io.kestra.core.utils.Either;
 
 import java.io.Closeable;
+import java.util.List;
 import java.util.function.Consumer;
 
 public interface QueueInterface<T> extends Closeable {
@@ -13,6 +14,19 @@ public interface QueueInterface<T> extends Closeable {
 
     void emit(String consumerGroup, T message) throws QueueException;
 
+    default void emitAll(List<T> messages) throws QueueException {
+        emitAll(null, messages);
+    }
+
+    /**
+     * Emit multiple messages at once, implementations may send them in a single batch.
+     */
+    default void emitAll(String consumerGroup, List<T> messages) throws QueueException {
+        for (T message : messages) {
+            emit(consumerGroup, message);
+        }
+    }
+
     default void emitAsync(T message) throws QueueException {
         emitAsync(null, message);
     }
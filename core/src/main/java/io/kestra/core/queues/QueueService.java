@@ -2,6 +2,7 @@ package io.kestra.core.queues;
 
 import io.kestra.core.models.Setting;
 import io.kestra.core.models.executions.*;
+import io.kestra.core.models.executions.statistics.ExecutionRollup;
 import io.kestra.core.models.flows.Flow;
 import io.kestra.core.models.templates.Template;
 import io.kestra.core.models.topologies.FlowTopology;
@@ -59,8 +60,32 @@ public class QueueService {
             return ((WorkerTriggerResult) object).getTriggerContext().uid();
         } else if (object.getClass() == ExecutionQueued.class) {
             return ((ExecutionQueued) object).uid();
+        } else if (object.getClass() == ConcurrencyLimit.class) {
+            return ((ConcurrencyLimit) object).uid();
+        } else if (object.getClass() == ExecutionRollup.class) {
+            return ((ExecutionRollup) object).uid();
+        } else if (object.getClass() == LogArchive.class) {
+            return ((LogArchive) object).uid();
         } else {
             throw new IllegalArgumentException("Unknown type '" + object.getClass().getName() + "'");
         }
     }
+
+    /**
+     * The key used to route a message to an executor: the execution id for messages processed by the executor,
+     * the message key otherwise.
+     */
+    public String shardKey(Object object) {
+        if (object.getClass() == Execution.class) {
+            return ((Execution) object).getId();
+        } else if (object.getClass() == WorkerTaskResult.class) {
+            return ((WorkerTaskResult) object).getTaskRun().getExecutionId();
+        } else if (object.getClass() == ExecutionKilled.class) {
+            return ((ExecutionKilled) object).getExecutionId();
+        } else if (object.getClass() == SubflowExecutionResult.class) {
+            return ((SubflowExecutionResult) object).getParentTaskRun().getExecutionId();
+        } else {
+            return this.key(object);
+        }
+    }
 }
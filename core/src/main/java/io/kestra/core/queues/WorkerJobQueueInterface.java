@@ -6,10 +6,19 @@ import io.kestra.core.utils.Either;
 
 import java.io.Closeable;
 import java.util.function.Consumer;
+import java.util.function.IntSupplier;
 
 public interface WorkerJobQueueInterface extends Closeable {
     Runnable receive(String consumerGroup, Class<?> queueType, Consumer<Either<WorkerJob, DeserializationException>> consumer);
 
+    /**
+     * Receive at most the number of jobs given by the credits supplier on each poll, called before each poll.
+     * Implementations that can't limit the jobs they fetch receive them all.
+     */
+    default Runnable receive(String consumerGroup, Class<?> queueType, IntSupplier credits, Consumer<Either<WorkerJob, DeserializationException>> consumer) {
+        return this.receive(consumerGroup, queueType, consumer);
+    }
+
     void pause();
 
     void cleanup();
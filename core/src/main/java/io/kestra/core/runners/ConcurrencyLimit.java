@@ -0,0 +1,33 @@
+package io.kestra.core.runners;
+
+import io.kestra.core.utils.IdUtils;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Value;
+import lombok.With;
+
+import javax.validation.constraints.NotNull;
+
+/**
+ * The number of concurrency slots used by the executions of a flow with a concurrency limit.
+ */
+@Value
+@AllArgsConstructor
+@Builder
+public class ConcurrencyLimit {
+    String tenantId;
+
+    @NotNull
+    String namespace;
+
+    @NotNull
+    String flowId;
+
+    @With
+    @NotNull
+    Integer running;
+
+    public String uid() {
+        return IdUtils.fromParts(this.tenantId, this.namespace, this.flowId);
+    }
+}
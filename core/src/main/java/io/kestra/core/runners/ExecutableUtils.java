@@ -129,17 +129,21 @@ public final class ExecutableUtils {
             iterations.put(previousState.get().toString(), previousStateIterations - 1);
         }
 
+        // keep the other outputs, the ones of the previous taskRun are the most recent
+        Map<String, Object> outputs = new HashMap<>(taskRun.getOutputs());
+        if (previousTaskRun.getOutputs() != null) {
+            outputs.putAll(previousTaskRun.getOutputs());
+        }
+        outputs.put("iterations", iterations);
+        outputs.put("numberOfBatches", numberOfBatches);
+
         // update the state to success if terminatedIterations == numberOfBatches
-        int terminatedIterations =  iterations.getOrDefault(State.Type.SUCCESS.toString(), 0) +
-            iterations.getOrDefault(State.Type.FAILED.toString(), 0) +
-            iterations.getOrDefault(State.Type.KILLED.toString(), 0) +
-            iterations.getOrDefault(State.Type.WARNING.toString(), 0) +
-            iterations.getOrDefault(State.Type.CANCELLED.toString(), 0);
+        int terminatedIterations = terminatedIterations(iterations);
          if (terminatedIterations == numberOfBatches) {
             var state = transmitFailed ? findTerminalState(iterations, allowFailure) : State.Type.SUCCESS;
             return previousTaskRun
                 .withIteration(taskRun.getIteration())
-                .withOutputs(Map.of("iterations", iterations, "numberOfBatches", numberOfBatches))
+                .withOutputs(outputs)
                 .withAttempts(Collections.singletonList(TaskRunAttempt.builder().state(new State().withState(state)).build()))
                 .withState(state);
         }
@@ -147,7 +151,15 @@ public final class ExecutableUtils {
          // else we update the previous taskRun as it's the same taskRun that is still running
         return previousTaskRun
             .withIteration(taskRun.getIteration())
-            .withOutputs(Map.of("iterations", iterations, "numberOfBatches", numberOfBatches));
+            .withOutputs(outputs);
+    }
+
+    public static int terminatedIterations(Map<String, Integer> iterations) {
+        return iterations.getOrDefault(State.Type.SUCCESS.toString(), 0) +
+            iterations.getOrDefault(State.Type.FAILED.toString(), 0) +
+            iterations.getOrDefault(State.Type.KILLED.toString(), 0) +
+            iterations.getOrDefault(State.Type.WARNING.toString(), 0) +
+            iterations.getOrDefault(State.Type.CANCELLED.toString(), 0);
     }
 
     private static State.Type findTerminalState(Map<String, Integer> iterations, boolean allowFailure) {
@@ -12,6 +12,7 @@ import io.kestra.core.models.flows.Flow;
 import io.kestra.core.models.flows.State;
 import io.kestra.core.models.tasks.*;
 import io.kestra.core.services.ConditionService;
+import io.kestra.core.tasks.flows.ForEachItem;
 import io.kestra.core.tasks.flows.Pause;
 import io.kestra.core.tasks.flows.WorkingDirectory;
 import io.micronaut.context.ApplicationContext;
@@ -23,7 +24,9 @@ import org.slf4j.Logger;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -662,6 +665,33 @@ public class ExecutorService {
         return resultExecutor;
     }
 
+    /**
+     * Create the next subflow executions of a {@link ForEachItem} running with a concurrency limit, once the result of
+     * one of its subflow executions has been joined on its taskRun.
+     */
+    public Executor releaseSubflowExecutions(Executor executor, ForEachItem forEachItem, TaskRun taskRun) throws InternalException {
+        if (forEachItem.getConcurrencyLimit() == null ||
+            taskRun.getState().isTerminated() ||
+            executor.getExecution().getState().getCurrent() == State.Type.KILLING
+        ) {
+            return executor;
+        }
+
+        RunContext runContext = runContextFactory.of(executor.getFlow(), forEachItem, executor.getExecution(), taskRun);
+        List<SubflowExecution<?>> subflowExecutions = forEachItem.releaseSubflowExecutions(runContext, flowExecutorInterface(), executor.getFlow(), executor.getExecution(), taskRun);
+        if (subflowExecutions.isEmpty()) {
+            return executor;
+        }
+
+        // the created subflow executions hold the next iteration to create
+        Map<String, Object> outputs = new HashMap<>(taskRun.getOutputs());
+        outputs.putAll(subflowExecutions.get(subflowExecutions.size() - 1).getParentTaskRun().getOutputs());
+
+        return executor
+            .withExecution(executor.getExecution().withTaskRun(taskRun.withOutputs(outputs)), "releaseSubflowExecutions")
+            .withSubflowExecutions(subflowExecutions, "releaseSubflowExecutions");
+    }
+
     private Executor handleExecutionUpdatingTask(final Executor executor) {
         List<WorkerTaskResult> workerTaskResults = new ArrayList<>();
 
@@ -15,6 +15,7 @@ public class ExecutorState {
     private Map<String, String> childDeduplication = new ConcurrentHashMap<>();
     private Map<String, State.Type> subflowExecutionDeduplication = new ConcurrentHashMap<>();
     private Boolean flowTriggerDeduplication = false;
+    private Boolean concurrencySlot = false;
 
     public ExecutorState(String executionId) {
         this.executionId = executionId;
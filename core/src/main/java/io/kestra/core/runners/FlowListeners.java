@@ -3,7 +3,6 @@ package io.kestra.core.runners;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.kestra.core.models.flows.FlowWithException;
 import io.kestra.core.serializers.JacksonMapper;
-import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import io.kestra.core.models.flows.Flow;
 import io.kestra.core.queues.QueueFactoryInterface;
@@ -14,7 +13,9 @@ import io.kestra.core.services.FlowListenersInterface;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
@@ -29,7 +30,10 @@ public class FlowListeners implements FlowListenersInterface {
 
     private Boolean isStarted = false;
     private final QueueInterface<Flow> flowQueue;
-    private final List<Flow> flows;
+    // last version of each flow indexed by uid without revision
+    private final Map<String, Flow> flows = new ConcurrentHashMap<>();
+    // immutable list of the flows shared by all consumers, rebuilt on the first access after a change
+    private volatile List<Flow> snapshot;
     private final List<Consumer<List<Flow>>> consumers = new ArrayList<>();
 
     private final List<BiConsumer<Flow, Flow>> consumersEach = new ArrayList<>();
@@ -40,7 +44,8 @@ public class FlowListeners implements FlowListenersInterface {
         @Named(QueueFactoryInterface.FLOW_NAMED) QueueInterface<Flow> flowQueue
     ) {
         this.flowQueue = flowQueue;
-        this.flows = flowRepository.findAllForAllTenants();
+        flowRepository.findAllForAllTenants()
+            .forEach(flow -> this.flows.put(flow.uidWithoutRevision(), flow));
     }
 
     @Override
@@ -96,35 +101,34 @@ public class FlowListeners implements FlowListenersInterface {
     }
 
     private Optional<Flow> previous(Flow flow) {
-        return flows
-            .stream()
-            .filter(r -> r.getNamespace().equals(flow.getNamespace()) && r.getId().equals(flow.getId()))
-            .findFirst();
+        return Optional.ofNullable(flows.get(flow.uidWithoutRevision()));
     }
 
     private boolean remove(Flow flow) {
         synchronized (this) {
-            boolean remove = flows.removeIf(r -> r.getNamespace().equals(flow.getNamespace()) && r.getId().equals(flow.getId()));
+            boolean remove = flows.remove(flow.uidWithoutRevision()) != null;
             if (!remove && flow.isDeleted()) {
                 log.warn("Can't remove flow {}.{}", flow.getNamespace(), flow.getId());
             }
 
+            this.snapshot = null;
+
             return remove;
         }
     }
 
     private void upsert(Flow flow) {
         synchronized (this) {
-            this.remove(flow);
+            this.flows.put(flow.uidWithoutRevision(), flow);
 
-            this.flows.add(flow);
+            this.snapshot = null;
         }
     }
 
     private void notifyConsumers() {
         synchronized (this) {
             this.consumers
-                .forEach(consumer -> consumer.accept(new ArrayList<>(this.flows)));
+                .forEach(consumer -> consumer.accept(this.flows()));
         }
     }
 
@@ -139,7 +143,7 @@ public class FlowListeners implements FlowListenersInterface {
     public void listen(Consumer<List<Flow>> consumer) {
         synchronized (this) {
             consumers.add(consumer);
-            consumer.accept(new ArrayList<>(this.flows()));
+            consumer.accept(this.flows());
         }
     }
 
@@ -150,10 +154,25 @@ public class FlowListeners implements FlowListenersInterface {
         }
     }
 
-    @SneakyThrows
     @Override
     public List<Flow> flows() {
-        // we forced a deep clone to avoid concurrency where instance are changed during iteration (especially scheduler).
-        return new ArrayList<>(this.flows);
+        // an immutable snapshot, so instances can't be changed during iteration (especially scheduler).
+        List<Flow> current = this.snapshot;
+        if (current != null) {
+            return current;
+        }
+
+        synchronized (this) {
+            if (this.snapshot == null) {
+                this.snapshot = List.copyOf(this.flows.values());
+            }
+
+            return this.snapshot;
+        }
+    }
+
+    @Override
+    public Optional<Flow> findById(String tenantId, String namespace, String id) {
+        return Optional.ofNullable(this.flows.get(Flow.uidWithoutRevision(tenantId, namespace, id)));
     }
 }
@@ -0,0 +1,182 @@
+package io.kestra.core.runners;
+
+import io.micronaut.context.annotation.Value;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * A worker-local directory of files named by the hash of their content, so a content already downloaded from the
+ * internal storage is not downloaded again by the next tasks running on the same worker.
+ * The least recently used files are deleted once the directory is over its maximum size, a deleted file stays
+ * readable by the tasks that already opened or linked it.
+ */
+@Singleton
+@Slf4j
+public class LocalFileCache {
+    private static final Pattern HASH = Pattern.compile("[0-9a-f]+");
+
+    private final Path directory;
+    private final long maximumSize;
+
+    // files by hash, in access order
+    private final LinkedHashMap<String, Long> files = new LinkedHashMap<>(16, 0.75f, true);
+    private long size = 0L;
+
+    @Inject
+    public LocalFileCache(
+        @Value("${kestra.tasks.local-cache.path:}") String path,
+        @Value("${kestra.tasks.local-cache.maximum-size:1073741824}") long maximumSize
+    ) throws IOException {
+        this.directory = path.isEmpty() ? Path.of(System.getProperty("java.io.tmpdir"), "kestra-local-cache") : Path.of(path);
+        this.maximumSize = maximumSize;
+
+        Files.createDirectories(this.directory);
+        this.load();
+    }
+
+    /**
+     * Get the file of a content hash, if it was previously put in this cache.
+     */
+    public synchronized Optional<Path> get(String hash) {
+        if (files.get(validate(hash)) == null) {
+            return Optional.empty();
+        }
+
+        Path file = this.directory.resolve(hash);
+        if (!Files.exists(file)) {
+            size -= files.remove(hash);
+            return Optional.empty();
+        }
+
+        return Optional.of(file);
+    }
+
+    /**
+     * Put a content with its hash, the content is first written in a temporary file then moved, so a file of this
+     * cache is always complete.
+     */
+    public Path put(String hash, InputStream content) throws IOException {
+        Path temp = Files.createTempFile(this.directory, validate(hash), ".tmp");
+
+        try {
+            Files.copy(content, temp, StandardCopyOption.REPLACE_EXISTING);
+
+            return this.add(hash, temp);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Put a file with its hash, the file is linked when possible instead of copied, and is left untouched.
+     */
+    public Path put(String hash, Path file) throws IOException {
+        Path temp = this.directory.resolve(validate(hash) + "." + System.nanoTime() + ".tmp");
+
+        try {
+            try {
+                Files.createLink(temp, file);
+            } catch (IOException | UnsupportedOperationException e) {
+                Files.copy(file, temp, StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            return this.add(hash, temp);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private synchronized Path add(String hash, Path temp) throws IOException {
+        Path file = this.directory.resolve(hash);
+        long fileSize = Files.size(temp);
+
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        Long previous = files.put(hash, fileSize);
+        size += fileSize - (previous == null ? 0L : previous);
+
+        this.evict(hash);
+
+        return file;
+    }
+
+    private void evict(String keep) {
+        Iterator<Map.Entry<String, Long>> iterator = files.entrySet().iterator();
+
+        while (size > maximumSize && iterator.hasNext()) {
+            Map.Entry<String, Long> eldest = iterator.next();
+            if (eldest.getKey().equals(keep)) {
+                continue;
+            }
+
+            try {
+                Files.deleteIfExists(this.directory.resolve(eldest.getKey()));
+            } catch (IOException e) {
+                log.warn("Unable to delete the local cache file {}", eldest.getKey(), e);
+            }
+
+            size -= eldest.getValue();
+            iterator.remove();
+        }
+    }
+
+    private synchronized void load() throws IOException {
+        // the files of a previous run are reloaded from the least to the most recently modified
+        try (Stream<Path> list = Files.list(this.directory)) {
+            list
+                .filter(path -> {
+                    // a temporary file is left by a write that didn't complete
+                    if (path.getFileName().toString().endsWith(".tmp")) {
+                        path.toFile().delete();
+                        return false;
+                    }
+
+                    return true;
+                })
+                .sorted(Comparator.comparing(LocalFileCache::lastModifiedTime))
+                .forEach(path -> {
+                    try {
+                        long fileSize = Files.size(path);
+                        files.put(path.getFileName().toString(), fileSize);
+                        size += fileSize;
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+        }
+
+        this.evict(null);
+    }
+
+    private static String validate(String hash) {
+        if (!HASH.matcher(hash).matches()) {
+            throw new IllegalArgumentException("Invalid content hash '" + hash + "'");
+        }
+
+        return hash;
+    }
+
+    private static FileTime lastModifiedTime(Path path) {
+        try {
+            return Files.getLastModifiedTime(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package io.kestra.core.runners;
 
+import com.google.common.hash.Hashing;
 import io.kestra.core.models.tasks.NamespaceFiles;
 import io.kestra.core.storages.FileAttributes;
 import io.kestra.core.storages.StorageInterface;
+import io.micronaut.context.annotation.Value;
 import io.micronaut.core.annotation.Nullable;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
@@ -11,57 +13,66 @@ import lombok.extern.slf4j.Slf4j;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.*;
-import java.util.ArrayList;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 import static io.kestra.core.utils.Rethrow.*;
 import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 
+/**
+ * Inject the namespace files into a working directory.
+ * The files are mirrored on the worker in the {@link LocalFileCache}, by a version computed from their path, size and
+ * last modified time as listed by the storage, so only the files updated since the previous tasks are downloaded.
+ */
 @Singleton
 @Slf4j
 public class NamespaceFilesService {
+    // the last modified time of a file updated recently may not change on the next update, depending on the storage precision
+    private static final Duration STABLE_DELAY = Duration.ofMinutes(1);
+
     @Inject
     private StorageInterface storageInterface;
 
+    @Inject
+    private LocalFileCache localFileCache;
+
+    @Value("${kestra.tasks.namespace-files.hardlink:false}")
+    private boolean hardlink;
+
     public List<URI> inject(RunContext runContext, String tenantId, String namespace, Path basePath, NamespaceFiles namespaceFiles) throws Exception {
         if (!namespaceFiles.getEnabled()) {
             return Collections.emptyList();
         }
 
-        List<URI> list = new ArrayList<>();
-        list.addAll(recursiveList(tenantId, namespace, null));
+        Map<URI, FileAttributes> files = new LinkedHashMap<>();
+        recursiveList(tenantId, namespace, null, files);
 
+        // the patterns are compiled once for all the files
+        List<PathMatcher> exclude = namespaceFiles.getExclude() != null ? matchers(runContext.render(namespaceFiles.getExclude())) : null;
+        List<PathMatcher> include = namespaceFiles.getInclude() != null ? matchers(namespaceFiles.getInclude()) : null;
 
-        list = list
+        List<URI> list = files.keySet()
             .stream()
-            .filter(throwPredicate(f -> {
-                var file = f.getPath();
-
-                if (namespaceFiles.getExclude() != null) {
-                    boolean b = match(runContext.render(namespaceFiles.getExclude()), file);
-
-                    if (b) {
-                        return false;
-                    }
-                }
-
-                if (namespaceFiles.getInclude() != null) {
-                    boolean b = match(namespaceFiles.getInclude(), file);
+            .filter(f -> {
+                var file = Paths.get(f.getPath());
 
-                    if (!b) {
-                        return false;
-                    }
+                if (exclude != null && match(exclude, file)) {
+                    return false;
                 }
 
-                return true;
-            }))
+                return include == null || match(include, file);
+            })
             .collect(Collectors.toList());
 
-        copy(tenantId, namespace, basePath, list);
+        copy(tenantId, namespace, basePath, list, files);
 
         return list;
     }
@@ -73,36 +84,41 @@ public class NamespaceFilesService {
         );
     }
 
-    private List<URI> recursiveList(String tenantId, String namespace, @Nullable URI path) throws IOException {
+    private void recursiveList(String tenantId, String namespace, @Nullable URI path, Map<URI, FileAttributes> result) throws IOException {
         URI uri = uri(namespace, path);
 
-        List<URI> result = new ArrayList<>();
         List<FileAttributes> list = storageInterface.list(tenantId, uri);
 
         for (var file: list) {
             URI current = URI.create((path != null ? path.getPath() : "") +  "/" + file.getFileName());
 
             if (file.getType() == FileAttributes.FileType.Directory) {
-                result.addAll(this.recursiveList(tenantId, namespace, current));
+                this.recursiveList(tenantId, namespace, current, result);
             } else {
-                result.add(current);
+                result.put(current, file);
             }
         }
-
-        return result;
     }
 
-    private static boolean match(List<String> patterns, String file) {
+    private static List<PathMatcher> matchers(List<String> patterns) {
         return patterns
             .stream()
-            .anyMatch(s -> FileSystems
+            .map(s -> FileSystems
                 .getDefault()
                 .getPathMatcher("glob:" + (s.matches("\\w+[\\s\\S]*") ? "**/" + s : s))
-                .matches(Paths.get(file))
-            );
+            )
+            .toList();
+    }
+
+    private static boolean match(List<PathMatcher> matchers, Path file) {
+        return matchers
+            .stream()
+            .anyMatch(matcher -> matcher.matches(file));
     }
 
-    private void copy(String tenantId, String namespace, Path basePath, List<URI> files) throws IOException {
+    private void copy(String tenantId, String namespace, Path basePath, List<URI> files, Map<URI, FileAttributes> attributes) throws IOException {
+        Instant stable = Instant.now().minus(STABLE_DELAY);
+
         files
             .forEach(throwConsumer(f -> {
                 Path destination = Paths.get(basePath.toString(), f.getPath());
@@ -112,9 +128,59 @@ public class NamespaceFilesService {
                     destination.getParent().toFile().mkdirs();
                 }
 
-                try (InputStream inputStream = storageInterface.get(tenantId, uri(namespace, f))) {
-                    Files.copy(inputStream, destination, REPLACE_EXISTING);
+                FileAttributes fileAttributes = attributes.get(f);
+                if (Instant.ofEpochMilli(fileAttributes.getLastModifiedTime()).isAfter(stable)) {
+                    this.download(tenantId, namespace, f, destination);
+                    return;
+                }
+
+                String version = Hashing.sha256()
+                    .hashString(
+                        String.join("/", Optional.ofNullable(tenantId).orElse(""), namespace, f.getPath(), String.valueOf(fileAttributes.getSize()), String.valueOf(fileAttributes.getLastModifiedTime())),
+                        StandardCharsets.UTF_8
+                    )
+                    .toString();
+
+                try {
+                    Path cached = localFileCache.get(version).orElse(null);
+                    if (cached == null) {
+                        try (InputStream inputStream = storageInterface.get(tenantId, uri(namespace, f))) {
+                            cached = localFileCache.put(version, inputStream);
+                        }
+                    }
+
+                    this.materialize(cached, destination);
+                } catch (NoSuchFileException e) {
+                    // the mirrored file was evicted in the meantime
+                    this.download(tenantId, namespace, f, destination);
                 }
             }));
     }
+
+    private void materialize(Path cached, Path destination) throws IOException {
+        if (hardlink) {
+            // a linked file is shared with the other working directories, so it must not be updated in place
+            //noinspection ResultOfMethodCallIgnored
+            cached.toFile().setReadOnly();
+
+            try {
+                Files.deleteIfExists(destination);
+                Files.createLink(destination, cached);
+
+                return;
+            } catch (NoSuchFileException e) {
+                throw e;
+            } catch (IOException | UnsupportedOperationException e) {
+                log.debug("Unable to link the namespace file {}, copying it", destination, e);
+            }
+        }
+
+        Files.copy(cached, destination, REPLACE_EXISTING);
+    }
+
+    private void download(String tenantId, String namespace, URI file, Path destination) throws IOException {
+        try (InputStream inputStream = storageInterface.get(tenantId, uri(namespace, file))) {
+            Files.copy(inputStream, destination, REPLACE_EXISTING);
+        }
+    }
 }
@@ -18,9 +18,11 @@ import io.kestra.core.models.triggers.TriggerContext;
 import io.kestra.core.queues.QueueFactoryInterface;
 import io.kestra.core.queues.QueueInterface;
 import io.kestra.core.storages.StorageInterface;
+import io.kestra.core.storages.StorageRange;
 import io.kestra.core.utils.IdUtils;
 import io.kestra.core.utils.Slugify;
 import io.micronaut.context.ApplicationContext;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.inject.qualifiers.Qualifiers;
 import lombok.NoArgsConstructor;
 import org.apache.commons.io.FileUtils;
@@ -29,6 +31,7 @@ import org.apache.commons.lang3.StringUtils;
 
 import java.io.*;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
@@ -509,7 +512,7 @@ public class RunContext {
         }
 
         if (uri.getScheme().equals("kestra")) {
-            return this.storageInterface.get(tenantId(), uri);
+            return StorageRange.get(this.storageInterface, tenantId(), uri);
         }
 
         throw new IllegalArgumentException("Invalid internal storage scheme, got uri '" + uri + "'");
@@ -658,12 +661,38 @@ public class RunContext {
      * @return an Optional with the cache input stream or empty.
      */
     public Optional<InputStream> getTaskCacheFile(String namespace, String flowId, String taskId, String value) throws IOException {
-        URI uri = URI.create("/" + this.storageInterface.cachePrefix(namespace, flowId, taskId, value) + "/cache.zip");
+        Optional<String> hash = this.getTaskCacheFileHash(namespace, flowId, taskId, value);
+        if (hash.isPresent()) {
+            return this.getTaskCacheFile(namespace, flowId, taskId, value, hash.get());
+        }
+
+        // a cache put before the archives were named by their hash
+        URI uri = this.taskCacheFileUri(namespace, flowId, taskId, value, null);
         return this.storageInterface.exists(tenantId(), uri) ? Optional.of(this.storageInterface.get(tenantId(), uri)) : Optional.empty();
     }
 
+    /**
+     * Get from the internal storage the cache file of a content hash corresponding to this task.
+     * If the cache file didn't exist, for example replaced since the hash was read, an empty Optional is returned.
+     *
+     * @param namespace the flow namespace
+     * @param flowId the flow identifier
+     * @param taskId the task identifier
+     * @param value optional, the task run value
+     * @param hash the content hash of the cache file
+     *
+     * @return an Optional with the cache input stream or empty.
+     */
+    public Optional<InputStream> getTaskCacheFile(String namespace, String flowId, String taskId, String value, String hash) throws IOException {
+        try {
+            return Optional.of(this.storageInterface.get(tenantId(), this.taskCacheFileUri(namespace, flowId, taskId, value, hash)));
+        } catch (FileNotFoundException e) {
+            return Optional.empty();
+        }
+    }
+
     public Optional<Long> getTaskCacheFileLastModifiedTime(String namespace, String flowId, String taskId, String value) throws IOException {
-        URI uri = URI.create("/" + this.storageInterface.cachePrefix(namespace, flowId, taskId, value) + "/cache.zip");
+        URI uri = this.taskCacheFileUri(namespace, flowId, taskId, value, this.getTaskCacheFileHash(namespace, flowId, taskId, value).orElse(null));
         return this.storageInterface.exists(tenantId(), uri) ? Optional.of(this.storageInterface.getAttributes(tenantId(), uri).getLastModifiedTime()) : Optional.empty();
     }
 
@@ -679,6 +708,9 @@ public class RunContext {
      * @return the URI of the file inside the internal storage.
      */
     public URI putTaskCacheFile(File file, String namespace, String flowId, String taskId, String value) throws IOException {
+        // the hash would point to another archive than this one
+        this.deleteTaskCacheFileHash(namespace, flowId, taskId, value);
+
         return this.putTempFile(
             file,
             "/" + this.storageInterface.cachePrefix(namespace, flowId, taskId, value),
@@ -686,11 +718,86 @@ public class RunContext {
         );
     }
 
+    /**
+     * Put into the internal storage the cache file corresponding to this task, named by the hash of its content.
+     * The hash file is then replaced to point to it, so the hash read always matches the content of the file it
+     * points to, and the previous cache file is deleted.
+     *
+     * @param file the cache as a ZIP archive
+     * @param hash the content hash of the cache
+     * @param namespace the flow namespace
+     * @param flowId the flow identifier
+     * @param taskId the task identifier
+     * @param value optional, the task run value
+     *
+     * @return the URI of the file inside the internal storage.
+     */
+    public URI putTaskCacheFile(File file, String hash, String namespace, String flowId, String taskId, String value) throws IOException {
+        Optional<String> previous = this.getTaskCacheFileHash(namespace, flowId, taskId, value);
+
+        URI uri = this.putTempFile(
+            file,
+            "/" + this.storageInterface.cachePrefix(namespace, flowId, taskId, value),
+            "cache-" + hash + ".zip"
+        );
+
+        this.putTempFile(
+            new ByteArrayInputStream(hash.getBytes(StandardCharsets.UTF_8)),
+            "/" + this.storageInterface.cachePrefix(namespace, flowId, taskId, value),
+            "cache.hash"
+        );
+
+        if (previous.isPresent() && !previous.get().equals(hash)) {
+            this.storageInterface.delete(tenantId(), this.taskCacheFileUri(namespace, flowId, taskId, value, previous.get()));
+        }
+        this.storageInterface.delete(tenantId(), this.taskCacheFileUri(namespace, flowId, taskId, value, null));
+
+        return uri;
+    }
+
     public Optional<Boolean> deleteTaskCacheFile(String namespace, String flowId, String taskId, String value) throws IOException {
-        URI uri = URI.create("/" + this.storageInterface.cachePrefix(namespace, flowId, taskId, value) + "/cache.zip");
+        Optional<String> hash = this.getTaskCacheFileHash(namespace, flowId, taskId, value);
+        this.deleteTaskCacheFileHash(namespace, flowId, taskId, value);
+
+        if (hash.isPresent()) {
+            this.storageInterface.delete(tenantId(), this.taskCacheFileUri(namespace, flowId, taskId, value, null));
+
+            URI uri = this.taskCacheFileUri(namespace, flowId, taskId, value, hash.get());
+            return this.storageInterface.exists(tenantId(), uri) ? Optional.of(this.storageInterface.delete(tenantId(), uri)) : Optional.empty();
+        }
+
+        URI uri = this.taskCacheFileUri(namespace, flowId, taskId, value, null);
         return this.storageInterface.exists(tenantId(), uri) ? Optional.of(this.storageInterface.delete(tenantId(), uri)) : Optional.empty();
     }
 
+    /**
+     * Get the content hash of the cache file corresponding to this task, if the cache file was put with one.
+     * The cache file of this hash is read with {@link #getTaskCacheFile(String, String, String, String, String)}.
+     */
+    public Optional<String> getTaskCacheFileHash(String namespace, String flowId, String taskId, String value) throws IOException {
+        URI uri = URI.create("/" + this.storageInterface.cachePrefix(namespace, flowId, taskId, value) + "/cache.hash");
+        if (!this.storageInterface.exists(tenantId(), uri)) {
+            return Optional.empty();
+        }
+
+        try (InputStream inputStream = this.storageInterface.get(tenantId(), uri)) {
+            return Optional.of(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8).trim());
+        } catch (FileNotFoundException e) {
+            return Optional.empty();
+        }
+    }
+
+    private void deleteTaskCacheFileHash(String namespace, String flowId, String taskId, String value) throws IOException {
+        URI hashUri = URI.create("/" + this.storageInterface.cachePrefix(namespace, flowId, taskId, value) + "/cache.hash");
+        if (this.storageInterface.exists(tenantId(), hashUri)) {
+            this.storageInterface.delete(tenantId(), hashUri);
+        }
+    }
+
+    private URI taskCacheFileUri(String namespace, String flowId, String taskId, String value, @Nullable String hash) {
+        return URI.create("/" + this.storageInterface.cachePrefix(namespace, flowId, taskId, value) + "/" + (hash == null ? "cache.zip" : "cache-" + hash + ".zip"));
+    }
+
     public List<URI> purgeStorageExecution() throws IOException {
         return this.storageInterface.deleteByPrefix(tenantId(), this.storageExecutionPrefix);
     }
@@ -1,5 +1,7 @@
 package io.kestra.core.runners;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.jknack.handlebars.EscapingStrategy;
 import com.github.jknack.handlebars.Handlebars;
 import com.github.jknack.handlebars.HandlebarsException;
@@ -11,6 +13,7 @@ import io.kestra.core.runners.handlebars.helpers.*;
 import io.kestra.core.runners.pebble.ExtensionCustomizer;
 import io.kestra.core.runners.pebble.JsonWriter;
 import io.kestra.core.runners.pebble.PebbleLruCache;
+import io.kestra.core.serializers.JacksonMapper;
 import io.micronaut.context.ApplicationContext;
 import io.micronaut.context.annotation.ConfigurationProperties;
 import io.micronaut.core.annotation.Nullable;
@@ -33,8 +36,14 @@ import java.util.regex.Pattern;
 @Singleton
 public class VariableRenderer {
     private static final Pattern RAW_PATTERN = Pattern.compile("\\{%[-]*\\s*raw\\s*[-]*%\\}(.*?)\\{%[-]*\\s*endraw\\s*[-]*%\\}");
+    private static final Pattern SIMPLE_VARIABLE_PATTERN = Pattern.compile("^\\{\\{\\s*([a-zA-Z_][a-zA-Z0-9_]*(?:\\.[a-zA-Z_][a-zA-Z0-9_]*)*)\\s*}}$");
+    private static final Set<String> RESERVED_NAMES = Set.of("true", "false", "null", "none", "_context");
+    private static final ObjectMapper MAPPER = JacksonMapper.ofJson();
     public static final int MAX_RENDERING_AMOUNT = 100;
 
+    // raw blocks are replaced by stable placeholders so the pre-processed template can hit the template cache
+    private final String rawPlaceholderPrefix = "__kestra_raw_" + UUID.randomUUID().toString().replace("-", "") + "_";
+
     private Handlebars handlebars;
     private PebbleEngine pebbleEngine;
     private final VariableConfiguration variableConfiguration;
@@ -125,14 +134,22 @@ public class VariableRenderer {
     }
 
     public String renderOnce(String inline, Map<String, Object> variables) throws IllegalVariableEvaluationException {
+        Optional<String> simple = this.renderSimpleVariable(inline, variables);
+        if (simple.isPresent()) {
+            return simple.get();
+        }
+
         // pre-process raw tags
-        Matcher rawMatcher = RAW_PATTERN.matcher(inline);
-        Map<String, String> replacers = new HashMap<>((int) Math.ceil(rawMatcher.groupCount() / 0.75));
-        String result = rawMatcher.replaceAll(matchResult -> {
-            var uuid = UUID.randomUUID().toString();
-            replacers.put(uuid, matchResult.group(1));
-            return uuid;
-        });
+        Map<String, String> replacers = new HashMap<>();
+        String result = inline;
+        if (inline.contains("raw")) {
+            Matcher rawMatcher = RAW_PATTERN.matcher(inline);
+            result = rawMatcher.replaceAll(matchResult -> {
+                String placeholder = rawPlaceholderPrefix + replacers.size() + "__";
+                replacers.put(placeholder, matchResult.group(1));
+                return Matcher.quoteReplacement(placeholder);
+            });
+        }
 
         try {
             PebbleTemplate compiledTemplate = this.pebbleEngine.getLiteralTemplate(result);
@@ -169,6 +186,50 @@ public class VariableRenderer {
         return result;
     }
 
+    /**
+     * Fast path for templates that are only a variable path like <code>{{ outputs.task.value }}</code>: the path is
+     * resolved directly against nested maps, without any Pebble parsing.
+     * Anything not trivially resolvable (missing key, null, non map parent, other value types) is left to Pebble so
+     * the rendering and the errors are exactly the same.
+     */
+    @SuppressWarnings("unchecked")
+    private Optional<String> renderSimpleVariable(String inline, Map<String, Object> variables) {
+        if (variables == null || !inline.startsWith("{{") || !inline.endsWith("}}")) {
+            return Optional.empty();
+        }
+
+        Matcher matcher = SIMPLE_VARIABLE_PATTERN.matcher(inline);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+
+        Object current = variables;
+        for (String key : matcher.group(1).split("\\.")) {
+            if (!(current instanceof Map<?, ?> map) || RESERVED_NAMES.contains(key) || !map.containsKey(key)) {
+                return Optional.empty();
+            }
+
+            current = ((Map<String, Object>) map).get(key);
+        }
+
+        if (current instanceof String || current instanceof Integer || current instanceof Long ||
+            current instanceof Double || current instanceof Float || current instanceof Short ||
+            current instanceof Byte || current instanceof Boolean || current instanceof Character
+        ) {
+            return Optional.of(current.toString());
+        }
+
+        if (current instanceof Map || current instanceof Collection) {
+            try {
+                return Optional.of(MAPPER.writeValueAsString(current));
+            } catch (JsonProcessingException e) {
+                return Optional.empty();
+            }
+        }
+
+        return Optional.empty();
+    }
+
     public String renderRecursively(String inline, Map<String, Object> variables) throws IllegalVariableEvaluationException {
         return this.renderRecursively(0, inline, variables);
     }
@@ -71,6 +71,11 @@ public class Worker implements Runnable, AutoCloseable {
     // package private to allow its usage within tests
     final ExecutorService executors;
 
+    private final int thread;
+
+    // jobs received and not ended yet, including the ones waiting for a thread
+    private final AtomicInteger pendingJobs = new AtomicInteger();
+
     @Getter
     private final Map<Long, AtomicInteger> metricRunningCount = new ConcurrentHashMap<>();
 
@@ -104,6 +109,7 @@ public class Worker implements Runnable, AutoCloseable {
             Qualifiers.byName(QueueFactoryInterface.METRIC_QUEUE)
         );
         this.metricRegistry = applicationContext.getBean(MetricRegistry.class);
+        this.thread = thread;
 
         ExecutorsUtils executorsUtils = applicationContext.getBean(ExecutorsUtils.class);
         this.executors = executorsUtils.maxCachedThreadPool(thread, "worker");
@@ -131,26 +137,40 @@ public class Worker implements Runnable, AutoCloseable {
         this.workerJobQueue.receive(
             this.workerGroup,
             Worker.class,
+            this::freeSlots,
             either -> {
+                pendingJobs.incrementAndGet();
+
                 executors.execute(() -> {
-                    if (either.isRight()) {
-                        log.error("Unable to deserialize a worker job: {}", either.getRight().getMessage());
-                        handleDeserializationError(either.getRight());
-                        return;
-                    }
+                    try {
+                        if (either.isRight()) {
+                            log.error("Unable to deserialize a worker job: {}", either.getRight().getMessage());
+                            handleDeserializationError(either.getRight());
+                            return;
+                        }
 
-                    WorkerJob workerTask = either.getLeft();
-                    if (workerTask instanceof WorkerTask task) {
-                        handleTask(task);
-                    }
-                    else if (workerTask instanceof WorkerTrigger trigger) {
-                        handleTrigger(trigger);
+                        WorkerJob workerTask = either.getLeft();
+                        if (workerTask instanceof WorkerTask task) {
+                            handleTask(task);
+                        }
+                        else if (workerTask instanceof WorkerTrigger trigger) {
+                            handleTrigger(trigger);
+                        }
+                    } finally {
+                        pendingJobs.decrementAndGet();
                     }
                 });
             }
         );
     }
 
+    /**
+     * The number of jobs this worker can start right now, so it only claims the jobs it can run.
+     */
+    private int freeSlots() {
+        return Math.max(0, this.thread - pendingJobs.get());
+    }
+
     private void handleDeserializationError(DeserializationException deserializationException) {
         if (deserializationException.getRecord() != null) {
             try {
@@ -1,6 +1,7 @@
 package io.kestra.core.runners.pebble.functions;
 
 import io.kestra.core.storages.StorageInterface;
+import io.kestra.core.storages.StorageRange;
 import io.kestra.core.utils.Slugify;
 import io.pebbletemplates.pebble.error.PebbleException;
 import io.pebbletemplates.pebble.extension.Function;
@@ -73,7 +74,7 @@ public class ReadFileFunction implements Function {
             }
         }
         URI internalStorageFile = URI.create(path);
-        try (InputStream inputStream = storageInterface.get(flow.get("tenantId"), internalStorageFile)) {
+        try (InputStream inputStream = StorageRange.get(storageInterface, flow.get("tenantId"), internalStorageFile)) {
             return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
         }
     }
@@ -53,7 +53,7 @@ public abstract class AbstractScheduler implements Scheduler {
     private final RunContextFactory runContextFactory;
     private final MetricRegistry metricRegistry;
     private final ConditionService conditionService;
-    private final TaskDefaultService taskDefaultService;
+    private final CompiledFlowCache compiledFlowCache;
     private final WorkerGroupService workerGroupService;
     protected Boolean isReady = false;
 
@@ -71,6 +71,11 @@ public abstract class AbstractScheduler implements Scheduler {
     @Getter
     private volatile Map<String, FlowWithPollingTriggerNextDate> schedulableNextDate = new ConcurrentHashMap<>();
 
+    static final Duration MAX_SCHEDULE_DEFERRAL = Duration.ofMinutes(1);
+
+    // schedulable triggers ordered by the next date they need to be looked at, only accessed while synchronized on this
+    private final PriorityQueue<DueTrigger> dueTriggers = new PriorityQueue<>(Comparator.comparing(DueTrigger::date));
+
     @SuppressWarnings("unchecked")
     @Inject
     public AbstractScheduler(
@@ -86,7 +91,7 @@ public abstract class AbstractScheduler implements Scheduler {
         this.runContextFactory = applicationContext.getBean(RunContextFactory.class);
         this.metricRegistry = applicationContext.getBean(MetricRegistry.class);
         this.conditionService = applicationContext.getBean(ConditionService.class);
-        this.taskDefaultService = applicationContext.getBean(TaskDefaultService.class);
+        this.compiledFlowCache = applicationContext.getBean(CompiledFlowCache.class);
         this.workerGroupService = applicationContext.getBean(WorkerGroupService.class);
     }
 
@@ -124,6 +129,8 @@ public abstract class AbstractScheduler implements Scheduler {
 
         // remove trigger on flow update
         this.flowListeners.listen((flow, previous) -> {
+            compiledFlowCache.invalidate(flow);
+
             synchronized (triggerStateSavedLock) {
                 if (flow.isDeleted()) {
                     ListUtils.emptyOnNull(flow.getTriggers())
@@ -203,6 +210,61 @@ public abstract class AbstractScheduler implements Scheduler {
                 })
             )
             .toList();
+
+        // keep the due date of unchanged triggers, new flow revisions are looked at on the next loop
+        Map<String, Instant> previousDates = new HashMap<>();
+        this.dueTriggers.forEach(dueTrigger -> previousDates.put(dueTrigger.key(), dueTrigger.date()));
+
+        this.dueTriggers.clear();
+        this.schedulable.forEach(flowWithTrigger -> {
+            String key = dueKey(flowWithTrigger);
+            this.dueTriggers.add(new DueTrigger(previousDates.getOrDefault(key, Instant.EPOCH), key, flowWithTrigger));
+        });
+    }
+
+    private static String dueKey(FlowWithTrigger flowWithTrigger) {
+        return flowWithTrigger.getFlow().uid() + "_" + flowWithTrigger.getTrigger().getId();
+    }
+
+    /**
+     * Remove from the queue the schedulable triggers that need to be looked at for the given date.
+     */
+    private List<FlowWithTrigger> pollDueTriggers(ZonedDateTime now) {
+        List<FlowWithTrigger> due = new ArrayList<>();
+
+        while (!this.dueTriggers.isEmpty() && !this.dueTriggers.peek().date().isAfter(now.toInstant())) {
+            due.add(this.dueTriggers.poll().flowWithTrigger());
+        }
+
+        return due;
+    }
+
+    /**
+     * The date a Schedule must be looked at again, its next date unless before the given due date, capped so trigger
+     * state updated from elsewhere (backfill, reset, ...) is still seen quickly.
+     */
+    static Instant deferredDueDate(ZonedDateTime now, Instant dueDate, ZonedDateTime next) {
+        Instant maxNextDate = now.plus(MAX_SCHEDULE_DEFERRAL).toInstant();
+        Instant nextDate = next.toInstant();
+
+        if (nextDate.isAfter(maxNextDate)) {
+            return maxNextDate;
+        }
+
+        return nextDate.isAfter(dueDate) ? nextDate : dueDate;
+    }
+
+    /**
+     * The date a schedulable trigger will be looked at again.
+     */
+    synchronized Optional<Instant> dueDate(Flow flow, String triggerId) {
+        String key = flow.uid() + "_" + triggerId;
+
+        return this.dueTriggers
+            .stream()
+            .filter(dueTrigger -> dueTrigger.key().equals(key))
+            .map(DueTrigger::date)
+            .findFirst();
     }
 
     private void handle() {
@@ -226,8 +288,13 @@ public abstract class AbstractScheduler implements Scheduler {
         }
 
         synchronized (this) {
+            // only the triggers due for this loop are looked at, by default they will be looked at again on the next loop
+            List<FlowWithTrigger> due = this.pollDueTriggers(now);
+            Map<String, Instant> nextDates = new HashMap<>();
+            due.forEach(flowWithTrigger -> nextDates.put(dueKey(flowWithTrigger), now.plusSeconds(1).toInstant()));
+
             // get all triggers that are ready from evaluation
-            List<FlowWithPollingTriggerNextDate> readyForEvaluate = schedulable
+            List<FlowWithPollingTriggerNextDate> readyForEvaluate = due
                 .stream()
                 .filter(f -> conditionService.isValid(f.getFlow(), f.getTrigger(), f.getConditionContext()))
                 .map(flowWithTrigger -> FlowWithPollingTrigger.builder()
@@ -280,6 +347,19 @@ public abstract class AbstractScheduler implements Scheduler {
                 .counter(MetricRegistry.SCHEDULER_EVALUATE_COUNT)
                 .increment(readyForEvaluate.size());
 
+            // a Schedule will not trigger anything before its next date, we don't need to look at it until then
+            readyForEvaluate
+                .stream()
+                .filter(f -> f.getPollingTrigger().getInterval() == null && f.getNext() != null)
+                .forEach(f -> nextDates.computeIfPresent(
+                    f.getFlow().uid() + "_" + f.getTrigger().getId(),
+                    (key, date) -> deferredDueDate(now, date, f.getNext())
+                ));
+
+            due.forEach(flowWithTrigger -> {
+                String key = dueKey(flowWithTrigger);
+                this.dueTriggers.add(new DueTrigger(nextDates.get(key), key, flowWithTrigger));
+            });
 
             // submit ready one to the worker
             readyForEvaluate
@@ -523,7 +603,7 @@ public abstract class AbstractScheduler implements Scheduler {
 
     private SchedulerExecutionWithTrigger evaluateScheduleTrigger(FlowWithPollingTrigger flowWithTrigger) {
         try {
-            FlowWithPollingTrigger flowWithPollingTrigger = flowWithTrigger.from(taskDefaultService.injectDefaults(
+            FlowWithPollingTrigger flowWithPollingTrigger = flowWithTrigger.from(compiledFlowCache.injectDefaults(
                 flowWithTrigger.getFlow(),
                 flowWithTrigger.getConditionContext().getRunContext().logger()
             ));
@@ -584,7 +664,7 @@ public abstract class AbstractScheduler implements Scheduler {
 
     private void sendPollingTriggerToWorker(FlowWithPollingTrigger flowWithTrigger) throws InternalException {
         FlowWithPollingTrigger flowWithTriggerWithDefault = flowWithTrigger.from(
-            taskDefaultService.injectDefaults(flowWithTrigger.getFlow(),
+            compiledFlowCache.injectDefaults(flowWithTrigger.getFlow(),
                 flowWithTrigger.getConditionContext().getRunContext().logger())
         );
 
@@ -664,6 +744,8 @@ public abstract class AbstractScheduler implements Scheduler {
         }
     }
 
+    private record DueTrigger(Instant date, String key, FlowWithTrigger flowWithTrigger) {}
+
     @AllArgsConstructor
     @Getter
     public static class FlowWithTrigger {
@@ -3,27 +3,105 @@ package io.kestra.core.serializers;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.reactivex.FlowableOnSubscribe;
 
-import java.io.BufferedReader;
-import java.io.IOException;
-import java.io.OutputStream;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.function.Consumer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
 
+/**
+ * Serialize rows to the internal storage files.
+ * Two formats are supported:
+ * <ul>
+ *     <li>the default one: one Ion text value per line</li>
+ *     <li>a binary one: a {@link #BINARY_HEADER} followed by deflated blocks of length-prefixed Ion binary values,
+ *     each block starting with its rows count and lengths so it can be skipped without being decompressed.
+ *     As the header is allowed between blocks, binary files can be concatenated as is.</li>
+ * </ul>
+ * The readers taking an {@link InputStream} detect the format from the file header.
+ */
 abstract public class FileSerde {
     private static final ObjectMapper MAPPER = JacksonMapper.ofIon()
         .setSerializationInclusion(JsonInclude.Include.ALWAYS);
 
+    private static final ObjectMapper BINARY_MAPPER = JacksonMapper.ofIonBinary();
+
     private static final TypeReference<Object> TYPE_REFERENCE = new TypeReference<>(){};
 
+    private static final JavaType OBJECT_TYPE = BINARY_MAPPER.constructType(Object.class);
+
+    private static final byte[] NEW_LINE = "\n".getBytes();
+
+    // 0xFF is never valid in an UTF-8 text file and makes the header a negative int, so never a valid rows count
+    public static final byte[] BINARY_HEADER = new byte[]{(byte) 0xFF, 'K', 'B', '1'};
+
+    private static final int BINARY_HEADER_INT = ByteBuffer.wrap(BINARY_HEADER).getInt();
+
+    static final int BLOCK_MAX_ROWS = 1000;
+
+    static final int BLOCK_MAX_BYTES = 1024 * 1024;
+
     public static void write(OutputStream output, Object row) throws IOException {
         if (row != null) { // avoid writing "null"
             output.write(MAPPER.writeValueAsBytes(row));
-            output.write("\n".getBytes());
+            output.write(NEW_LINE);
         }
     }
 
+    /**
+     * Create a writer for the binary format, the header is written immediately.
+     * The writer must be closed to write the last block, closing it will not close the output.
+     */
+    public static BinaryWriter binaryWriter(OutputStream output) throws IOException {
+        return new BinaryWriter(output);
+    }
+
+    public static BinaryReader binaryReader(InputStream input) {
+        return new BinaryReader(input);
+    }
+
+    /**
+     * Whether the input starts with the binary format header, the input must support mark / reset.
+     */
+    public static boolean isBinary(InputStream input) throws IOException {
+        if (!input.markSupported()) {
+            throw new IllegalArgumentException("The input stream must support mark / reset");
+        }
+
+        input.mark(BINARY_HEADER.length);
+        byte[] header = input.readNBytes(BINARY_HEADER.length);
+        input.reset();
+
+        return Arrays.equals(header, BINARY_HEADER);
+    }
+
+    public static void reader(InputStream input, Consumer<Object> consumer) throws IOException {
+        reader(input, Integer.MAX_VALUE, consumer);
+    }
+
+    /**
+     * Read at most maxLines rows whatever the format of the input.
+     *
+     * @return true if the input has more rows than maxLines
+     */
+    public static boolean reader(InputStream input, int maxLines, Consumer<Object> consumer) throws IOException {
+        InputStream buffered = input.markSupported() ? input : new BufferedInputStream(input);
+
+        if (isBinary(buffered)) {
+            try (BinaryReader reader = binaryReader(buffered)) {
+                return reader.read(maxLines, consumer);
+            }
+        }
+
+        return reader(new BufferedReader(new InputStreamReader(buffered)), maxLines, consumer);
+    }
+
     public static FlowableOnSubscribe<Object> reader(BufferedReader input) {
         return s -> {
             String row;
@@ -77,4 +155,231 @@ abstract public class FileSerde {
     private static <T> T convert(String row, Class<T> cls) throws JsonProcessingException {
         return MAPPER.readValue(row, cls);
     }
+
+    public static class BinaryWriter implements Closeable {
+        private final DataOutputStream output;
+        private final ByteArrayOutputStream block = new ByteArrayOutputStream();
+        private final DataOutputStream blockOutput = new DataOutputStream(block);
+        private final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        private final byte[] buffer = new byte[8192];
+        private int rows = 0;
+
+        private BinaryWriter(OutputStream output) throws IOException {
+            this.output = new DataOutputStream(output);
+            this.output.write(BINARY_HEADER);
+        }
+
+        public void write(Object row) throws IOException {
+            if (row == null) { // avoid writing "null"
+                return;
+            }
+
+            byte[] bytes = BINARY_MAPPER.writeValueAsBytes(row);
+            blockOutput.writeInt(bytes.length);
+            blockOutput.write(bytes);
+            rows++;
+
+            if (rows >= BLOCK_MAX_ROWS || block.size() >= BLOCK_MAX_BYTES) {
+                this.flushBlock();
+            }
+        }
+
+        private void flushBlock() throws IOException {
+            if (rows == 0) {
+                return;
+            }
+
+            byte[] uncompressed = block.toByteArray();
+
+            deflater.reset();
+            deflater.setInput(uncompressed);
+            deflater.finish();
+
+            compressed.reset();
+            while (!deflater.finished()) {
+                int length = deflater.deflate(buffer);
+                compressed.write(buffer, 0, length);
+            }
+
+            output.writeInt(rows);
+            output.writeInt(compressed.size());
+            output.writeInt(uncompressed.length);
+            compressed.writeTo(output);
+
+            block.reset();
+            rows = 0;
+        }
+
+        /**
+         * Copy the next block of the reader as is, without decompressing it.
+         *
+         * @return the number of rows copied, -1 if there is no more block
+         */
+        public int copyBlock(BinaryReader reader) throws IOException {
+            this.flushBlock();
+
+            return reader.copyBlock(output);
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.flushBlock();
+            output.flush();
+            deflater.end();
+        }
+    }
+
+    public static class BinaryReader implements Closeable {
+        private final DataInputStream input;
+        private final Inflater inflater = new Inflater();
+
+        private BinaryReader(InputStream input) {
+            this.input = new DataInputStream(input);
+        }
+
+        private BlockHeader nextBlockHeader() throws IOException {
+            while (true) {
+                int rows;
+                try {
+                    rows = input.readInt();
+                } catch (EOFException e) {
+                    return null;
+                }
+
+                // a header between blocks, the file is a concatenation of binary files
+                if (rows == BINARY_HEADER_INT) {
+                    continue;
+                }
+
+                return new BlockHeader(rows, input.readInt(), input.readInt());
+            }
+        }
+
+        /**
+         * Skip the next block without decompressing it.
+         *
+         * @return the number of rows skipped, -1 if there is no more block
+         */
+        public int skipBlock() throws IOException {
+            BlockHeader header = this.nextBlockHeader();
+            if (header == null) {
+                return -1;
+            }
+
+            input.skipNBytes(header.compressedLength());
+
+            return header.rows();
+        }
+
+        private int copyBlock(DataOutputStream output) throws IOException {
+            BlockHeader header = this.nextBlockHeader();
+            if (header == null) {
+                return -1;
+            }
+
+            output.writeInt(header.rows());
+            output.writeInt(header.compressedLength());
+            output.writeInt(header.length());
+            output.write(input.readNBytes(header.compressedLength()));
+
+            return header.rows();
+        }
+
+        /**
+         * Read all the rows of the next block.
+         *
+         * @return the number of rows read, -1 if there is no more block
+         */
+        public int readBlock(Consumer<Object> consumer) throws IOException {
+            BlockHeader header = this.nextBlockHeader();
+            if (header == null) {
+                return -1;
+            }
+
+            return this.readRows(header, header.rows(), OBJECT_TYPE, consumer);
+        }
+
+        /**
+         * Read all the rows of the next block as instances of a class.
+         *
+         * @return the number of rows read, -1 if there is no more block
+         */
+        public <T> int readBlock(Class<T> cls, Consumer<T> consumer) throws IOException {
+            BlockHeader header = this.nextBlockHeader();
+            if (header == null) {
+                return -1;
+            }
+
+            return this.readRows(header, header.rows(), BINARY_MAPPER.constructType(cls), consumer);
+        }
+
+        /**
+         * Read at most maxRows rows.
+         *
+         * @return true if the input has more rows than maxRows
+         */
+        public boolean read(int maxRows, Consumer<Object> consumer) throws IOException {
+            int remaining = maxRows;
+            BlockHeader header;
+
+            while ((header = this.nextBlockHeader()) != null) {
+                if (remaining == 0) {
+                    return true;
+                }
+
+                int read = this.readRows(header, remaining, OBJECT_TYPE, consumer);
+                if (read < header.rows()) {
+                    return true;
+                }
+
+                remaining -= read;
+            }
+
+            return false;
+        }
+
+        private <T> int readRows(BlockHeader header, int maxRows, JavaType type, Consumer<T> consumer) throws IOException {
+            ByteBuffer block = ByteBuffer.wrap(this.inflate(header));
+            int rows = Math.min(header.rows(), maxRows);
+
+            for (int i = 0; i < rows; i++) {
+                int length = block.getInt();
+                consumer.accept(BINARY_MAPPER.readValue(block.array(), block.position(), length, type));
+                block.position(block.position() + length);
+            }
+
+            return rows;
+        }
+
+        private byte[] inflate(BlockHeader header) throws IOException {
+            byte[] compressed = input.readNBytes(header.compressedLength());
+            byte[] uncompressed = new byte[header.length()];
+
+            inflater.reset();
+            inflater.setInput(compressed);
+
+            try {
+                int offset = 0;
+                while (offset < uncompressed.length && !inflater.finished()) {
+                    offset += inflater.inflate(uncompressed, offset, uncompressed.length - offset);
+                }
+
+                if (offset != uncompressed.length) {
+                    throw new EOFException("Truncated block, expected " + uncompressed.length + " bytes but got " + offset);
+                }
+            } catch (DataFormatException e) {
+                throw new IOException("Invalid block", e);
+            }
+
+            return uncompressed;
+        }
+
+        @Override
+        public void close() {
+            inflater.end();
+        }
+
+        private record BlockHeader(int rows, int compressedLength, int length) {}
+    }
 }
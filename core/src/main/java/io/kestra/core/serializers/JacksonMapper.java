@@ -108,6 +108,17 @@ abstract public class JacksonMapper {
         return ION_MAPPER;
     }
 
+    private static final ObjectMapper ION_BINARY_MAPPER = JacksonMapper
+        .configure(
+            new IonObjectMapper(IonFactory.binary())
+        )
+        .registerModule(new IonModule())
+        .setSerializationInclusion(JsonInclude.Include.ALWAYS);
+
+    public static ObjectMapper ofIonBinary() {
+        return ION_BINARY_MAPPER;
+    }
+
     private static ObjectMapper configure(ObjectMapper mapper) {
         // unit test can be not init
         if (KestraClassLoader.isInit()) {
@@ -1,6 +1,7 @@
 package io.kestra.core.serializers.ion;
 
 import com.amazon.ion.IonReader;
+import com.amazon.ion.IonSystem;
 import com.amazon.ion.IonWriter;
 import com.amazon.ion.system.IonSystemBuilder;
 import com.fasterxml.jackson.core.JsonParser;
@@ -13,9 +14,25 @@ import java.io.Reader;
 public class IonFactory extends com.fasterxml.jackson.dataformat.ion.IonFactory {
     private static final long serialVersionUID = 1L;
 
+    // the Ion system is thread-safe, no need to build one for each parser
+    private static final IonSystem ION_SYSTEM = IonSystemBuilder.standard().build();
+
+    public static IonFactory binary() {
+        IonFactory factory = new IonFactory();
+        factory.setCreateBinaryWriters(true);
+
+        return factory;
+    }
+
     @Override
     protected JsonParser _createParser(Reader r, IOContext ctxt) throws IOException {
-        IonReader ionReader = IonSystemBuilder.standard().build().newReader(r);
+        IonReader ionReader = ION_SYSTEM.newReader(r);
+        return new IonParser(ionReader, ctxt);
+    }
+
+    @Override
+    protected JsonParser _createParser(byte[] data, int offset, int len, IOContext ctxt) throws IOException {
+        IonReader ionReader = ION_SYSTEM.newReader(data, offset, len);
         return new IonParser(ionReader, ctxt);
     }
 
@@ -3,7 +3,6 @@ package io.kestra.core.services;
 import io.kestra.core.models.conditions.types.MultipleCondition;
 import io.kestra.core.models.executions.Execution;
 import io.kestra.core.models.flows.Flow;
-import io.kestra.core.models.flows.FlowWithException;
 import io.kestra.core.models.triggers.AbstractTrigger;
 import io.kestra.core.models.triggers.multipleflows.MultipleConditionStorageInterface;
 import io.kestra.core.models.triggers.multipleflows.MultipleConditionWindow;
@@ -28,6 +27,9 @@ public abstract class AbstractFlowTriggerService {
     @Inject
     private FlowService flowService;
 
+    // rebuilt each time the list of flows changes, the flow listeners share a new list on each flow update
+    private volatile FlowTriggerIndex flowTriggerIndex;
+
     public Stream<FlowWithFlowTrigger> withFlowTriggersOnly(Stream<Flow> allFlows) {
         return allFlows
             .filter(flow -> !flow.isDisabled())
@@ -44,14 +46,13 @@ public abstract class AbstractFlowTriggerService {
     }
 
     public List<Execution> computeExecutionsFromFlowTriggers(Execution execution, List<Flow> allFlows, Optional<MultipleConditionStorageInterface> multipleConditionStorage) {
-        List<FlowWithFlowTrigger> validTriggersBeforeMultipleConditionEval = allFlows.stream()
+        // only the enabled triggers whose execution namespace, flow and state conditions can match
+        List<FlowWithFlowTrigger> validTriggersBeforeMultipleConditionEval = this.flowTriggerIndex(allFlows)
+            .candidates(execution)
+            .stream()
             // prevent recursive flow triggers
-            .filter(flow -> flowService.removeUnwanted(flow, execution))
-            // ensure flow & triggers are enabled
-            .filter(flow -> !flow.isDisabled() && !(flow instanceof FlowWithException))
-            .filter(flow -> flow.getTriggers() != null && !flow.getTriggers().isEmpty())
+            .filter(flowWithFlowTrigger -> flowService.removeUnwanted(flowWithFlowTrigger.getFlow(), execution))
             // validate flow triggers conditions excluding multiple conditions
-            .flatMap(flow -> flowTriggers(flow).map(trigger -> new FlowWithFlowTrigger(flow, trigger)))
             .filter(flowWithFlowTrigger -> conditionService.valid(
                 flowWithFlowTrigger.getFlow(),
                 Optional.ofNullable(flowWithFlowTrigger.getTrigger().getConditions()).stream().flatMap(Collection::stream)
@@ -137,6 +138,23 @@ public abstract class AbstractFlowTriggerService {
         return executions;
     }
 
+    private FlowTriggerIndex flowTriggerIndex(List<Flow> allFlows) {
+        FlowTriggerIndex index = this.flowTriggerIndex;
+
+        if (index == null || !index.isFor(allFlows)) {
+            synchronized (this) {
+                index = this.flowTriggerIndex;
+
+                if (index == null || !index.isFor(allFlows)) {
+                    index = FlowTriggerIndex.of(allFlows, index, this::flowTriggers);
+                    this.flowTriggerIndex = index;
+                }
+            }
+        }
+
+        return index;
+    }
+
     @AllArgsConstructor
     @Getter
     @ToString
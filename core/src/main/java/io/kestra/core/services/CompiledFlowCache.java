@@ -0,0 +1,86 @@
+package io.kestra.core.services;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.flows.Flow;
+import io.kestra.core.models.flows.FlowWithException;
+import io.kestra.core.tasks.flows.Template;
+import io.micronaut.context.annotation.Value;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Keep the flows with their task defaults injected by revision, as a revision is never updated, so the executor and
+ * the scheduler don't serialize and parse the flow again for each message.
+ * The flows using templates are not cached as the templates can be updated without a new revision of the flow.
+ */
+@Singleton
+public class CompiledFlowCache {
+    private final TaskDefaultService taskDefaultService;
+    private final Cache<String, Flow> cache;
+
+    @Inject
+    public CompiledFlowCache(
+        TaskDefaultService taskDefaultService,
+        @Value("${kestra.flow.compiled-cache.maximum-size:1000}") int maximumSize,
+        @Value("${kestra.flow.compiled-cache.expire-after-access:1h}") Duration expireAfterAccess
+    ) {
+        this.taskDefaultService = taskDefaultService;
+        this.cache = CacheBuilder.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterAccess(expireAfterAccess)
+            .build();
+    }
+
+    public Flow injectDefaults(Flow flow, Execution execution) {
+        return this.get(flow, () -> taskDefaultService.injectDefaults(flow, execution));
+    }
+
+    public Flow injectDefaults(Flow flow, Logger logger) {
+        return this.get(flow, () -> taskDefaultService.injectDefaults(flow, logger));
+    }
+
+    /**
+     * Remove all the revisions of a flow, to be called on each flow update.
+     */
+    public void invalidate(Flow flow) {
+        String uid = flow.uidWithoutRevision();
+
+        cache.asMap().values().removeIf(cached -> cached.uidWithoutRevision().equals(uid));
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private Flow get(Flow flow, Supplier<Flow> compiler) {
+        if (!isCacheable(flow)) {
+            return compiler.get();
+        }
+
+        Flow compiled = cache.getIfPresent(flow.uid());
+        if (compiled != null) {
+            return compiled;
+        }
+
+        compiled = compiler.get();
+
+        // the defaults injection failed and the flow is returned as is, don't cache it to report the error again
+        if (compiled != flow) {
+            cache.put(flow.uid(), compiled);
+        }
+
+        return compiled;
+    }
+
+    private static boolean isCacheable(Flow flow) {
+        return flow.getRevision() != null &&
+            !(flow instanceof FlowWithException) &&
+            flow.allTasks().noneMatch(task -> task instanceof Template);
+    }
+}
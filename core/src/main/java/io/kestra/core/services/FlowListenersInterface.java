@@ -3,6 +3,8 @@ package io.kestra.core.services;
 import io.kestra.core.models.flows.Flow;
 
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
@@ -14,4 +16,17 @@ public interface FlowListenersInterface {
     void listen(BiConsumer<Flow, Flow> consumer);
 
     List<Flow> flows();
+
+    /**
+     * Find the last version of a flow.
+     */
+    default Optional<Flow> findById(String tenantId, String namespace, String id) {
+        return this.flows()
+            .stream()
+            .filter(flow -> Objects.equals(flow.getTenantId(), tenantId) &&
+                flow.getNamespace().equals(namespace) &&
+                flow.getId().equals(id)
+            )
+            .findFirst();
+    }
 }
@@ -0,0 +1,151 @@
+package io.kestra.core.services;
+
+import io.kestra.core.models.conditions.Condition;
+import io.kestra.core.models.conditions.types.ExecutionFlowCondition;
+import io.kestra.core.models.conditions.types.ExecutionNamespaceCondition;
+import io.kestra.core.models.conditions.types.ExecutionStatusCondition;
+import io.kestra.core.models.conditions.types.MultipleCondition;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.flows.Flow;
+import io.kestra.core.models.flows.FlowWithException;
+import io.kestra.core.models.flows.State;
+import io.kestra.core.utils.ListUtils;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Index the flow triggers of a list of flows by the conditions that only depend on the execution namespace, flow and
+ * state, so only the triggers that can match an execution are evaluated.
+ * The index never evaluates a condition, the candidates must still be validated with all their conditions.
+ */
+class FlowTriggerIndex {
+    private final List<Flow> flows;
+    private final Map<Flow, List<Entry>> entriesByFlow = new IdentityHashMap<>();
+    private final Map<String, List<Entry>> byFlow = new HashMap<>();
+    private final Map<String, List<Entry>> byNamespace = new HashMap<>();
+    private final List<Entry> others = new ArrayList<>();
+
+    private FlowTriggerIndex(List<Flow> flows) {
+        this.flows = flows;
+    }
+
+    /**
+     * Index the flows, the entries of the flows that are still the same instance in the previous index are reused.
+     */
+    static FlowTriggerIndex of(
+        List<Flow> flows,
+        FlowTriggerIndex previous,
+        Function<Flow, Stream<io.kestra.core.models.triggers.types.Flow>> flowTriggers
+    ) {
+        FlowTriggerIndex index = new FlowTriggerIndex(flows);
+
+        int order = 0;
+        for (Flow flow : flows) {
+            List<Entry> entries = previous == null ? null : previous.entriesByFlow.get(flow);
+
+            if (entries == null) {
+                entries = entries(flow, flowTriggers);
+            }
+
+            index.entriesByFlow.put(flow, entries);
+
+            for (Entry entry : entries) {
+                // the order of the flows and their triggers is kept for the candidates
+                Entry ordered = entry.withOrder(order++);
+
+                if (ordered.flowKey() != null) {
+                    index.byFlow.computeIfAbsent(ordered.flowKey(), k -> new ArrayList<>()).add(ordered);
+                } else if (ordered.namespace() != null) {
+                    index.byNamespace.computeIfAbsent(ordered.namespace(), k -> new ArrayList<>()).add(ordered);
+                } else {
+                    index.others.add(ordered);
+                }
+            }
+        }
+
+        return index;
+    }
+
+    boolean isFor(List<Flow> flows) {
+        return this.flows == flows;
+    }
+
+    /**
+     * The triggers that can match the execution, in the order of the flows.
+     */
+    List<AbstractFlowTriggerService.FlowWithFlowTrigger> candidates(Execution execution) {
+        State.Type state = execution.getState().getCurrent();
+
+        return Stream.of(
+                byFlow.getOrDefault(flowKey(execution.getNamespace(), execution.getFlowId()), List.of()),
+                byNamespace.getOrDefault(execution.getNamespace(), List.of()),
+                others
+            )
+            .flatMap(Collection::stream)
+            .filter(entry -> entry.states() == null || entry.states().contains(state))
+            .sorted(Comparator.comparingInt(Entry::order))
+            .map(Entry::flowWithFlowTrigger)
+            .toList();
+    }
+
+    private static List<Entry> entries(Flow flow, Function<Flow, Stream<io.kestra.core.models.triggers.types.Flow>> flowTriggers) {
+        if (flow.isDisabled() || flow instanceof FlowWithException || flow.getTriggers() == null || flow.getTriggers().isEmpty()) {
+            return List.of();
+        }
+
+        return flowTriggers.apply(flow)
+            .map(trigger -> entry(flow, trigger))
+            .toList();
+    }
+
+    private static Entry entry(Flow flow, io.kestra.core.models.triggers.types.Flow trigger) {
+        String flowKey = null;
+        String namespace = null;
+        EnumSet<State.Type> states = null;
+
+        for (Condition condition : ListUtils.emptyOnNull(trigger.getConditions())) {
+            if (condition instanceof MultipleCondition) {
+                continue;
+            }
+
+            if (condition instanceof ExecutionFlowCondition executionFlowCondition) {
+                flowKey = flowKey(executionFlowCondition.getNamespace(), executionFlowCondition.getFlowId());
+            } else if (condition instanceof ExecutionNamespaceCondition executionNamespaceCondition &&
+                (executionNamespaceCondition.getComparison() == null || executionNamespaceCondition.getComparison() == ExecutionNamespaceCondition.Comparison.EQUALS)) {
+                namespace = executionNamespaceCondition.getNamespace();
+            } else if (condition instanceof ExecutionStatusCondition executionStatusCondition) {
+                if (states == null) {
+                    states = EnumSet.allOf(State.Type.class);
+                }
+
+                if (executionStatusCondition.getIn() != null) {
+                    states.retainAll(executionStatusCondition.getIn());
+                }
+
+                if (executionStatusCondition.getNotIn() != null) {
+                    executionStatusCondition.getNotIn().forEach(states::remove);
+                }
+            }
+        }
+
+        return new Entry(0, new AbstractFlowTriggerService.FlowWithFlowTrigger(flow, trigger), flowKey, namespace, states);
+    }
+
+    private static String flowKey(String namespace, String flowId) {
+        return namespace + "/" + flowId;
+    }
+
+    private record Entry(
+        int order,
+        AbstractFlowTriggerService.FlowWithFlowTrigger flowWithFlowTrigger,
+        String flowKey,
+        String namespace,
+        EnumSet<State.Type> states
+    ) {
+        Entry withOrder(int order) {
+            return new Entry(order, flowWithFlowTrigger, flowKey, namespace, states);
+        }
+    }
+}
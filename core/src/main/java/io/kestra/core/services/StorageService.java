@@ -1,6 +1,9 @@
 package io.kestra.core.services;
 
 import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.FileSerde;
+import io.kestra.core.storages.StorageInterface;
+import io.kestra.core.storages.StorageRange;
 import io.kestra.core.storages.StorageSplitInterface;
 import io.micronaut.core.convert.format.ReadableBytesTypeConverter;
 
@@ -8,10 +11,12 @@ import java.io.*;
 import java.net.URI;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import static io.kestra.core.utils.Rethrow.throwConsumer;
@@ -26,21 +31,24 @@ public abstract class StorageService {
             extension = fromPath.substring(fromPath.lastIndexOf('.'));
         }
 
-        try (BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(runContext.uriToInputStream(from)))) {
-            List<Path> splited;
+        Long maxBytes = maxBytes(storageSplitInterface);
 
-            if (storageSplitInterface.getBytes() != null) {
-                ReadableBytesTypeConverter readableBytesTypeConverter = new ReadableBytesTypeConverter();
-                Number convert = readableBytesTypeConverter.convert(storageSplitInterface.getBytes(), Number.class)
-                    .orElseThrow(() -> new IllegalArgumentException("Invalid size with value '" + storageSplitInterface.getBytes() + "'"));
+        try (InputStream inputStream = new BufferedInputStream(runContext.uriToInputStream(from))) {
+            List<Path> splited;
 
-                splited = StorageService.split(runContext, extension, storageSplitInterface.getSeparator(), bufferedReader, (bytes, size) -> bytes >= convert.longValue());
-            } else if (storageSplitInterface.getPartitions() != null) {
-                splited = StorageService.partition(runContext, extension, storageSplitInterface.getSeparator(), bufferedReader, storageSplitInterface.getPartitions());
-            } else if (storageSplitInterface.getRows() != null) {
-                splited = StorageService.split(runContext, extension, storageSplitInterface.getSeparator(), bufferedReader, (bytes, size) -> size >= storageSplitInterface.getRows());
+            if (FileSerde.isBinary(inputStream)) {
+                splited = StorageService.splitBinary(runContext, extension, storageSplitInterface, maxBytes, inputStream);
             } else {
-                throw new IllegalArgumentException("Invalid configuration with no size, count, nor rows");
+                BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(inputStream));
+                long limit = maxBytes == null ? 0 : maxBytes;
+
+                if (maxBytes != null) {
+                    splited = StorageService.split(runContext, extension, storageSplitInterface.getSeparator(), bufferedReader, (bytes, size) -> bytes >= limit);
+                } else if (storageSplitInterface.getPartitions() != null) {
+                    splited = StorageService.partition(runContext, extension, storageSplitInterface.getSeparator(), bufferedReader, storageSplitInterface.getPartitions());
+                } else {
+                    splited = StorageService.split(runContext, extension, storageSplitInterface.getSeparator(), bufferedReader, (bytes, size) -> size >= storageSplitInterface.getRows());
+                }
             }
 
             return splited
@@ -50,6 +58,184 @@ public abstract class StorageService {
         }
     }
 
+    /**
+     * Whether the file can be split into byte ranges with {@link #ranges(RunContext, StorageSplitInterface, URI, long, int)}:
+     * the ranges of a {@link FileSerde} binary file are not readable by themselves, partitions are not contiguous, and
+     * a storage without ranged reads would read the file again up to each range.
+     */
+    public static boolean isRangeSplittable(RunContext runContext, StorageSplitInterface storageSplitInterface, URI from) throws IOException {
+        if (!runContext.getApplicationContext().getBean(StorageInterface.class).supportsRange()) {
+            return false;
+        }
+
+        if (storageSplitInterface.getBytes() == null && (storageSplitInterface.getPartitions() != null || storageSplitInterface.getRows() == null)) {
+            return false;
+        }
+
+        try (InputStream inputStream = new BufferedInputStream(runContext.uriToInputStream(from))) {
+            return !FileSerde.isBinary(inputStream);
+        }
+    }
+
+    /**
+     * Count the batches of a text file, reading it once without writing anything.
+     */
+    public static int countRanges(RunContext runContext, StorageSplitInterface storageSplitInterface, URI from) throws IOException {
+        int[] count = {0};
+        ranges(runContext, storageSplitInterface, from, 0, Integer.MAX_VALUE, range -> count[0]++);
+
+        return count[0];
+    }
+
+    /**
+     * Compute the batches of a text file as byte ranges of the file instead of writing them in new files. The file is
+     * only read from the offset and until the limit of ranges is reached.
+     * A batch is ended by the separator of its last row, so it contains the rows as they are in the file.
+     */
+    public static List<StorageRange> ranges(RunContext runContext, StorageSplitInterface storageSplitInterface, URI from, long offset, int limit) throws IOException {
+        List<StorageRange> ranges = new ArrayList<>();
+        ranges(runContext, storageSplitInterface, from, offset, limit, ranges::add);
+
+        return ranges;
+    }
+
+    private static void ranges(RunContext runContext, StorageSplitInterface storageSplitInterface, URI from, long offset, int limit, Consumer<StorageRange> consumer) throws IOException {
+        Long maxBytes = maxBytes(storageSplitInterface);
+        Integer maxRows = storageSplitInterface.getRows();
+        if (maxBytes == null && (storageSplitInterface.getPartitions() != null || maxRows == null)) {
+            throw new IllegalArgumentException("Invalid configuration, only splitting by bytes or rows is supported");
+        }
+
+        byte[] separator = storageSplitInterface.getSeparator().getBytes(StandardCharsets.UTF_8);
+        URI range = new StorageRange(offset, Long.MAX_VALUE).apply(from);
+
+        try (InputStream inputStream = new BufferedInputStream(runContext.uriToInputStream(range))) {
+            long position = offset;
+            long start = offset;
+            int rows = 0;
+            int matched = 0;
+            int count = 0;
+            int current;
+
+            while (count < limit && (current = inputStream.read()) >= 0) {
+                position++;
+
+                if (current == (separator[matched] & 0xFF)) {
+                    matched++;
+                } else {
+                    matched = current == (separator[0] & 0xFF) ? 1 : 0;
+                }
+
+                if (matched < separator.length) {
+                    continue;
+                }
+
+                matched = 0;
+                rows++;
+
+                if (maxBytes != null ? position - start >= maxBytes : rows >= maxRows) {
+                    consumer.accept(new StorageRange(start, position));
+                    count++;
+                    start = position;
+                    rows = 0;
+                }
+            }
+
+            // the last row may not be ended by a separator
+            if (count < limit && position > start) {
+                consumer.accept(new StorageRange(start, position));
+            }
+        }
+    }
+
+    private static Long maxBytes(StorageSplitInterface storageSplitInterface) {
+        if (storageSplitInterface.getBytes() != null) {
+            ReadableBytesTypeConverter readableBytesTypeConverter = new ReadableBytesTypeConverter();
+            Number convert = readableBytesTypeConverter.convert(storageSplitInterface.getBytes(), Number.class)
+                .orElseThrow(() -> new IllegalArgumentException("Invalid size with value '" + storageSplitInterface.getBytes() + "'"));
+
+            return convert.longValue();
+        } else if (storageSplitInterface.getPartitions() == null && storageSplitInterface.getRows() == null) {
+            throw new IllegalArgumentException("Invalid configuration with no size, count, nor rows");
+        }
+
+        return null;
+    }
+
+    /**
+     * Split a {@link FileSerde} binary file: blocks are copied as is when splitting by bytes or partitions,
+     * rows are only decoded when splitting by rows count.
+     */
+    private static List<Path> splitBinary(RunContext runContext, String extension, StorageSplitInterface storageSplitInterface, Long maxBytes, InputStream inputStream) throws IOException {
+        List<Path> files = new ArrayList<>();
+        List<FileOutputStream> outputs = new ArrayList<>();
+        List<FileSerde.BinaryWriter> writers = new ArrayList<>();
+
+        try (FileSerde.BinaryReader reader = FileSerde.binaryReader(inputStream)) {
+            if (storageSplitInterface.getPartitions() != null && maxBytes == null) {
+                for (int i = 0; i < storageSplitInterface.getPartitions(); i++) {
+                    newBinaryFile(runContext, extension, files, outputs, writers);
+                }
+
+                int index = 0;
+                while (writers.get(index).copyBlock(reader) >= 0) {
+                    index = index >= writers.size() - 1 ? 0 : index + 1;
+                }
+            } else if (maxBytes != null) {
+                while (true) {
+                    if (writers.isEmpty() || outputs.get(outputs.size() - 1).getChannel().position() >= maxBytes) {
+                        newBinaryFile(runContext, extension, files, outputs, writers);
+                    }
+
+                    if (writers.get(writers.size() - 1).copyBlock(reader) < 0) {
+                        break;
+                    }
+                }
+            } else {
+                int[] totalRows = {0};
+                reader.read(Integer.MAX_VALUE, throwConsumer(row -> {
+                    if (writers.isEmpty() || totalRows[0] >= storageSplitInterface.getRows()) {
+                        newBinaryFile(runContext, extension, files, outputs, writers);
+                        totalRows[0] = 0;
+                    }
+
+                    writers.get(writers.size() - 1).write(row);
+                    totalRows[0]++;
+                }));
+            }
+        } finally {
+            for (int i = 0; i < writers.size(); i++) {
+                writers.get(i).close();
+                outputs.get(i).close();
+            }
+        }
+
+        // partitions that never received a block, and the last file created when splitting by bytes, are header only
+        if (storageSplitInterface.getPartitions() != null || maxBytes != null) {
+            List<Path> empties = files
+                .stream()
+                .filter(path -> path.toFile().length() <= FileSerde.BINARY_HEADER.length)
+                .limit(files.size() - 1)
+                .toList();
+
+            for (Path empty : empties) {
+                Files.delete(empty);
+                files.remove(empty);
+            }
+        }
+
+        return files;
+    }
+
+    private static void newBinaryFile(RunContext runContext, String extension, List<Path> files, List<FileOutputStream> outputs, List<FileSerde.BinaryWriter> writers) throws IOException {
+        Path path = runContext.tempFile(extension);
+        FileOutputStream output = new FileOutputStream(path.toFile());
+
+        files.add(path);
+        outputs.add(output);
+        writers.add(FileSerde.binaryWriter(output));
+    }
+
     private static List<Path> split(RunContext runContext, String extension, String separator, BufferedReader bufferedReader, BiFunction<Integer, Integer, Boolean> predicate) throws IOException {
         List<Path> files = new ArrayList<>();
         RandomAccessFile write = null;
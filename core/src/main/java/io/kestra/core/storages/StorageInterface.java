@@ -2,6 +2,7 @@ package io.kestra.core.storages;
 
 import com.google.common.base.Charsets;
 import com.google.common.hash.Hashing;
+import com.google.common.io.ByteStreams;
 import io.kestra.core.annotations.Retryable;
 import io.kestra.core.models.executions.Execution;
 import io.kestra.core.models.executions.TaskRun;
@@ -30,6 +31,27 @@ public interface StorageInterface {
     @Retryable(includes = {IOException.class}, excludes = {FileNotFoundException.class})
     InputStream get(String tenantId, URI uri) throws IOException;
 
+    /**
+     * Returns at most {@code length} bytes of the object starting at {@code start}.
+     * The default implementation reads and discards the bytes before the range, implementations that can read a range
+     * directly should override it and {@link #supportsRange()}.
+     */
+    @Retryable(includes = {IOException.class}, excludes = {FileNotFoundException.class})
+    default InputStream get(String tenantId, URI uri, long start, long length) throws IOException {
+        InputStream inputStream = get(tenantId, uri);
+        inputStream.skipNBytes(start);
+
+        return ByteStreams.limit(inputStream, length);
+    }
+
+    /**
+     * Whether the storage reads a range without reading the bytes before it, and honors a {@link StorageRange} on the
+     * uris given to {@link #get(String, URI)}. Ranged uris are only created on the storages supporting them.
+     */
+    default boolean supportsRange() {
+        return false;
+    }
+
     /**
      * Returns all objects that start with the given prefix
      * @param includeDirectories whether to include directories in the given results or not. If true, directories' uri will have a trailing '/'
@@ -0,0 +1,74 @@
+package io.kestra.core.storages;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.Optional;
+
+/**
+ * A range of bytes of an internal storage object, referenced with a {@code range} query parameter on the object URI,
+ * e.g. {@code kestra:///io/kestra/tests/flow/executions/id/tasks/task/taskrun/file.txt?range=0-1024}.
+ * The start is inclusive and the end is exclusive.
+ */
+public record StorageRange(long start, long end) {
+    private static final String PARAMETER = "range=";
+
+    public long length() {
+        return this.end - this.start;
+    }
+
+    public URI apply(URI uri) {
+        return URI.create(withoutQuery(uri) + "?" + PARAMETER + this.start + "-" + this.end);
+    }
+
+    public static Optional<StorageRange> of(URI uri) {
+        String query = uri.getQuery();
+        if (query == null || !query.startsWith(PARAMETER)) {
+            return Optional.empty();
+        }
+
+        String[] bounds = query.substring(PARAMETER.length()).split("-", 2);
+        if (bounds.length != 2) {
+            throw new IllegalArgumentException("Invalid range on internal storage uri '" + uri + "'");
+        }
+
+        try {
+            return Optional.of(new StorageRange(Long.parseLong(bounds[0]), Long.parseLong(bounds[1])));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid range on internal storage uri '" + uri + "'", e);
+        }
+    }
+
+    /**
+     * Open the object of an uri, only reading its range if the uri has one.
+     */
+    public static InputStream get(StorageInterface storageInterface, String tenantId, URI uri) throws IOException {
+        Optional<StorageRange> range = StorageRange.of(uri);
+        if (range.isEmpty()) {
+            return storageInterface.get(tenantId, uri);
+        }
+
+        return storageInterface.get(tenantId, URI.create(withoutQuery(uri)), range.get().start(), range.get().length());
+    }
+
+    /**
+     * The size of the object of an uri, only counting its range if the uri has one.
+     */
+    public static long size(StorageInterface storageInterface, String tenantId, URI uri) throws IOException {
+        Optional<StorageRange> range = StorageRange.of(uri);
+        if (range.isEmpty()) {
+            return storageInterface.getAttributes(tenantId, uri).getSize();
+        }
+
+        long size = storageInterface.getAttributes(tenantId, URI.create(withoutQuery(uri))).getSize();
+
+        return Math.max(0, Math.min(range.get().end(), size) - range.get().start());
+    }
+
+    private static String withoutQuery(URI uri) {
+        String value = uri.toString();
+        int query = value.indexOf('?');
+
+        return query < 0 ? value : value.substring(0, query);
+    }
+}
@@ -1,5 +1,6 @@
 package io.kestra.core.tasks.flows;
 
+import io.kestra.core.exceptions.IllegalVariableEvaluationException;
 import io.kestra.core.exceptions.InternalException;
 import io.kestra.core.models.Label;
 import io.kestra.core.models.annotations.Example;
@@ -17,6 +18,7 @@ import io.kestra.core.runners.RunContext;
 import io.kestra.core.runners.SubflowExecution;
 import io.kestra.core.runners.SubflowExecutionResult;
 import io.kestra.core.services.StorageService;
+import io.kestra.core.storages.StorageRange;
 import io.kestra.core.storages.StorageSplitInterface;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
@@ -29,11 +31,13 @@ import lombok.experimental.SuperBuilder;
 import java.io.IOException;
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.NotNull;
 
@@ -175,6 +179,16 @@ public class ForEachItem extends Task implements ExecutableTask<ForEachItem.Outp
     @PluginProperty
     private final Boolean inheritLabels = false;
 
+    @Schema(
+        title = "The maximum number of subflow executions running at the same time.",
+        description = "When set, the items are not split into new files: each batch is a byte range of the items file, and only this number of subflow executions are created at first, the next ones being created as the previous ones terminate. " +
+            "The `taskrun.items` variable is then the URI of the items file with a `range` parameter, it can be read with the `read()` function or by the tasks reading files from Kestra's internal storage. " +
+            "This is only used for text files split by `rows` or `bytes` when `wait` is set to `true`, the items are split into new files otherwise."
+    )
+    @PluginProperty
+    @Min(1)
+    private Integer concurrencyLimit;
+
     @Override
     public List<SubflowExecution<?>> createSubflowExecutions(
         RunContext runContext,
@@ -183,56 +197,28 @@ public class ForEachItem extends Task implements ExecutableTask<ForEachItem.Outp
         Execution currentExecution,
         TaskRun currentTaskRun
     ) throws InternalException {
-        var renderedUri = runContext.render(this.items);
-        if (!renderedUri.startsWith("kestra://")) {
-            var errorMessage = "Unable to split the items from " + renderedUri + ", this is not an internal storage URI!";
-            runContext.logger().error(errorMessage);
-            throw new IllegalArgumentException(errorMessage);
-        }
+        URI from = this.itemsUri(runContext);
 
         try {
-            List<URI> splits = StorageService.split(runContext, this.batch, URI.create(renderedUri));
+            if (this.isWindowed(runContext, from)) {
+                int numberOfBatches = StorageService.countRanges(runContext, this.batch, from);
+                if (numberOfBatches == 0) {
+                    return Collections.emptyList();
+                }
+
+                return this.windowSubflowExecutions(runContext, flowExecutorInterface, currentFlow, currentExecution, currentTaskRun, from, numberOfBatches, 1, 0L, this.concurrencyLimit);
+            }
+
+            List<URI> splits = StorageService.split(runContext, this.batch, from);
 
             AtomicInteger currentIteration = new AtomicInteger(1);
 
+            // these are special outputs to be able to compute iteration map of the parent taskrun
+            var outputs = Output.builder().numberOfBatches(splits.size()).build();
+
             return splits.stream()
                 .<SubflowExecution<?>>map(throwFunction(
-                    split -> {
-                        int iteration = currentIteration.getAndIncrement();
-                        // these are special variable that can be passed to the subflow
-                        Map<String, Object> itemsVariable = Map.of("taskrun",
-                            Map.of("items", split.toString(), "iteration", iteration));
-                        Map<String, Object> inputs = new HashMap<>();
-                        if (this.inputs != null) {
-                            inputs.putAll(runContext.render(this.inputs, itemsVariable));
-                        }
-
-                        List<Label> labels = new ArrayList<>();
-                        if (this.inheritLabels && currentExecution.getLabels() != null && !currentExecution.getLabels().isEmpty()) {
-                            labels.addAll(currentExecution.getLabels());
-                        }
-
-                        if (this.labels != null) {
-                            for (Map.Entry<String, String> entry: this.labels.entrySet()) {
-                                labels.add(new Label(entry.getKey(), runContext.render(entry.getValue())));
-                            }
-                        }
-
-                        // these are special outputs to be able to compute iteration map of the parent taskrun
-                        var outputs = Output.builder().numberOfBatches(splits.size()).build();
-                        return ExecutableUtils.subflowExecution(
-                            runContext,
-                            flowExecutorInterface,
-                            currentExecution,
-                            currentFlow,
-                            this,
-                            currentTaskRun
-                                .withOutputs(outputs.toMap())
-                                .withIteration(iteration),
-                            inputs,
-                            labels
-                        );
-                    }
+                    split -> this.subflowExecution(runContext, flowExecutorInterface, currentFlow, currentExecution, currentTaskRun, split, currentIteration.getAndIncrement(), outputs)
                 ))
                 .toList();
         } catch (IOException e) {
@@ -241,6 +227,130 @@ public class ForEachItem extends Task implements ExecutableTask<ForEachItem.Outp
         }
     }
 
+    /**
+     * Create the next subflow executions when running with a {@link #concurrencyLimit}, up to the number of
+     * executions that terminated since the previous ones were created.
+     * The current taskRun must have the iterations counters computed by the executor, and the outputs of the
+     * previously created subflow executions that hold the next iteration and its offset in the items file.
+     */
+    public List<SubflowExecution<?>> releaseSubflowExecutions(
+        RunContext runContext,
+        FlowExecutorInterface flowExecutorInterface,
+        Flow currentFlow,
+        Execution currentExecution,
+        TaskRun currentTaskRun
+    ) throws InternalException {
+        Map<String, Object> outputs = currentTaskRun.getOutputs();
+        if (this.concurrencyLimit == null || outputs == null || outputs.get("nextIteration") == null) {
+            return Collections.emptyList();
+        }
+
+        int numberOfBatches = ((Number) outputs.get("numberOfBatches")).intValue();
+        int nextIteration = ((Number) outputs.get("nextIteration")).intValue();
+        long nextOffset = ((Number) outputs.get("nextOffset")).longValue();
+
+        @SuppressWarnings("unchecked")
+        Map<String, Integer> iterations = (Map<String, Integer>) outputs.get("iterations");
+        int running = nextIteration - 1 - (iterations == null ? 0 : ExecutableUtils.terminatedIterations(iterations));
+        if (nextIteration > numberOfBatches || running >= this.concurrencyLimit) {
+            return Collections.emptyList();
+        }
+
+        try {
+            return this.windowSubflowExecutions(runContext, flowExecutorInterface, currentFlow, currentExecution, currentTaskRun, this.itemsUri(runContext), numberOfBatches, nextIteration, nextOffset, this.concurrencyLimit - running);
+        } catch (IOException e) {
+            runContext.logger().error(e.getMessage(), e);
+            throw new InternalException(e);
+        }
+    }
+
+    private URI itemsUri(RunContext runContext) throws IllegalVariableEvaluationException {
+        var renderedUri = runContext.render(this.items);
+        if (!renderedUri.startsWith("kestra://")) {
+            var errorMessage = "Unable to split the items from " + renderedUri + ", this is not an internal storage URI!";
+            runContext.logger().error(errorMessage);
+            throw new IllegalArgumentException(errorMessage);
+        }
+
+        return URI.create(renderedUri);
+    }
+
+    private boolean isWindowed(RunContext runContext, URI from) throws IOException {
+        return this.concurrencyLimit != null && this.wait && StorageService.isRangeSplittable(runContext, this.batch, from);
+    }
+
+    private List<SubflowExecution<?>> windowSubflowExecutions(
+        RunContext runContext,
+        FlowExecutorInterface flowExecutorInterface,
+        Flow currentFlow,
+        Execution currentExecution,
+        TaskRun currentTaskRun,
+        URI from,
+        int numberOfBatches,
+        int nextIteration,
+        long nextOffset,
+        int count
+    ) throws IOException, IllegalVariableEvaluationException {
+        List<StorageRange> ranges = StorageService.ranges(runContext, this.batch, from, nextOffset, count);
+
+        // these are special outputs to be able to compute iteration map of the parent taskrun and to create the next subflow executions
+        var outputs = Output.builder()
+            .numberOfBatches(numberOfBatches)
+            .nextIteration(nextIteration + ranges.size())
+            .nextOffset(ranges.isEmpty() ? nextOffset : ranges.get(ranges.size() - 1).end())
+            .build();
+
+        List<SubflowExecution<?>> subflowExecutions = new ArrayList<>();
+        for (int i = 0; i < ranges.size(); i++) {
+            subflowExecutions.add(this.subflowExecution(runContext, flowExecutorInterface, currentFlow, currentExecution, currentTaskRun, ranges.get(i).apply(from), nextIteration + i, outputs));
+        }
+
+        return subflowExecutions;
+    }
+
+    private SubflowExecution<?> subflowExecution(
+        RunContext runContext,
+        FlowExecutorInterface flowExecutorInterface,
+        Flow currentFlow,
+        Execution currentExecution,
+        TaskRun currentTaskRun,
+        URI split,
+        int iteration,
+        Output outputs
+    ) throws IllegalVariableEvaluationException {
+        // these are special variable that can be passed to the subflow
+        Map<String, Object> itemsVariable = Map.of("taskrun",
+            Map.of("items", split.toString(), "iteration", iteration));
+        Map<String, Object> inputs = new HashMap<>();
+        if (this.inputs != null) {
+            inputs.putAll(runContext.render(this.inputs, itemsVariable));
+        }
+
+        List<Label> labels = new ArrayList<>();
+        if (this.inheritLabels && currentExecution.getLabels() != null && !currentExecution.getLabels().isEmpty()) {
+            labels.addAll(currentExecution.getLabels());
+        }
+
+        if (this.labels != null) {
+            for (Map.Entry<String, String> entry: this.labels.entrySet()) {
+                labels.add(new Label(entry.getKey(), runContext.render(entry.getValue())));
+            }
+        }
+
+        return ExecutableUtils.subflowExecution(
+            runContext,
+            flowExecutorInterface,
+            currentExecution,
+            currentFlow,
+            this,
+            currentTaskRun
+                .withOutputs(outputs.toMap())
+                .withIteration(iteration),
+            inputs,
+            labels
+        );
+    }
+
     @Override
     public Optional<SubflowExecutionResult> createSubflowExecutionResult(
         RunContext runContext,
@@ -292,5 +402,15 @@ public class ForEachItem extends Task implements ExecutableTask<ForEachItem.Outp
             title = "The number of batches."
         )
         private final Integer numberOfBatches;
+
+        @Schema(
+            title = "The next iteration to create a subflow execution for, when running with a concurrency limit."
+        )
+        private final Integer nextIteration;
+
+        @Schema(
+            title = "The offset of the next batch in the items file, when running with a concurrency limit."
+        )
+        private final Long nextOffset;
     }
 }
@@ -1,5 +1,8 @@
 package io.kestra.core.tasks.flows;
 
+import com.google.common.hash.Funnels;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 import io.kestra.core.exceptions.IllegalVariableEvaluationException;
 import io.kestra.core.models.annotations.Example;
 import io.kestra.core.models.annotations.Plugin;
@@ -12,6 +15,7 @@ import io.kestra.core.models.tasks.NamespaceFiles;
 import io.kestra.core.models.tasks.NamespaceFilesInterface;
 import io.kestra.core.models.tasks.ResolvedTask;
 import io.kestra.core.models.tasks.Task;
+import io.kestra.core.runners.LocalFileCache;
 import io.kestra.core.runners.NamespaceFilesService;
 import io.kestra.core.runners.RunContext;
 import io.kestra.core.runners.WorkerTask;
@@ -21,10 +25,15 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 
-import java.io.ByteArrayOutputStream;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.FileSystem;
 import java.nio.file.FileSystems;
 import java.nio.file.FileVisitResult;
@@ -33,11 +42,13 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.PathMatcher;
 import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
@@ -192,6 +203,7 @@ public class WorkingDirectory extends Sequential implements NamespaceFilesInterf
         description = """
             When a cache is configured, an archive of the files denoted by the cache configuration is created at the end of the execution of the task and saved in Kestra's internal storage.
             Then at the beginning of the next execution of the task, the archive of the files is retrieved and the working directory initialized with it.
+            The archive is only uploaded again when the content of the files changed, and is kept on the worker so the next executions of the task on the same worker don't download it again.
             """
     )
     @PluginProperty
@@ -203,6 +215,9 @@ public class WorkingDirectory extends Sequential implements NamespaceFilesInterf
     @Builder.Default
     private transient long cacheDownloadedTime = 0L;
 
+    @Getter(AccessLevel.PRIVATE)
+    private transient String cacheHash;
+
     @Override
     public List<NextTaskRun> resolveNexts(RunContext runContext, Execution execution, TaskRun parentTaskRun) throws IllegalVariableEvaluationException {
         List<ResolvedTask> childTasks = this.childTasks(runContext, parentTaskRun);
@@ -245,29 +260,44 @@ public class WorkingDirectory extends Sequential implements NamespaceFilesInterf
                 }
             }
 
-            // then download it and extract its content
-            var maybeCacheFile = runContext.getTaskCacheFile(taskRun.getNamespace(), taskRun.getFlowId(), this.getId(), taskRun.getValue());
-            if (maybeCacheFile.isPresent()) {
-                runContext.logger().debug("Cache exist, downloading it");
-                // download the cache if exist and unzip all entries
-                try (ZipInputStream archive = new ZipInputStream(maybeCacheFile.get())) {
-                    ZipEntry entry;
-                    while ((entry = archive.getNextEntry()) != null) {
-                        if (!entry.isDirectory()) {
-                            try {
-                                Path file = runContext.tempDir().resolve(entry.getName());
-                                Files.createDirectories(file.getParent());
-                                Files.createFile(file);
-                                Files.write(file, archive.readAllBytes());
-                            } catch (IOException e) {
-                                runContext.logger().error("Unable to create the file {}", entry.getName(), e);
+            // then extract its content, from the worker local cache if it has the same content or else by downloading it
+            var maybeHash = runContext.getTaskCacheFileHash(taskRun.getNamespace(), taskRun.getFlowId(), this.getId(), taskRun.getValue());
+            var localFileCache = runContext.getApplicationContext().getBean(LocalFileCache.class);
+            var maybeLocalCacheFile = maybeHash.flatMap(localFileCache::get);
+
+            boolean extracted = false;
+            if (maybeLocalCacheFile.isPresent()) {
+                runContext.logger().debug("Cache exist on the worker, skip downloading it");
+                try (InputStream inputStream = Files.newInputStream(maybeLocalCacheFile.get())) {
+                    this.extractCache(runContext, inputStream);
+                }
+                extracted = true;
+            } else {
+                // the archive is read by the hash read above, so it is kept on the worker under the hash of its content
+                var maybeCacheFile = maybeHash.isPresent() ?
+                    runContext.getTaskCacheFile(taskRun.getNamespace(), taskRun.getFlowId(), this.getId(), taskRun.getValue(), maybeHash.get()) :
+                    runContext.getTaskCacheFile(taskRun.getNamespace(), taskRun.getFlowId(), this.getId(), taskRun.getValue());
+                if (maybeCacheFile.isPresent()) {
+                    runContext.logger().debug("Cache exist, downloading it");
+                    try (InputStream inputStream = maybeCacheFile.get()) {
+                        if (maybeHash.isPresent()) {
+                            // keep the cache on the worker so the next runs don't download it again
+                            Path localCacheFile = localFileCache.put(maybeHash.get(), inputStream);
+                            try (InputStream localInputStream = Files.newInputStream(localCacheFile)) {
+                                this.extractCache(runContext, localInputStream);
                             }
+                        } else {
+                            this.extractCache(runContext, inputStream);
                         }
                     }
+                    extracted = true;
                 }
+            }
 
+            if (extracted) {
                 // Set the cacheDownloadedTime so that we can check if files has been updated later
                 cacheDownloadedTime = System.currentTimeMillis();
+                cacheHash = maybeHash.orElse(null);
             }
         }
 
@@ -316,24 +346,29 @@ public class WorkingDirectory extends Sequential implements NamespaceFilesInterf
                     });
 
                 if (cacheFilesAreUpdated) {
-                    runContext.logger().debug("Cache files changed, we update the cache");
-                    try (ByteArrayOutputStream bos = new ByteArrayOutputStream();
-                         ZipOutputStream archive = new ZipOutputStream(bos)) {
+                    // sort the files so the same files always have the same hash
+                    matchesList.sort(Comparator.naturalOrder());
+                    String hash = this.hashCacheFiles(runContext, matchesList);
+
+                    if (hash.equals(cacheHash)) {
+                        runContext.logger().debug("Cache files content didn't change, skip updating it");
+                        return;
+                    }
 
+                    runContext.logger().debug("Cache files changed, we update the cache");
+                    File archiveFile = File.createTempFile("archive", ".zip");
+                    try (ZipOutputStream archive = new ZipOutputStream(new BufferedOutputStream(new FileOutputStream(archiveFile)))) {
                         for (var file : matchesList) {
-                            var relativeFileName = file.toFile().getPath().substring(runContext.tempDir().toString().length() + 1);
-                            var zipEntry = new ZipEntry(relativeFileName);
-                            archive.putNextEntry(zipEntry);
-                            archive.write(Files.readAllBytes(file));
+                            archive.putNextEntry(new ZipEntry(this.relativeFileName(runContext, file)));
+                            Files.copy(file, archive);
                             archive.closeEntry();
                         }
-
-                        archive.finish();
-                        File archiveFile = File.createTempFile("archive", ".zip");
-                        Files.write(archiveFile.toPath(), bos.toByteArray());
-                        URI uri = runContext.putTaskCacheFile(archiveFile, taskRun.getNamespace(), taskRun.getFlowId(), this.getId(), taskRun.getValue());
-                        runContext.logger().debug("Caching in {}", uri);
                     }
+
+                    runContext.getApplicationContext().getBean(LocalFileCache.class).put(hash, archiveFile.toPath());
+
+                    URI uri = runContext.putTaskCacheFile(archiveFile, hash, taskRun.getNamespace(), taskRun.getFlowId(), this.getId(), taskRun.getValue());
+                    runContext.logger().debug("Caching in {}", uri);
                 } else {
                     runContext.logger().debug("Cache files didn't change, skip updating it");
                 }
@@ -343,6 +378,45 @@ public class WorkingDirectory extends Sequential implements NamespaceFilesInterf
 
     }
 
+    private void extractCache(RunContext runContext, InputStream inputStream) throws IOException {
+        try (ZipInputStream archive = new ZipInputStream(new BufferedInputStream(inputStream))) {
+            ZipEntry entry;
+            while ((entry = archive.getNextEntry()) != null) {
+                if (!entry.isDirectory()) {
+                    try {
+                        Path file = runContext.tempDir().resolve(entry.getName());
+                        Files.createDirectories(file.getParent());
+                        Files.copy(archive, file, StandardCopyOption.REPLACE_EXISTING);
+                    } catch (IOException e) {
+                        runContext.logger().error("Unable to create the file {}", entry.getName(), e);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Hash the names and contents of the cached files, reading them as streams.
+     */
+    private String hashCacheFiles(RunContext runContext, List<Path> files) throws IOException {
+        Hasher hasher = Hashing.sha256().newHasher();
+
+        for (Path file : files) {
+            hasher.putString(this.relativeFileName(runContext, file), StandardCharsets.UTF_8);
+            hasher.putLong(Files.size(file));
+
+            try (OutputStream outputStream = Funnels.asOutputStream(hasher)) {
+                Files.copy(file, outputStream);
+            }
+        }
+
+        return hasher.hash().toString();
+    }
+
+    private String relativeFileName(RunContext runContext, Path file) {
+        return file.toFile().getPath().substring(runContext.tempDir().toString().length() + 1);
+    }
+
     @SuperBuilder
     @ToString
     @EqualsAndHashCode
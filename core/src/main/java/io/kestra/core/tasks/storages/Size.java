@@ -7,6 +7,7 @@ import io.kestra.core.models.tasks.RunnableTask;
 import io.kestra.core.models.tasks.Task;
 import io.kestra.core.runners.RunContext;
 import io.kestra.core.storages.StorageInterface;
+import io.kestra.core.storages.StorageRange;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
@@ -43,7 +44,7 @@ public class Size extends Task implements RunnableTask<Size.Output> {
         StorageInterface storageInterface = runContext.getApplicationContext().getBean(StorageInterface.class);
         URI render = URI.create(runContext.render(this.uri));
 
-        Long size = storageInterface.getAttributes(runContext.tenantId(), render).getSize();
+        Long size = StorageRange.size(storageInterface, runContext.tenantId(), render);
 
         return Output.builder()
             .size(size)
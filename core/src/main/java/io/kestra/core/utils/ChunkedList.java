@@ -0,0 +1,67 @@
+package io.kestra.core.utils;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * An immutable random access list stored in fixed size chunks.
+ * {@link #with(int, Object)} returns a new list sharing all the chunks but the updated one, so replacing an element
+ * copies {@code size / CHUNK_SIZE + CHUNK_SIZE} references instead of the whole list.
+ */
+public final class ChunkedList<E> extends AbstractList<E> implements RandomAccess {
+    static final int CHUNK_SIZE = 32;
+
+    private final Object[][] chunks;
+    private final int size;
+
+    private ChunkedList(Object[][] chunks, int size) {
+        this.chunks = chunks;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <E> ChunkedList<E> copyOf(List<? extends E> list) {
+        if (list instanceof ChunkedList<?>) {
+            return (ChunkedList<E>) list;
+        }
+
+        int size = list.size();
+        Object[][] chunks = new Object[(size + CHUNK_SIZE - 1) / CHUNK_SIZE][];
+
+        for (int i = 0; i < chunks.length; i++) {
+            int from = i * CHUNK_SIZE;
+            chunks[i] = list.subList(from, Math.min(from + CHUNK_SIZE, size)).toArray();
+        }
+
+        return new ChunkedList<>(chunks, size);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+
+        return (E) chunks[index / CHUNK_SIZE][index % CHUNK_SIZE];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * A copy of this list with the element at the given position replaced, this list is left untouched.
+     */
+    public ChunkedList<E> with(int index, E element) {
+        Objects.checkIndex(index, size);
+
+        Object[][] newChunks = chunks.clone();
+        Object[] chunk = chunks[index / CHUNK_SIZE].clone();
+        chunk[index % CHUNK_SIZE] = element;
+        newChunks[index / CHUNK_SIZE] = chunk;
+
+        return new ChunkedList<>(newChunks, size);
+    }
+}
@@ -1,5 +1,6 @@
 package io.kestra.core.models.executions;
 
+import io.kestra.core.exceptions.InternalException;
 import io.kestra.core.models.Label;
 import io.kestra.core.utils.IdUtils;
 import org.junit.jupiter.api.Test;
@@ -11,6 +12,7 @@ import java.util.Map;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class ExecutionTest {
     private static final TaskRun.TaskRunBuilder TASK_RUN = TaskRun.builder()
@@ -161,4 +163,52 @@ class ExecutionTest {
         assertThat(execution.getLabels().size(), is(1));
         assertThat(execution.getLabels().get(0), is(new Label("test", "test-value")));
     }
+
+    @Test
+    void withTaskRunAndFindChilds() throws InternalException {
+        TaskRun parent = TaskRun.builder().id("parent").taskId("each").state(new State()).build();
+        TaskRun child = TaskRun.builder().id("child").taskId("t1").parentTaskRunId("parent").value("v1").state(new State()).build();
+        TaskRun grandChild = TaskRun.builder().id("grand-child").taskId("t2").parentTaskRunId("child").state(new State()).build();
+
+        Execution execution = Execution.builder()
+            .id(IdUtils.create())
+            .taskRunList(List.of(parent, child, grandChild))
+            .state(new State())
+            .build();
+
+        assertThat(execution.findTaskRunByTaskRunId("child"), is(child));
+        assertThat(execution.findChilds(grandChild), is(List.of(parent, child)));
+
+        Execution updated = execution.withTaskRun(child.withState(State.Type.RUNNING));
+
+        assertThat(updated.findTaskRunByTaskRunId("child").getState().getCurrent(), is(State.Type.RUNNING));
+        assertThat(updated.getTaskRunList().size(), is(3));
+        assertThat(execution.findTaskRunByTaskRunId("child").getState().getCurrent(), is(State.Type.CREATED));
+        assertThrows(InternalException.class, () -> updated.findTaskRunByTaskRunId("unknown"));
+    }
+
+    @Test
+    void outputsWithTaskRun() throws InternalException {
+        TaskRun parent = TaskRun.builder().id("parent").taskId("each").state(new State()).build();
+        TaskRun first = TaskRun.builder().id("first").taskId("t1").parentTaskRunId("parent").value("v1").state(new State()).build();
+        TaskRun second = TaskRun.builder().id("second").taskId("t1").parentTaskRunId("parent").value("v2").state(new State()).build();
+
+        Execution execution = Execution.builder()
+            .id(IdUtils.create())
+            .taskRunList(List.of(parent, first, second))
+            .state(new State())
+            .build();
+
+        assertThat(execution.outputs().size(), is(0));
+
+        Execution updated = execution
+            .withTaskRun(first.withOutputs(Map.of("value", 1)))
+            .withTaskRun(second.withState(State.Type.RUNNING))
+            .withTaskRun(second.withOutputs(Map.of("value", 2)));
+
+        Execution fresh = updated.toBuilder().build();
+
+        assertThat(updated.outputs(), is(fresh.outputs()));
+        assertThat(updated.outputs(), is(Map.of("t1", Map.of("v1", Map.of("value", 1), "v2", Map.of("value", 2)))));
+    }
 }
@@ -81,6 +81,7 @@ abstract public class FlowListenersTest {
             assertThat(count.get(), is(1));
             assertThat(flowListenersService.flows().size(), is(1));
             assertThat(flowListenersService.flows().get(0).getTasks().get(0).getId(), is("test2"));
+            assertThat(flowListenersService.findById(null, firstUpdated.getNamespace(), firstUpdated.getId()).orElseThrow().getTasks().get(0).getId(), is("test2"));
         });
 
         Flow second = create("second_" + IdUtils.create(), "test");
@@ -96,6 +97,7 @@ abstract public class FlowListenersTest {
         wait(ref, () -> {
             assertThat(count.get(), is(1));
             assertThat(flowListenersService.flows().size(), is(1));
+            assertThat(flowListenersService.findById(null, deleted.getNamespace(), deleted.getId()).isPresent(), is(false));
         });
 
         // restore must works
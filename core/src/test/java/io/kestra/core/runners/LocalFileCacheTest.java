@@ -0,0 +1,47 @@
+package io.kestra.core.runners;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LocalFileCacheTest {
+    @Test
+    void evictLeastRecentlyUsed() throws IOException {
+        Path directory = Files.createTempDirectory("local-cache");
+        LocalFileCache localFileCache = new LocalFileCache(directory.toString(), 10);
+
+        localFileCache.put("aa", new ByteArrayInputStream("1234".getBytes()));
+        localFileCache.put("bb", new ByteArrayInputStream("1234".getBytes()));
+
+        // use the first file so the second one is the least recently used
+        assertThat(localFileCache.get("aa").isPresent(), is(true));
+
+        Path file = Files.createTempFile("local-cache", ".txt");
+        Files.writeString(file, "1234");
+        localFileCache.put("cc", file);
+
+        assertThat(localFileCache.get("aa").isPresent(), is(true));
+        assertThat(localFileCache.get("bb").isPresent(), is(false));
+        assertThat(Files.readString(localFileCache.get("cc").orElseThrow()), is("1234"));
+        assertThat(Files.exists(file), is(true));
+
+        // the files are reloaded by a new cache on the same directory
+        LocalFileCache reloaded = new LocalFileCache(directory.toString(), 10);
+        assertThat(reloaded.get("aa").isPresent(), is(true));
+        assertThat(reloaded.get("cc").isPresent(), is(true));
+    }
+
+    @Test
+    void invalidHash() throws IOException {
+        LocalFileCache localFileCache = new LocalFileCache(Files.createTempDirectory("local-cache").toString(), 10);
+
+        assertThrows(IllegalArgumentException.class, () -> localFileCache.get("../file"));
+    }
+}
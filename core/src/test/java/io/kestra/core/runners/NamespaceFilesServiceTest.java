@@ -3,6 +3,7 @@ package io.kestra.core.runners;
 import io.kestra.core.models.tasks.NamespaceFiles;
 import io.kestra.core.storages.StorageInterface;
 import io.kestra.core.utils.IdUtils;
+import io.micronaut.context.annotation.Value;
 import io.micronaut.core.annotation.Nullable;
 import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
 import jakarta.inject.Inject;
@@ -15,6 +16,9 @@ import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 
 import static io.kestra.core.utils.Rethrow.throwFunction;
@@ -32,6 +36,9 @@ class NamespaceFilesServiceTest {
     @Inject
     RunContextFactory runContextFactory;
 
+    @Value("${kestra.storage.local.base-path}")
+    String storageBasePath;
+
     @Test
     public void noFilter() throws Exception {
         Path basePath = Files.createTempDirectory("unit");
@@ -167,6 +174,47 @@ class NamespaceFilesServiceTest {
         assertThat(content, is("2"));
     }
 
+    @Test
+    public void localCache() throws Exception {
+        String namespace = "io.kestra." + IdUtils.create();
+
+        put(null, namespace, "/a/1.sql", "1");
+
+        // a file not recently updated is mirrored on the worker
+        Path stored = Paths.get(storageBasePath, storageInterface.namespaceFilePrefix(namespace), "/a/1.sql");
+        FileTime lastModifiedTime = FileTime.from(Instant.now().minus(Duration.ofHours(1)));
+        Files.setLastModifiedTime(stored, lastModifiedTime);
+
+        assertThat(inject(namespace), is("1"));
+
+        // same size and last modified time, the mirrored file is used
+        Files.writeString(stored, "2");
+        Files.setLastModifiedTime(stored, lastModifiedTime);
+
+        assertThat(inject(namespace), is("1"));
+
+        // the file is downloaded again once updated
+        Files.setLastModifiedTime(stored, FileTime.from(Instant.now().minus(Duration.ofMinutes(30))));
+
+        assertThat(inject(namespace), is("2"));
+    }
+
+    private String inject(String namespace) throws Exception {
+        RunContext runContext = runContextFactory.of();
+        namespaceFilesService.inject(
+            runContext,
+            null,
+            namespace,
+            runContext.tempDir(),
+            NamespaceFiles
+                .builder()
+                .enabled(true)
+                .build()
+        );
+
+        return Files.readString(Paths.get(runContext.tempDir().toString(), "/a/1.sql"));
+    }
+
     private void put(@Nullable String tenantId, String namespace, String path, String content) throws IOException {
         storageInterface.put(
             tenantId,
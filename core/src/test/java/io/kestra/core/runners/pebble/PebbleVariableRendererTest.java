@@ -236,6 +236,28 @@ class PebbleVariableRendererTest {
         assertThat(render, is("See some code {{ var }} and some other code {{ var2 }}"));
     }
 
+    @Test
+    void simpleVariable() throws IllegalVariableEvaluationException {
+        Map<String, Object> vars = Map.of(
+            "outputs", Map.of(
+                "task", Map.of(
+                    "value", "awesome",
+                    "int", 1,
+                    "list", List.of("a", "b"),
+                    "map", Map.of("key", "value")
+                )
+            )
+        );
+
+        assertThat(variableRenderer.render("{{ outputs.task.value }}", vars), is("awesome"));
+        assertThat(variableRenderer.render("{{outputs.task.int}}", vars), is("1"));
+        assertThat(variableRenderer.render("{{ outputs.task.list }}", vars), is("[\"a\",\"b\"]"));
+        assertThat(variableRenderer.render("{{ outputs.task.map }}", vars), is("{\"key\":\"value\"}"));
+
+        // not resolvable directly, must keep the Pebble error
+        assertThrows(IllegalVariableEvaluationException.class, () -> variableRenderer.render("{{ outputs.task.missing }}", vars));
+    }
+
     @Test
     void eval() throws IllegalVariableEvaluationException {
         ImmutableMap<String, Object> vars = ImmutableMap.of(
@@ -12,10 +12,14 @@ import io.kestra.core.runners.TestMethodScopedWorker;
 import io.kestra.core.runners.Worker;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
+import io.kestra.core.utils.Await;
+import org.junit.jupiter.api.Test;
 import org.junitpioneer.jupiter.RetryingTest;
 import org.junitpioneer.jupiter.RetryingTest;
 
 import java.lang.reflect.Executable;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
@@ -23,7 +27,7 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.MatcherAssert.assertThat;
-import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.*;
 import static org.mockito.Mockito.*;
 
 public class SchedulerScheduleTest extends AbstractSchedulerTest {
@@ -123,4 +127,55 @@ public class SchedulerScheduleTest extends AbstractSchedulerTest {
             assertThat(executionId.size(), is(3));
         }
     }
+
+    @Test
+    void deferredDueDate() {
+        ZonedDateTime now = ZonedDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        Instant dueDate = now.plusSeconds(1).toInstant();
+
+        // deferred until the next date
+        assertThat(AbstractScheduler.deferredDueDate(now, dueDate, now.plusSeconds(30)), is(now.plusSeconds(30).toInstant()));
+
+        // capped to the max deferral
+        assertThat(AbstractScheduler.deferredDueDate(now, dueDate, now.plusHours(1)), is(now.plus(AbstractScheduler.MAX_SCHEDULE_DEFERRAL).toInstant()));
+
+        // never before the due date of the next loop
+        assertThat(AbstractScheduler.deferredDueDate(now, dueDate, now.minusMinutes(5)), is(dueDate));
+    }
+
+    @Test
+    void scheduleDeferred() throws Exception {
+        FlowListeners flowListenersServiceSpy = spy(this.flowListenersService);
+
+        // yearly, the next date is always after the max deferral
+        Flow flow = createFlow(Collections.singletonList(Schedule.builder()
+            .id("yearly")
+            .type(Schedule.class.getName())
+            .cron("0 0 1 1 *")
+            .build()
+        ));
+
+        doReturn(List.of(flow))
+            .when(flowListenersServiceSpy)
+            .flows();
+
+        try (AbstractScheduler scheduler = scheduler(flowListenersServiceSpy)) {
+            Instant start = Instant.now();
+            scheduler.run();
+
+            // first evaluated on the first loop, then only looked at again once the deferral is over
+            Await.until(
+                () -> scheduler.dueDate(flow, "yearly").map(date -> date.isAfter(start.plusSeconds(30))).orElse(false),
+                Duration.ofMillis(100),
+                Duration.ofSeconds(10)
+            );
+
+            Instant dueDate = scheduler.dueDate(flow, "yearly").orElseThrow();
+            assertThat(dueDate, lessThanOrEqualTo(Instant.now().plus(AbstractScheduler.MAX_SCHEDULE_DEFERRAL)));
+
+            // still deferred a few loops later
+            Thread.sleep(2000);
+            assertThat(scheduler.dueDate(flow, "yearly").orElseThrow(), is(dueDate));
+        }
+    }
 }
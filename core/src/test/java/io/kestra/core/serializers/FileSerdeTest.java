@@ -64,6 +64,76 @@ class FileSerdeTest {
         }
     }
 
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @ParameterizedTest
+    @MethodSource("source")
+    void binary(Object value, Object resultValue) throws IOException {
+        Map<String, Object> object = new HashMap<>();
+        object.put("key", value);
+
+        File tempFile = File.createTempFile(this.getClass().getSimpleName().toLowerCase() + "_", ".ion");
+        try (
+            FileOutputStream outputStream = new FileOutputStream(tempFile);
+            FileSerde.BinaryWriter writer = FileSerde.binaryWriter(outputStream)
+        ) {
+            writer.write(object);
+        }
+
+        List<Object> list = new ArrayList<>();
+        try (InputStream inputStream = new FileInputStream(tempFile)) {
+            FileSerde.reader(inputStream, list::add);
+        }
+
+        Map<String, Object> result = (Map<String, Object>) list.get(0);
+
+        if (value instanceof Map) {
+            assertThat(((Map) object.get("key")).entrySet(), everyItem(is(in(((Map) result.get("key")).entrySet()))));
+            assertThat(((Map) result.get("key")).entrySet(), everyItem(is(in(((Map) object.get("key")).entrySet()))));
+        } else {
+            assertThat(result.get("key"), is(resultValue != null ? resultValue : object.get("key")));
+        }
+    }
+
+    @Test
+    void binaryBlocks() throws IOException {
+        File tempFile = File.createTempFile(this.getClass().getSimpleName().toLowerCase() + "_", ".ion");
+        try (FileOutputStream outputStream = new FileOutputStream(tempFile)) {
+            // two concatenated files
+            for (int file = 0; file < 2; file++) {
+                try (FileSerde.BinaryWriter writer = FileSerde.binaryWriter(outputStream)) {
+                    for (int i = 0; i < FileSerde.BLOCK_MAX_ROWS + 500; i++) {
+                        writer.write(Map.of("file", file, "row", i));
+                    }
+                }
+            }
+        }
+
+        try (InputStream inputStream = new FileInputStream(tempFile)) {
+            assertThat(FileSerde.isBinary(new BufferedInputStream(inputStream)), is(true));
+        }
+
+        try (FileSerde.BinaryReader reader = FileSerde.binaryReader(new FileInputStream(tempFile))) {
+            assertThat(reader.skipBlock(), is(FileSerde.BLOCK_MAX_ROWS));
+
+            List<Object> list = new ArrayList<>();
+            assertThat(reader.readBlock(list::add), is(500));
+            assertThat(list.get(0), is(Map.of("file", 0, "row", FileSerde.BLOCK_MAX_ROWS)));
+
+            list.clear();
+            assertThat(reader.readBlock(list::add), is(FileSerde.BLOCK_MAX_ROWS));
+            assertThat(list.get(0), is(Map.of("file", 1, "row", 0)));
+
+            assertThat(reader.skipBlock(), is(500));
+            assertThat(reader.skipBlock(), is(-1));
+        }
+
+        List<Object> list = new ArrayList<>();
+        try (InputStream inputStream = new FileInputStream(tempFile)) {
+            assertThat(FileSerde.reader(inputStream, 2000, list::add), is(true));
+        }
+        assertThat(list.size(), is(2000));
+    }
+
     @Test
     void readMax() throws IOException {
         File tempFile = File.createTempFile(this.getClass().getSimpleName().toLowerCase() + "_", ".ion");
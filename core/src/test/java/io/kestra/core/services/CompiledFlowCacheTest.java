@@ -0,0 +1,56 @@
+package io.kestra.core.services;
+
+import io.kestra.core.models.flows.Flow;
+import io.kestra.core.models.flows.TaskDefault;
+import io.kestra.core.tasks.debugs.Return;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@MicronautTest
+class CompiledFlowCacheTest {
+    @Inject
+    private CompiledFlowCache compiledFlowCache;
+
+    private static Flow flow(Integer revision) {
+        return Flow.builder()
+            .id("compiled")
+            .namespace("io.kestra.tests")
+            .revision(revision)
+            .tasks(List.of(Return.builder()
+                .id("return")
+                .type(Return.class.getName())
+                .build()
+            ))
+            .taskDefaults(List.of(
+                new TaskDefault(Return.class.getName(), false, Map.of("format", "default"))
+            ))
+            .build();
+    }
+
+    @Test
+    void cached() {
+        Flow compiled = compiledFlowCache.injectDefaults(flow(1), LoggerFactory.getLogger(CompiledFlowCacheTest.class));
+
+        assertThat(((Return) compiled.getTasks().get(0)).getFormat(), is("default"));
+        assertThat(compiledFlowCache.injectDefaults(flow(1), LoggerFactory.getLogger(CompiledFlowCacheTest.class)), sameInstance(compiled));
+
+        compiledFlowCache.invalidate(flow(2));
+        assertThat(compiledFlowCache.injectDefaults(flow(1), LoggerFactory.getLogger(CompiledFlowCacheTest.class)), not(sameInstance(compiled)));
+    }
+
+    @Test
+    void withoutRevision() {
+        Flow compiled = compiledFlowCache.injectDefaults(flow(null), LoggerFactory.getLogger(CompiledFlowCacheTest.class));
+
+        assertThat(((Return) compiled.getTasks().get(0)).getFormat(), is("default"));
+        assertThat(compiledFlowCache.injectDefaults(flow(null), LoggerFactory.getLogger(CompiledFlowCacheTest.class)), not(sameInstance(compiled)));
+    }
+}
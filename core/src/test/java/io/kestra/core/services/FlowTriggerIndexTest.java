@@ -0,0 +1,89 @@
+package io.kestra.core.services;
+
+import io.kestra.core.models.conditions.Condition;
+import io.kestra.core.models.conditions.types.ExecutionFlowCondition;
+import io.kestra.core.models.conditions.types.ExecutionNamespaceCondition;
+import io.kestra.core.models.conditions.types.ExecutionStatusCondition;
+import io.kestra.core.models.conditions.types.VariableCondition;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.flows.Flow;
+import io.kestra.core.models.flows.State;
+import io.kestra.core.tasks.debugs.Return;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.sameInstance;
+
+class FlowTriggerIndexTest {
+    private static Flow flow(String id, boolean disabled, Condition... conditions) {
+        return Flow.builder()
+            .id(id)
+            .namespace("io.kestra.tests")
+            .revision(1)
+            .disabled(disabled)
+            .tasks(List.of(Return.builder().id("return").type(Return.class.getName()).build()))
+            .triggers(List.of(io.kestra.core.models.triggers.types.Flow.builder()
+                .id("trigger")
+                .type(io.kestra.core.models.triggers.types.Flow.class.getName())
+                .conditions(List.of(conditions))
+                .build()
+            ))
+            .build();
+    }
+
+    private static Stream<io.kestra.core.models.triggers.types.Flow> flowTriggers(Flow flow) {
+        return flow.getTriggers().stream().map(io.kestra.core.models.triggers.types.Flow.class::cast);
+    }
+
+    private static Execution execution(String namespace, String flowId, State.Type state) {
+        return Execution.builder()
+            .id("execution")
+            .namespace(namespace)
+            .flowId(flowId)
+            .state(new State().withState(state))
+            .build();
+    }
+
+    private static List<String> candidates(FlowTriggerIndex index, Execution execution) {
+        return index.candidates(execution).stream().map(f -> f.getFlow().getId()).toList();
+    }
+
+    @Test
+    void candidates() {
+        List<Flow> flows = List.of(
+            flow("byFlow", false, ExecutionFlowCondition.builder().namespace("io.kestra.a").flowId("parent").build()),
+            flow("byNamespace", false, ExecutionNamespaceCondition.builder().namespace("io.kestra.a").build()),
+            flow("byPrefix", false, ExecutionNamespaceCondition.builder().namespace("io.kestra").comparison(ExecutionNamespaceCondition.Comparison.PREFIX).build()),
+            flow("byState", false, ExecutionStatusCondition.builder().in(List.of(State.Type.FAILED)).build()),
+            flow("byVariable", false, VariableCondition.builder().expression("{{ true }}").build()),
+            flow("disabled", true)
+        );
+
+        FlowTriggerIndex index = FlowTriggerIndex.of(flows, null, FlowTriggerIndexTest::flowTriggers);
+
+        assertThat(
+            candidates(index, execution("io.kestra.a", "parent", State.Type.SUCCESS)),
+            contains("byFlow", "byNamespace", "byPrefix", "byVariable")
+        );
+        assertThat(
+            candidates(index, execution("io.kestra.b", "parent", State.Type.FAILED)),
+            contains("byPrefix", "byState", "byVariable")
+        );
+    }
+
+    @Test
+    void reuseUnchangedFlows() {
+        Flow unchanged = flow("unchanged", false);
+        FlowTriggerIndex previous = FlowTriggerIndex.of(List.of(unchanged), null, FlowTriggerIndexTest::flowTriggers);
+
+        FlowTriggerIndex index = FlowTriggerIndex.of(List.of(flow("added", false), unchanged), previous, FlowTriggerIndexTest::flowTriggers);
+
+        List<AbstractFlowTriggerService.FlowWithFlowTrigger> candidates = index.candidates(execution("io.kestra.a", "parent", State.Type.SUCCESS));
+        assertThat(candidates.stream().map(f -> f.getFlow().getId()).toList(), contains("added", "unchanged"));
+        assertThat(candidates.get(1).getTrigger(), sameInstance(previous.candidates(execution("io.kestra.a", "parent", State.Type.SUCCESS)).get(0).getTrigger()));
+    }
+}
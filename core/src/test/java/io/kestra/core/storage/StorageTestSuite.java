@@ -3,6 +3,7 @@ package io.kestra.core.storage;
 import com.google.common.io.CharStreams;
 import io.kestra.core.storages.FileAttributes;
 import io.kestra.core.storages.StorageInterface;
+import io.kestra.core.storages.StorageRange;
 import io.kestra.core.utils.IdUtils;
 import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
 import jakarta.inject.Inject;
@@ -110,6 +111,29 @@ public abstract class StorageTestSuite {
             storageInterface.get(tenantId, new URI("/" + prefix + "/storage/missing.yml"));
         });
     }
+
+    @Test
+    void getRange() throws Exception {
+        String prefix = IdUtils.create();
+        String tenantId = IdUtils.create();
+
+        putFile(tenantId, "/" + prefix + "/storage/get.yml");
+        URI item = new URI("kestra:///" + prefix + "/storage/get.yml");
+
+        InputStream get = storageInterface.get(tenantId, item, 2, 3);
+        assertThat(CharStreams.toString(new InputStreamReader(get)), is("nte"));
+
+        URI range = new StorageRange(2, Long.MAX_VALUE).apply(item);
+        get = StorageRange.get(storageInterface, tenantId, range);
+        assertThat(CharStreams.toString(new InputStreamReader(get)), is("ntent"));
+        assertThat(StorageRange.size(storageInterface, tenantId, range), is(5L));
+
+        // ranged uris are only created on the storages supporting them
+        if (storageInterface.supportsRange()) {
+            get = storageInterface.get(tenantId, new StorageRange(2, 5).apply(item));
+            assertThat(CharStreams.toString(new InputStreamReader(get)), is("nte"));
+        }
+    }
     //endregion
 
     @Test
@@ -6,6 +6,7 @@ import io.kestra.core.queues.QueueFactoryInterface;
 import io.kestra.core.queues.QueueInterface;
 import io.kestra.core.runners.RunnerUtils;
 import io.kestra.core.storages.StorageInterface;
+import io.kestra.core.storages.StorageRange;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
@@ -15,12 +16,14 @@ import org.apache.commons.lang3.StringUtils;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.file.Files;
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -174,6 +177,49 @@ public class ForEachItemCaseTest {
         assertThat(triggered.get().getTaskRunList(), hasSize(1));
     }
 
+    public void forEachItemConcurrencyLimit() throws TimeoutException, InterruptedException, URISyntaxException, IOException {
+        CountDownLatch countDownLatch = new CountDownLatch(3);
+        List<Execution> triggered = new CopyOnWriteArrayList<>();
+
+        executionQueue.receive(either -> {
+            Execution execution = either.getLeft();
+            if (execution.getFlowId().equals("for-each-item-subflow") && execution.getState().getCurrent().isTerminated()) {
+                countDownLatch.countDown();
+                triggered.add(execution);
+            }
+        });
+
+        URI file = storageUpload(10);
+        Map<String, Object> inputs = Map.of("file", file.toString());
+        Execution execution = runnerUtils.runOne(null, "io.kestra.tests", "for-each-item-concurrency-limit", null,
+            (flow, execution1) -> runnerUtils.typedInputs(flow, execution1, inputs),
+            Duration.ofSeconds(30));
+
+        // we should have triggered 3 subflows, one after the other
+        assertThat(countDownLatch.await(1, TimeUnit.MINUTES), is(true));
+
+        // assert on the main flow execution
+        assertThat(execution.getTaskRunList(), hasSize(1));
+        assertThat(execution.getTaskRunList().get(0).getAttempts(), hasSize(1));
+        assertThat(execution.getTaskRunList().get(0).getAttempts().get(0).getState().getCurrent(), is(State.Type.SUCCESS));
+        assertThat(execution.getState().getCurrent(), is(State.Type.SUCCESS));
+        Map<String, Object> outputs = execution.getTaskRunList().get(0).getOutputs();
+        assertThat(outputs.get("numberOfBatches"), is(3));
+        assertThat(outputs.get("nextIteration"), is(4));
+        Map<String, Integer> iterations = (Map<String, Integer>) outputs.get("iterations");
+        assertThat(iterations.get("SUCCESS"), is(3));
+
+        // the subflows reference a range of the items file instead of a new file
+        List<String> items = triggered.stream()
+            .map(subflow -> (String) subflow.getInputs().get("items"))
+            .toList();
+        assertThat(items, containsInAnyOrder(file + "?range=0-84", file + "?range=84-168", file + "?range=168-210"));
+
+        try (InputStream inputStream = StorageRange.get(storageInterface, null, URI.create(file + "?range=168-210"))) {
+            assertThat(new String(inputStream.readAllBytes()).lines().count(), is(2L));
+        }
+    }
+
     private URI storageUpload(int count) throws URISyntaxException, IOException {
         File tempFile = File.createTempFile("file", ".txt");
 
@@ -13,7 +13,9 @@ import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
@@ -98,8 +100,8 @@ public class WorkingDirectoryTest extends AbstractMemoryRunnerTest {
         @SuppressWarnings("unchecked")
         public void cache(RunnerUtils runnerUtils) throws TimeoutException, IOException {
             // make sure the cache didn't exist
-            URI cache = URI.create(storageInterface.cachePrefix("io.kestra.tests", "working-directory-cache", "workingDir", null) + "/cache.zip");
-            storageInterface.delete(null, cache);
+            String cachePrefix = storageInterface.cachePrefix("io.kestra.tests", "working-directory-cache", "workingDir", null);
+            storageInterface.deleteByPrefix(null, URI.create(cachePrefix + "/"));
 
             Execution execution = runnerUtils.runOne(null, "io.kestra.tests", "working-directory-cache");
 
@@ -111,7 +113,14 @@ public class WorkingDirectoryTest extends AbstractMemoryRunnerTest {
                 nullValue()
             );
             assertThat(execution.getState().getCurrent(), is(State.Type.SUCCESS));
-            assertTrue(storageInterface.exists(null, cache));
+
+            // the archive is named by the hash of its content, the hash file only points to it
+            String hash;
+            try (InputStream inputStream = storageInterface.get(null, URI.create(cachePrefix + "/cache.hash"))) {
+                hash = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+            }
+            assertTrue(storageInterface.exists(null, URI.create(cachePrefix + "/cache-" + hash + ".zip")));
+            assertThat(storageInterface.exists(null, URI.create(cachePrefix + "/cache.zip")), is(false));
 
             // a second run should use the cache so the task `exists` should output the cached file
             execution = runnerUtils.runOne(null, "io.kestra.tests", "working-directory-cache");
@@ -3,6 +3,7 @@ package io.kestra.core.tasks.storages;
 import com.google.common.io.CharStreams;
 import io.kestra.core.runners.RunContext;
 import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.serializers.FileSerde;
 import io.kestra.core.storages.StorageInterface;
 import io.kestra.core.utils.Rethrow;
 import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
@@ -12,11 +13,14 @@ import org.junit.jupiter.api.Test;
 
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -82,6 +86,55 @@ class SplitTest {
         assertThat(readAll(run.getUris()), is(String.join("\n", content(12288)) + "\n"));
     }
 
+    @Test
+    void binaryRows() throws Exception {
+        RunContext runContext = runContextFactory.of();
+        URI put = storageUploadBinary(2500);
+
+        Split result = Split.builder()
+            .from(put.toString())
+            .rows(1000)
+            .build();
+
+        Split.Output run = result.run(runContext);
+
+        assertThat(run.getUris().size(), is(3));
+        assertThat(readAllBinary(run.getUris()), is(content(2500)));
+    }
+
+    @Test
+    void binaryPartition() throws Exception {
+        RunContext runContext = runContextFactory.of();
+        URI put = storageUploadBinary(2500);
+
+        Split result = Split.builder()
+            .from(put.toString())
+            .partitions(2)
+            .build();
+
+        Split.Output run = result.run(runContext);
+
+        assertThat(run.getUris().size(), is(2));
+        assertThat(readAllBinary(run.getUris()).size(), is(2500));
+    }
+
+    @Test
+    void binaryPartitionMoreThanBlocks() throws Exception {
+        RunContext runContext = runContextFactory.of();
+        URI put = storageUploadBinary(2500);
+
+        // 2500 rows are written as 3 blocks, the 2 remaining partitions are skipped
+        Split result = Split.builder()
+            .from(put.toString())
+            .partitions(5)
+            .build();
+
+        Split.Output run = result.run(runContext);
+
+        assertThat(run.getUris().size(), is(3));
+        assertThat(readAllBinary(run.getUris()).size(), is(2500));
+    }
+
     private List<String> content(int count) {
         return IntStream
             .range(0, count)
@@ -96,6 +149,16 @@ class SplitTest {
             .collect(Collectors.joining());
     }
 
+    private List<Object> readAllBinary(List<URI> uris) throws IOException {
+        List<Object> rows = new ArrayList<>();
+        for (URI uri : uris) {
+            try (InputStream inputStream = storageInterface.get(null, uri)) {
+                FileSerde.reader(inputStream, rows::add);
+            }
+        }
+
+        return rows;
+    }
 
     URI storageUpload(int count) throws URISyntaxException, IOException {
         File tempFile = File.createTempFile("unit", "");
@@ -109,4 +172,22 @@ class SplitTest {
         );
     }
 
+    URI storageUploadBinary(int count) throws URISyntaxException, IOException {
+        File tempFile = File.createTempFile("unit", ".ion");
+
+        try (
+            FileOutputStream output = new FileOutputStream(tempFile);
+            FileSerde.BinaryWriter writer = FileSerde.binaryWriter(output)
+        ) {
+            for (String row : content(count)) {
+                writer.write(row);
+            }
+        }
+
+        return storageInterface.put(
+            null,
+            new URI("/file/storage/get.ion"),
+            new FileInputStream(tempFile)
+        );
+    }
 }
\ No newline at end of file
@@ -0,0 +1,37 @@
+package io.kestra.core.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ChunkedListTest {
+    @Test
+    void with() {
+        List<Integer> list = IntStream.range(0, ChunkedList.CHUNK_SIZE * 2 + 5).boxed().toList();
+        ChunkedList<Integer> chunkedList = ChunkedList.copyOf(list);
+
+        assertThat(chunkedList, is(list));
+        assertThat(ChunkedList.copyOf(chunkedList), sameInstance(chunkedList));
+
+        ChunkedList<Integer> updated = chunkedList.with(ChunkedList.CHUNK_SIZE + 1, -1);
+
+        List<Integer> expected = new ArrayList<>(list);
+        expected.set(ChunkedList.CHUNK_SIZE + 1, -1);
+        assertThat(updated, is(expected));
+        assertThat(updated.hashCode(), is(expected.hashCode()));
+
+        // the original list is untouched
+        assertThat(chunkedList, is(list));
+
+        assertThrows(IndexOutOfBoundsException.class, () -> chunkedList.with(list.size(), 0));
+        assertThrows(UnsupportedOperationException.class, () -> chunkedList.add(0));
+        assertThat(ChunkedList.copyOf(List.of()).size(), is(0));
+    }
+}
@@ -14,8 +14,8 @@ import java.util.Map;
 @H2RepositoryEnabled
 public class H2ExecutionRepository extends AbstractJdbcExecutionRepository {
     @Inject
-    public H2ExecutionRepository(ApplicationContext applicationContext, AbstractJdbcExecutorStateStorage executorStateStorage) {
-        super(new H2Repository<>(Execution.class, applicationContext), applicationContext, executorStateStorage);
+    public H2ExecutionRepository(ApplicationContext applicationContext, AbstractJdbcExecutorStateStorage executorStateStorage, H2ExecutionRollupRepository rollupRepository) {
+        super(new H2Repository<>(Execution.class, applicationContext), applicationContext, executorStateStorage, rollupRepository);
     }
 
     @Override
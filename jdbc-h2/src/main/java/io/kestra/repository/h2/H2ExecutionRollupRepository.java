@@ -0,0 +1,16 @@
+package io.kestra.repository.h2;
+
+import io.kestra.core.models.executions.statistics.ExecutionRollup;
+import io.kestra.jdbc.repository.AbstractJdbcExecutionRollupRepository;
+import io.micronaut.context.ApplicationContext;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+@Singleton
+@H2RepositoryEnabled
+public class H2ExecutionRollupRepository extends AbstractJdbcExecutionRollupRepository {
+    @Inject
+    public H2ExecutionRollupRepository(ApplicationContext applicationContext) {
+        super(new H2Repository<>(ExecutionRollup.class, applicationContext));
+    }
+}
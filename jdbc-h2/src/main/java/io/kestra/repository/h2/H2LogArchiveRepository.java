@@ -0,0 +1,16 @@
+package io.kestra.repository.h2;
+
+import io.kestra.core.models.executions.LogArchive;
+import io.kestra.jdbc.repository.AbstractJdbcLogArchiveRepository;
+import io.micronaut.context.ApplicationContext;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+@Singleton
+@H2RepositoryEnabled
+public class H2LogArchiveRepository extends AbstractJdbcLogArchiveRepository {
+    @Inject
+    public H2LogArchiveRepository(ApplicationContext applicationContext) {
+        super(new H2Repository<>(LogArchive.class, applicationContext));
+    }
+}
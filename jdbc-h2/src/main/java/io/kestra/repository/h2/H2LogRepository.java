@@ -13,8 +13,8 @@ import java.util.List;
 @H2RepositoryEnabled
 public class H2LogRepository extends AbstractJdbcLogRepository {
     @Inject
-    public H2LogRepository(ApplicationContext applicationContext) {
-        super(new H2Repository<>(LogEntry.class, applicationContext));
+    public H2LogRepository(ApplicationContext applicationContext, H2LogArchiveRepository logArchiveRepository) {
+        super(new H2Repository<>(LogEntry.class, applicationContext), logArchiveRepository, applicationContext);
     }
 
     @Override
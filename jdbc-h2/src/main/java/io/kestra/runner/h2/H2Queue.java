@@ -43,7 +43,7 @@ public class H2Queue<T> extends JdbcQueue<T> {
     }
 
     @Override
-    protected Result<Record> receiveFetch(DSLContext ctx, String consumerGroup, String queueType) {
+    protected Result<Record> receiveFetch(DSLContext ctx, String consumerGroup, String queueType, Condition filter, int limit) {
         var select =  ctx.select(
                 AbstractJdbcRepository.field("value"),
                 AbstractJdbcRepository.field("offset")
@@ -53,7 +53,8 @@ public class H2Queue<T> extends JdbcQueue<T> {
             .and(DSL.or(List.of(
                 AbstractJdbcRepository.field("consumers").isNull(),
                 DSL.condition("NOT(ARRAY_CONTAINS(\"consumers\", ?))", queueType)
-            )));
+            )))
+            .and(filter);
 
         if (consumerGroup != null) {
             select = select.and(AbstractJdbcRepository.field("consumer_group").eq(consumerGroup));
@@ -62,7 +63,7 @@ public class H2Queue<T> extends JdbcQueue<T> {
         }
 
         return select.orderBy(AbstractJdbcRepository.field("offset").asc())
-            .limit(configuration.getPollSize())
+            .limit(limit)
             .forUpdate()
             .fetchMany()
             .get(0);
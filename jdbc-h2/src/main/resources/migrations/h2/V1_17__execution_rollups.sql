@@ -0,0 +1,15 @@
+CREATE TABLE IF NOT EXISTS execution_rollups (
+    "key" VARCHAR(250) NOT NULL PRIMARY KEY,
+    "value" TEXT NOT NULL,
+    "tenant_id" VARCHAR(250) GENERATED ALWAYS AS (JQ_STRING("value", '.tenantId')),
+    "namespace" VARCHAR(150) NOT NULL GENERATED ALWAYS AS (JQ_STRING("value", '.namespace')),
+    "flow_id" VARCHAR(150) NOT NULL GENERATED ALWAYS AS (JQ_STRING("value", '.flowId')),
+    "date" DATE NOT NULL GENERATED ALWAYS AS (CAST(JQ_STRING("value", '.date') AS DATE)),
+    "state_current" VARCHAR(50) NOT NULL GENERATED ALWAYS AS (JQ_STRING("value", '.state')),
+    "count" BIGINT NOT NULL GENERATED ALWAYS AS (JQ_LONG("value", '.count')),
+    "duration_sum" BIGINT NOT NULL GENERATED ALWAYS AS (JQ_LONG("value", '.durationSum')),
+    "duration_min" BIGINT GENERATED ALWAYS AS (JQ_LONG("value", '.durationMin')),
+    "duration_max" BIGINT GENERATED ALWAYS AS (JQ_LONG("value", '.durationMax'))
+);
+
+CREATE INDEX IF NOT EXISTS execution_rollups_tenant_date ON execution_rollups ("tenant_id", "date");
@@ -0,0 +1,6 @@
+ALTER TABLE executions ADD COLUMN IF NOT EXISTS "rollup_pending" BOOLEAN NOT NULL DEFAULT FALSE;
+ALTER TABLE executions ADD COLUMN IF NOT EXISTS "rollup_date" DATE;
+ALTER TABLE executions ADD COLUMN IF NOT EXISTS "rollup_state" VARCHAR(50);
+ALTER TABLE executions ADD COLUMN IF NOT EXISTS "rollup_duration" BIGINT;
+
+CREATE INDEX IF NOT EXISTS executions_rollup_pending ON executions ("rollup_pending");
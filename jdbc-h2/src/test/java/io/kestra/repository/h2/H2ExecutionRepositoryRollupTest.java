@@ -0,0 +1,7 @@
+package io.kestra.repository.h2;
+
+import io.kestra.jdbc.repository.AbstractJdbcExecutionRollupTest;
+
+class H2ExecutionRepositoryRollupTest extends AbstractJdbcExecutionRollupTest {
+
+}
@@ -0,0 +1,7 @@
+package io.kestra.runner.h2;
+
+import io.kestra.jdbc.runner.AbstractConcurrencyLimitStorageTest;
+
+class H2ConcurrencyLimitStorageTest extends AbstractConcurrencyLimitStorageTest {
+
+}
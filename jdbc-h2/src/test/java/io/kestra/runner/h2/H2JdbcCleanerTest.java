@@ -0,0 +1,7 @@
+package io.kestra.runner.h2;
+
+import io.kestra.jdbc.runner.JdbcCleanerTest;
+
+class H2JdbcCleanerTest extends JdbcCleanerTest {
+
+}
@@ -0,0 +1,9 @@
+package io.kestra.runner.h2;
+
+import io.kestra.jdbc.runner.JdbcRunnerTest;
+import io.micronaut.context.annotation.Property;
+
+@Property(name = "kestra.jdbc.executor.lanes", value = "4")
+class H2RunnerLanesTest extends JdbcRunnerTest {
+
+}
@@ -16,8 +16,8 @@ import java.util.Map;
 @MysqlRepositoryEnabled
 public class MysqlExecutionRepository extends AbstractJdbcExecutionRepository {
     @Inject
-    public MysqlExecutionRepository(ApplicationContext applicationContext, AbstractJdbcExecutorStateStorage executorStateStorage) {
-        super(new MysqlRepository<>(Execution.class, applicationContext), applicationContext, executorStateStorage);
+    public MysqlExecutionRepository(ApplicationContext applicationContext, AbstractJdbcExecutorStateStorage executorStateStorage, MysqlExecutionRollupRepository rollupRepository) {
+        super(new MysqlRepository<>(Execution.class, applicationContext), applicationContext, executorStateStorage, rollupRepository);
     }
 
     @Override
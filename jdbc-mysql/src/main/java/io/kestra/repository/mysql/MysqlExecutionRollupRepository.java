@@ -0,0 +1,16 @@
+package io.kestra.repository.mysql;
+
+import io.kestra.core.models.executions.statistics.ExecutionRollup;
+import io.kestra.jdbc.repository.AbstractJdbcExecutionRollupRepository;
+import io.micronaut.context.ApplicationContext;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+@Singleton
+@MysqlRepositoryEnabled
+public class MysqlExecutionRollupRepository extends AbstractJdbcExecutionRollupRepository {
+    @Inject
+    public MysqlExecutionRollupRepository(ApplicationContext applicationContext) {
+        super(new MysqlRepository<>(ExecutionRollup.class, applicationContext));
+    }
+}
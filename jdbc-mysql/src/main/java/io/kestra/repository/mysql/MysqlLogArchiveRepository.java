@@ -0,0 +1,16 @@
+package io.kestra.repository.mysql;
+
+import io.kestra.core.models.executions.LogArchive;
+import io.kestra.jdbc.repository.AbstractJdbcLogArchiveRepository;
+import io.micronaut.context.ApplicationContext;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+@Singleton
+@MysqlRepositoryEnabled
+public class MysqlLogArchiveRepository extends AbstractJdbcLogArchiveRepository {
+    @Inject
+    public MysqlLogArchiveRepository(ApplicationContext applicationContext) {
+        super(new MysqlRepository<>(LogArchive.class, applicationContext));
+    }
+}
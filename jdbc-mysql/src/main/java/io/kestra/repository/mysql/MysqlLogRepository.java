@@ -13,8 +13,8 @@ import java.util.Arrays;
 @MysqlRepositoryEnabled
 public class MysqlLogRepository extends AbstractJdbcLogRepository {
     @Inject
-    public MysqlLogRepository(ApplicationContext applicationContext) {
-        super(new MysqlRepository<>(LogEntry.class, applicationContext));
+    public MysqlLogRepository(ApplicationContext applicationContext, MysqlLogArchiveRepository logArchiveRepository) {
+        super(new MysqlRepository<>(LogEntry.class, applicationContext), logArchiveRepository, applicationContext);
     }
 
     @Override
@@ -0,0 +1,15 @@
+package io.kestra.runner.mysql;
+
+import io.kestra.core.runners.ConcurrencyLimit;
+import io.kestra.jdbc.runner.AbstractJdbcConcurrencyLimitStorage;
+import io.kestra.repository.mysql.MysqlRepository;
+import io.micronaut.context.ApplicationContext;
+import jakarta.inject.Singleton;
+
+@Singleton
+@MysqlQueueEnabled
+public class MysqlConcurrencyLimitStorage extends AbstractJdbcConcurrencyLimitStorage {
+    public MysqlConcurrencyLimitStorage(ApplicationContext applicationContext) {
+        super(new MysqlRepository<>(ConcurrencyLimit.class, applicationContext));
+    }
+}
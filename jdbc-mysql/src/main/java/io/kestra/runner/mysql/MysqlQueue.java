@@ -43,7 +43,7 @@ public class MysqlQueue<T> extends JdbcQueue<T> {
     }
 
     @Override
-    protected Result<Record> receiveFetch(DSLContext ctx, String consumerGroup, String queueType) {
+    protected Result<Record> receiveFetch(DSLContext ctx, String consumerGroup, String queueType, Condition filter, int limit) {
         var select = ctx
             .select(
                 AbstractJdbcRepository.field("value"),
@@ -55,7 +55,8 @@ public class MysqlQueue<T> extends JdbcQueue<T> {
             .and(DSL.or(List.of(
                 AbstractJdbcRepository.field("consumers").isNull(),
                 DSL.condition("NOT(FIND_IN_SET(?, consumers) > 0)", queueType)
-            )));
+            )))
+            .and(filter);
 
         if (consumerGroup != null) {
             select = select.and(AbstractJdbcRepository.field("consumer_group").eq(consumerGroup));
@@ -64,7 +65,7 @@ public class MysqlQueue<T> extends JdbcQueue<T> {
         }
 
         return select.orderBy(AbstractJdbcRepository.field("offset").asc())
-            .limit(configuration.getPollSize())
+            .limit(limit)
             .forUpdate()
             .skipLocked()
             .fetchMany()
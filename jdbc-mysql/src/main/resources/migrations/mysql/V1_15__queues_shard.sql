@@ -0,0 +1 @@
+ALTER TABLE queues ADD COLUMN `shard` INT;
@@ -0,0 +1,14 @@
+CREATE TABLE IF NOT EXISTS execution_rollups (
+    `key` VARCHAR(250) NOT NULL PRIMARY KEY,
+    `value` JSON NOT NULL,
+    `tenant_id` VARCHAR(250) GENERATED ALWAYS AS (value ->> '$.tenantId') STORED,
+    `namespace` VARCHAR(150) GENERATED ALWAYS AS (value ->> '$.namespace') STORED NOT NULL,
+    `flow_id` VARCHAR(150) GENERATED ALWAYS AS (value ->> '$.flowId') STORED NOT NULL,
+    `date` DATE GENERATED ALWAYS AS (STR_TO_DATE(value ->> '$.date', '%Y-%m-%d')) STORED NOT NULL,
+    `state_current` VARCHAR(50) GENERATED ALWAYS AS (value ->> '$.state') STORED NOT NULL,
+    `count` BIGINT GENERATED ALWAYS AS (value ->> '$.count') STORED NOT NULL,
+    `duration_sum` BIGINT GENERATED ALWAYS AS (value ->> '$.durationSum') STORED NOT NULL,
+    `duration_min` BIGINT GENERATED ALWAYS AS (value ->> '$.durationMin') STORED,
+    `duration_max` BIGINT GENERATED ALWAYS AS (value ->> '$.durationMax') STORED,
+    INDEX ix_tenant_date (tenant_id, `date`)
+);
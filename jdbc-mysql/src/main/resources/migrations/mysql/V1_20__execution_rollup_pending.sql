@@ -0,0 +1,6 @@
+ALTER TABLE executions ADD COLUMN `rollup_pending` BOOLEAN NOT NULL DEFAULT FALSE;
+ALTER TABLE executions ADD COLUMN `rollup_date` DATE;
+ALTER TABLE executions ADD COLUMN `rollup_state` VARCHAR(50);
+ALTER TABLE executions ADD COLUMN `rollup_duration` BIGINT;
+
+CREATE INDEX ix_rollup_pending ON executions (`rollup_pending`);
@@ -0,0 +1 @@
+CREATE INDEX ix_timestamp_execution ON logs (`timestamp`, `execution_id`);
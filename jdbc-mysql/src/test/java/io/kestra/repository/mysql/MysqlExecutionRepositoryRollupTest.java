@@ -0,0 +1,7 @@
+package io.kestra.repository.mysql;
+
+import io.kestra.jdbc.repository.AbstractJdbcExecutionRollupTest;
+
+class MysqlExecutionRepositoryRollupTest extends AbstractJdbcExecutionRollupTest {
+
+}
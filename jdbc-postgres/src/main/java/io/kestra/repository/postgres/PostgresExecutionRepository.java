@@ -19,8 +19,8 @@ import java.util.stream.Collectors;
 @PostgresRepositoryEnabled
 public class PostgresExecutionRepository extends AbstractJdbcExecutionRepository {
     @Inject
-    public PostgresExecutionRepository(ApplicationContext applicationContext, AbstractJdbcExecutorStateStorage executorStateStorage) {
-        super(new PostgresRepository<>(Execution.class, applicationContext), applicationContext, executorStateStorage);
+    public PostgresExecutionRepository(ApplicationContext applicationContext, AbstractJdbcExecutorStateStorage executorStateStorage, PostgresExecutionRollupRepository rollupRepository) {
+        super(new PostgresRepository<>(Execution.class, applicationContext), applicationContext, executorStateStorage, rollupRepository);
     }
 
     @Override
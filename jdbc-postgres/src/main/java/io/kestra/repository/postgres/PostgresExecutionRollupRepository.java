@@ -0,0 +1,16 @@
+package io.kestra.repository.postgres;
+
+import io.kestra.core.models.executions.statistics.ExecutionRollup;
+import io.kestra.jdbc.repository.AbstractJdbcExecutionRollupRepository;
+import io.micronaut.context.ApplicationContext;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+@Singleton
+@PostgresRepositoryEnabled
+public class PostgresExecutionRollupRepository extends AbstractJdbcExecutionRollupRepository {
+    @Inject
+    public PostgresExecutionRollupRepository(ApplicationContext applicationContext) {
+        super(new PostgresRepository<>(ExecutionRollup.class, applicationContext));
+    }
+}
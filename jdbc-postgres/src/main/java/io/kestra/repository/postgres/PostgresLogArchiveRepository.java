@@ -0,0 +1,16 @@
+package io.kestra.repository.postgres;
+
+import io.kestra.core.models.executions.LogArchive;
+import io.kestra.jdbc.repository.AbstractJdbcLogArchiveRepository;
+import io.micronaut.context.ApplicationContext;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+@Singleton
+@PostgresRepositoryEnabled
+public class PostgresLogArchiveRepository extends AbstractJdbcLogArchiveRepository {
+    @Inject
+    public PostgresLogArchiveRepository(ApplicationContext applicationContext) {
+        super(new PostgresRepository<>(LogArchive.class, applicationContext));
+    }
+}
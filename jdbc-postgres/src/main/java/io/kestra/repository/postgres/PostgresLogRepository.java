@@ -18,8 +18,8 @@ import java.util.stream.Collectors;
 @PostgresRepositoryEnabled
 public class PostgresLogRepository extends AbstractJdbcLogRepository {
     @Inject
-    public PostgresLogRepository(ApplicationContext applicationContext) {
-        super(new PostgresRepository<>(LogEntry.class, applicationContext));
+    public PostgresLogRepository(ApplicationContext applicationContext, PostgresLogArchiveRepository logArchiveRepository) {
+        super(new PostgresRepository<>(LogEntry.class, applicationContext), logArchiveRepository, applicationContext);
     }
 
     @Override
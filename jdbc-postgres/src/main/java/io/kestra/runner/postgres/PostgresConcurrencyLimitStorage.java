@@ -0,0 +1,15 @@
+package io.kestra.runner.postgres;
+
+import io.kestra.core.runners.ConcurrencyLimit;
+import io.kestra.jdbc.runner.AbstractJdbcConcurrencyLimitStorage;
+import io.kestra.repository.postgres.PostgresRepository;
+import io.micronaut.context.ApplicationContext;
+import jakarta.inject.Singleton;
+
+@Singleton
+@PostgresQueueEnabled
+public class PostgresConcurrencyLimitStorage extends AbstractJdbcConcurrencyLimitStorage {
+    public PostgresConcurrencyLimitStorage(ApplicationContext applicationContext) {
+        super(new PostgresRepository<>(ConcurrencyLimit.class, applicationContext));
+    }
+}
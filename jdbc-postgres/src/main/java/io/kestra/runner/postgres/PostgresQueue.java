@@ -17,6 +17,10 @@ import static org.jooq.impl.DSL.*;
 public class PostgresQueue<T> extends JdbcQueue<T> {
     private boolean disableSeqScan = false;
 
+    private PostgresQueueNotifier notifier;
+
+    private String channel;
+
     public PostgresQueue(Class<T> cls, ApplicationContext applicationContext) {
         super(cls, applicationContext);
 
@@ -24,6 +28,28 @@ public class PostgresQueue<T> extends JdbcQueue<T> {
         if (maybeDisableSeScan.isPresent() && maybeDisableSeScan.get()) {
             disableSeqScan = true;
         }
+
+        var maybeListenNotify = applicationContext.getProperty("kestra.queue.postgres.listen-notify", Boolean.class);
+        if (maybeListenNotify.isPresent() && maybeListenNotify.get()) {
+            notifier = applicationContext.getBean(PostgresQueueNotifier.class);
+            channel = notifier.channel(cls);
+        }
+    }
+
+    @Override
+    protected void afterProduce(DSLContext context) {
+        if (notifier != null) {
+            notifier.notify(context, channel);
+        }
+    }
+
+    @Override
+    protected void waitForMessages(long timeout) throws InterruptedException {
+        if (notifier != null) {
+            notifier.await(channel, timeout);
+        } else {
+            super.waitForMessages(timeout);
+        }
     }
 
     @Override
@@ -68,7 +94,7 @@ public class PostgresQueue<T> extends JdbcQueue<T> {
     }
 
     @Override
-    protected Result<Record> receiveFetch(DSLContext ctx, String consumerGroup, String queueType) {
+    protected Result<Record> receiveFetch(DSLContext ctx, String consumerGroup, String queueType, Condition filter, int limit) {
         if (disableSeqScan) {
             ctx.setLocal(name("enable_seqscan"), val("off")).execute();
         }
@@ -79,7 +105,8 @@ public class PostgresQueue<T> extends JdbcQueue<T> {
             )
             .from(this.table)
             .where(DSL.condition("type = CAST(? AS queue_type)", this.cls.getName()))
-            .and(AbstractJdbcRepository.field("consumer_" + queueType, Boolean.class).isFalse());
+            .and(AbstractJdbcRepository.field("consumer_" + queueType, Boolean.class).isFalse())
+            .and(filter);
 
         if (consumerGroup != null) {
             select = select.and(AbstractJdbcRepository.field("consumer_group").eq(consumerGroup));
@@ -88,7 +115,7 @@ public class PostgresQueue<T> extends JdbcQueue<T> {
         }
 
         return select.orderBy(AbstractJdbcRepository.field("offset").asc())
-            .limit(configuration.getPollSize())
+            .limit(limit)
             .forUpdate()
             .skipLocked()
             .fetchMany()
@@ -0,0 +1,144 @@
+package io.kestra.runner.postgres;
+
+import io.kestra.core.utils.ExecutorsUtils;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+import org.jooq.DSLContext;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Wake up {@link PostgresQueue} consumers using Postgres LISTEN / NOTIFY.
+ * A single dedicated connection listens on one channel per queue type, producers issue a NOTIFY inside their
+ * transaction so the notification is only delivered on commit.
+ * Polling is still used as a fallback: consumers wait at most the current poll interval.
+ */
+@Singleton
+@PostgresQueueEnabled
+@Slf4j
+public class PostgresQueueNotifier {
+    private static final long LISTEN_TIMEOUT_MS = 500;
+
+    @Inject
+    private DataSource dataSource;
+
+    @Inject
+    private ExecutorsUtils executorsUtils;
+
+    private final Map<String, Channel> channels = new ConcurrentHashMap<>();
+
+    private final ThreadLocal<Map<String, Long>> lastSeen = ThreadLocal.withInitial(ConcurrentHashMap::new);
+
+    private final AtomicBoolean started = new AtomicBoolean(false);
+
+    private volatile boolean running = true;
+
+    private ExecutorService executorService;
+
+    public String channel(Class<?> cls) {
+        return "kestra_queue_" + cls.getSimpleName().toLowerCase();
+    }
+
+    public void notify(DSLContext context, String channel) {
+        context.query("NOTIFY " + channel).execute();
+    }
+
+    public void await(String channel, long timeout) throws InterruptedException {
+        Channel current = this.register(channel);
+        Map<String, Long> seen = lastSeen.get();
+
+        synchronized (current) {
+            if (current.generation == seen.getOrDefault(channel, 0L)) {
+                current.wait(timeout);
+            }
+
+            seen.put(channel, current.generation);
+        }
+    }
+
+    private Channel register(String channel) {
+        Channel current = channels.computeIfAbsent(channel, s -> new Channel());
+
+        if (started.compareAndSet(false, true)) {
+            executorService = executorsUtils.singleThreadExecutor("postgres-queue-notifier");
+            executorService.execute(this::listen);
+        }
+
+        return current;
+    }
+
+    @SuppressWarnings("BusyWait")
+    private void listen() {
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                connection.setAutoCommit(true);
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                Set<String> listening = new HashSet<>();
+
+                // we may have missed some notifications while (re)connecting
+                channels.values().forEach(Channel::wakeUp);
+
+                while (running) {
+                    for (String channel : channels.keySet()) {
+                        if (listening.add(channel)) {
+                            try (Statement statement = connection.createStatement()) {
+                                statement.execute("LISTEN " + channel);
+                            }
+                        }
+                    }
+
+                    PGNotification[] notifications = pgConnection.getNotifications((int) LISTEN_TIMEOUT_MS);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            Channel channel = channels.get(notification.getName());
+                            if (channel != null) {
+                                channel.wakeUp();
+                            }
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (running) {
+                    log.warn("Unable to listen for queue notifications, falling back to polling", e);
+
+                    try {
+                        Thread.sleep(LISTEN_TIMEOUT_MS);
+                    } catch (InterruptedException ex) {
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        running = false;
+
+        if (executorService != null) {
+            executorService.shutdown();
+        }
+    }
+
+    private static class Channel {
+        private long generation = 0;
+
+        synchronized void wakeUp() {
+            generation++;
+            this.notifyAll();
+        }
+    }
+}
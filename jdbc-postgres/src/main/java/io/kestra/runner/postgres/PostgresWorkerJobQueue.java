@@ -9,6 +9,7 @@ import io.micronaut.context.ApplicationContext;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.function.Consumer;
+import java.util.function.IntSupplier;
 
 @Slf4j
 public class PostgresWorkerJobQueue implements WorkerJobQueueInterface {
@@ -23,6 +24,11 @@ public class PostgresWorkerJobQueue implements WorkerJobQueueInterface {
         return jdbcworkerjobQueueService.receive(consumerGroup, queueType, consumer);
     }
 
+    @Override
+    public Runnable receive(String consumerGroup, Class<?> queueType, IntSupplier credits, Consumer<Either<WorkerJob, DeserializationException>> consumer) {
+        return jdbcworkerjobQueueService.receive(consumerGroup, queueType, credits, consumer);
+    }
+
     @Override
     public void pause() {
         jdbcworkerjobQueueService.pause();
@@ -0,0 +1,3 @@
+ALTER TABLE queues ADD COLUMN IF NOT EXISTS shard INTEGER;
+
+CREATE INDEX IF NOT EXISTS queues_type__consumer_executor__shard ON queues (type, consumer_executor, shard, "offset") WHERE consumer_executor = false;
@@ -0,0 +1,20 @@
+CREATE OR REPLACE FUNCTION PARSE_ISO8601_DATE(text) RETURNS date
+    LANGUAGE SQL
+    IMMUTABLE
+    RETURN $1::date;
+
+CREATE TABLE IF NOT EXISTS execution_rollups (
+    key VARCHAR(250) NOT NULL PRIMARY KEY,
+    value JSONB NOT NULL,
+    tenant_id VARCHAR(250) GENERATED ALWAYS AS (value ->> 'tenantId') STORED,
+    namespace VARCHAR(150) NOT NULL GENERATED ALWAYS AS (value ->> 'namespace') STORED,
+    flow_id VARCHAR(150) NOT NULL GENERATED ALWAYS AS (value ->> 'flowId') STORED,
+    date DATE NOT NULL GENERATED ALWAYS AS (PARSE_ISO8601_DATE(value ->> 'date')) STORED,
+    state_current VARCHAR(50) NOT NULL GENERATED ALWAYS AS (value ->> 'state') STORED,
+    count BIGINT NOT NULL GENERATED ALWAYS AS (CAST(value ->> 'count' AS BIGINT)) STORED,
+    duration_sum BIGINT NOT NULL GENERATED ALWAYS AS (CAST(value ->> 'durationSum' AS BIGINT)) STORED,
+    duration_min BIGINT GENERATED ALWAYS AS (CAST(value ->> 'durationMin' AS BIGINT)) STORED,
+    duration_max BIGINT GENERATED ALWAYS AS (CAST(value ->> 'durationMax' AS BIGINT)) STORED
+);
+
+CREATE INDEX IF NOT EXISTS execution_rollups_tenant_date ON execution_rollups (tenant_id, date);
@@ -0,0 +1 @@
+ALTER TABLE executions ADD COLUMN IF NOT EXISTS fingerprint VARCHAR(32);
@@ -0,0 +1 @@
+CREATE INDEX IF NOT EXISTS logs_timestamp_execution ON logs (timestamp, execution_id);
@@ -0,0 +1,7 @@
+package io.kestra.repository.postgres;
+
+import io.kestra.jdbc.repository.AbstractJdbcExecutionRollupTest;
+
+class PostgresExecutionRepositoryRollupTest extends AbstractJdbcExecutionRollupTest {
+
+}
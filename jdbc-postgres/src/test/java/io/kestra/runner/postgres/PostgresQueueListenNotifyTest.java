@@ -0,0 +1,74 @@
+package io.kestra.runner.postgres;
+
+import io.kestra.core.models.flows.Flow;
+import io.kestra.core.queues.QueueFactoryInterface;
+import io.kestra.core.queues.QueueInterface;
+import io.kestra.core.runners.Indexer;
+import io.kestra.core.tasks.debugs.Return;
+import io.kestra.core.utils.IdUtils;
+import io.kestra.jdbc.JdbcTestUtils;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+@MicronautTest(transactional = false)
+@Property(name = "kestra.queue.postgres.listen-notify", value = "true")
+@Property(name = "kestra.jdbc.queues.min-poll-interval", value = "30s")
+@Property(name = "kestra.jdbc.queues.max-poll-interval", value = "30s")
+class PostgresQueueListenNotifyTest {
+    @Inject
+    @Named(QueueFactoryInterface.FLOW_NAMED)
+    QueueInterface<Flow> flowQueue;
+
+    @Inject
+    JdbcTestUtils jdbcTestUtils;
+
+    @Test
+    void wakeUpBeforePollInterval() throws InterruptedException {
+        CountDownLatch first = new CountDownLatch(1);
+        CountDownLatch second = new CountDownLatch(1);
+
+        flowQueue.receive(Indexer.class, either -> {
+            if (either.getLeft().getNamespace().equals("io.kestra.f1")) {
+                first.countDown();
+            } else {
+                second.countDown();
+            }
+        });
+
+        // the consumer polls once, then waits for the next notification or the poll interval
+        flowQueue.emit(builder("io.kestra.f1"));
+        assertThat(first.await(5, TimeUnit.SECONDS), is(true));
+
+        // let the listening connection subscribe to the channel
+        Thread.sleep(1000);
+
+        // with a 30s poll interval, the message can only be received that fast if the consumer was notified
+        flowQueue.emit(builder("io.kestra.f2"));
+        assertThat(second.await(5, TimeUnit.SECONDS), is(true));
+    }
+
+    private static Flow builder(String namespace) {
+        return Flow.builder()
+            .id(IdUtils.create())
+            .namespace(namespace)
+            .tasks(Collections.singletonList(Return.builder().id("test").type(Return.class.getName()).format("test").build()))
+            .build();
+    }
+
+    @BeforeEach
+    protected void init() {
+        jdbcTestUtils.drop();
+        jdbcTestUtils.migrate();
+    }
+}
@@ -14,7 +14,10 @@ import io.micronaut.inject.qualifiers.Qualifiers;
 import jakarta.inject.Singleton;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Consumer;
+import java.util.function.IntSupplier;
 
 @Singleton
 @Slf4j
@@ -37,9 +40,17 @@ public class JdbcWorkerJobQueueService {
     }
 
     public Runnable receive(String consumerGroup, Class<?> queueType, Consumer<Either<WorkerJob, DeserializationException>> consumer) {
+        return this.receive(consumerGroup, queueType, () -> Integer.MAX_VALUE, consumer);
+    }
 
-        this.queueStop = workerTaskQueue.receiveTransaction(consumerGroup, queueType, (dslContext, eithers) -> {
+    /**
+     * Claim at most the number of jobs given by the credits supplier, the jobs claimed are saved as running in the
+     * claiming transaction.
+     */
+    public Runnable receive(String consumerGroup, Class<?> queueType, IntSupplier credits, Consumer<Either<WorkerJob, DeserializationException>> consumer) {
+        this.queueStop = workerTaskQueue.receiveTransaction(consumerGroup, queueType, credits, (dslContext, eithers) -> {
             WorkerInstance workerInstance = jdbcHeartbeat.get();
+            List<WorkerJobRunning> workerJobRunnings = new ArrayList<>();
 
             eithers.forEach(either -> {
                 if (either.isRight()) {
@@ -66,13 +77,15 @@ public class JdbcWorkerJobQueueService {
                     throw new IllegalArgumentException("Message is of type " + workerJob.getClass() + " which should never occurs");
                 }
 
-                jdbcWorkerJobRunningRepository.save(workerJobRunning, dslContext);
+                workerJobRunnings.add(workerJobRunning);
 
                 if (log.isTraceEnabled()) {
                     log.trace("Sending a workerJobRunning: {}", workerJobRunning);
                 }
             });
 
+            jdbcWorkerJobRunningRepository.saveAll(workerJobRunnings, dslContext);
+
             eithers.forEach(consumer);
         });
 
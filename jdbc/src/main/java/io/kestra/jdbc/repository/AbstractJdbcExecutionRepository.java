@@ -1,11 +1,15 @@
 package io.kestra.jdbc.repository;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
 import io.kestra.core.events.CrudEvent;
 import io.kestra.core.events.CrudEventType;
 import io.kestra.core.models.executions.Execution;
 import io.kestra.core.models.executions.TaskRun;
 import io.kestra.core.models.executions.statistics.DailyExecutionStatistics;
 import io.kestra.core.models.executions.statistics.ExecutionCount;
+import io.kestra.core.models.executions.statistics.ExecutionRollup;
 import io.kestra.core.models.executions.statistics.ExecutionStatistics;
 import io.kestra.core.models.executions.statistics.Flow;
 import io.kestra.core.models.flows.State;
@@ -32,38 +36,55 @@ import org.jooq.*;
 import org.jooq.impl.DSL;
 
 import javax.annotation.Nullable;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.Comparator;
 import java.util.*;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Singleton
 public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcRepository implements ExecutionRepositoryInterface, JdbcIndexerInterface<Execution> {
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
     protected final io.kestra.jdbc.AbstractJdbcRepository<Execution> jdbcRepository;
     private final ApplicationEventPublisher<CrudEvent<Execution>> eventPublisher;
     private final ApplicationContext applicationContext;
     protected final AbstractJdbcExecutorStateStorage executorStateStorage;
+    protected final AbstractJdbcExecutionRollupRepository rollupRepository;
+    private final boolean rollupEnabled;
 
     private QueueInterface<Execution> executionQueue;
 
+    private final Cache<String, LockedExecution> lockCache;
+
     @SuppressWarnings("unchecked")
     public AbstractJdbcExecutionRepository(
         io.kestra.jdbc.AbstractJdbcRepository<Execution> jdbcRepository,
         ApplicationContext applicationContext,
-        AbstractJdbcExecutorStateStorage executorStateStorage
+        AbstractJdbcExecutorStateStorage executorStateStorage,
+        AbstractJdbcExecutionRollupRepository rollupRepository
     ) {
         this.jdbcRepository = jdbcRepository;
         this.executorStateStorage = executorStateStorage;
+        this.rollupRepository = rollupRepository;
+        this.rollupEnabled = applicationContext.getProperty("kestra.jdbc.statistics.rollup-enabled", Boolean.class).orElse(false);
         this.eventPublisher = applicationContext.getBean(ApplicationEventPublisher.class);
 
         // we inject ApplicationContext in order to get the ExecutionQueue lazy to avoid StackOverflowError
         this.applicationContext = applicationContext;
+
+        this.lockCache = CacheBuilder.newBuilder()
+            .maximumSize(applicationContext.getProperty("kestra.jdbc.executor.lock-cache-size", Integer.class).orElse(1000))
+            .expireAfterAccess(Duration.ofMinutes(10))
+            .build();
     }
 
     @SuppressWarnings("unchecked")
@@ -335,6 +356,10 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
         ZonedDateTime finalStartDate = startDate == null ? ZonedDateTime.now().minusDays(30) : startDate;
         ZonedDateTime finalEndDate = endDate == null ? ZonedDateTime.now() : endDate;
 
+        if (this.useRollups(query, Duration.between(finalStartDate, finalEndDate), groupBy)) {
+            return this.dailyStatisticsRollupQuery(fields, tenantId, namespace, flowId, flows, finalStartDate, finalEndDate, groupBy);
+        }
+
         List<Field<?>> dateFields = new ArrayList<>(groupByFields(Duration.between(finalStartDate, finalEndDate), "start_date", groupBy));
         List<Field<?>> selectFields = new ArrayList<>(fields);
         selectFields.addAll(List.of(
@@ -370,6 +395,119 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
             });
     }
 
+    /**
+     * The rollups are only kept by day, they can answer the queries grouped by day or more without full-text search.
+     */
+    private boolean useRollups(@Nullable String query, Duration duration, @Nullable DateUtils.GroupType groupBy) {
+        if (!this.rollupEnabled || query != null) {
+            return false;
+        }
+
+        return groupBy == DateUtils.GroupType.MONTH ||
+            groupBy == DateUtils.GroupType.WEEK ||
+            groupBy == DateUtils.GroupType.DAY ||
+            duration.toDays() > DateUtils.GroupValue.DAY.getValue();
+    }
+
+    /**
+     * The rollups only answer for the days fully in the range, the executions of the first and last days are
+     * counted from the executions table so the result is the same as {@link #dailyStatisticsQuery}.
+     */
+    private Results dailyStatisticsRollupQuery(
+        List<Field<?>> fields,
+        @Nullable String tenantId,
+        @Nullable String namespace,
+        @Nullable String flowId,
+        List<FlowFilter> flows,
+        ZonedDateTime startDate,
+        ZonedDateTime endDate,
+        @Nullable DateUtils.GroupType groupBy
+    ) {
+        Duration duration = Duration.between(startDate, endDate);
+        ZonedDateTime firstFullDay = startDate.truncatedTo(ChronoUnit.DAYS).equals(startDate) ?
+            startDate :
+            startDate.truncatedTo(ChronoUnit.DAYS).plusDays(1);
+        ZonedDateTime lastDay = endDate.truncatedTo(ChronoUnit.DAYS);
+
+        List<Field<?>> rollupFields = new ArrayList<>(fields);
+        rollupFields.addAll(List.of(
+            DSL.sum(field("count", Long.class)).as("count"),
+            DSL.min(field("duration_min", Long.class)).as("duration_min"),
+            DSL.max(field("duration_max", Long.class)).as("duration_max"),
+            DSL.sum(field("duration_sum", Long.class)).as("duration_sum")
+        ));
+        List<Field<?>> rollupDateFields = groupByFields(duration, "date", groupBy);
+        rollupFields.addAll(rollupDateFields);
+
+        List<Field<?>> executionFields = new ArrayList<>(fields);
+        executionFields.addAll(List.of(
+            DSL.count().as("count"),
+            DSL.min(field("state_duration", Long.class)).as("duration_min"),
+            DSL.max(field("state_duration", Long.class)).as("duration_max"),
+            DSL.sum(field("state_duration", Long.class)).as("duration_sum")
+        ));
+        List<Field<?>> executionDateFields = groupByFields(duration, "start_date", groupBy);
+        executionFields.addAll(executionDateFields);
+
+        // the union is grouped again, a week or a month can have rows from both tables
+        List<Field<?>> groupFields = new ArrayList<>();
+        fields.forEach(f -> groupFields.add(field(f.getName(), f.getType())));
+        rollupDateFields.forEach(f -> groupFields.add(field(f.getName(), f.getType())));
+
+        List<Field<?>> selectFields = new ArrayList<>(groupFields);
+        selectFields.addAll(List.of(
+            DSL.sum(field("count", Long.class)).as("count"),
+            DSL.min(field("duration_min", Long.class)).as("duration_min"),
+            DSL.max(field("duration_max", Long.class)).as("duration_max"),
+            DSL.sum(field("duration_sum", Long.class)).as("duration_sum")
+        ));
+
+        return jdbcRepository
+            .getDslContextWrapper()
+            .transactionResult(configuration -> {
+                DSLContext context = DSL.using(configuration);
+
+                SelectConditionStep<?> rollups = context
+                    .select(rollupFields)
+                    .from(this.rollupRepository.getTable())
+                    .where(this.buildTenantCondition(tenantId))
+                    .and(field("date", LocalDate.class).greaterOrEqual(firstFullDay.toLocalDate()))
+                    .and(field("date", LocalDate.class).lessThan(lastDay.toLocalDate()));
+
+                rollups = filteringQuery(rollups, namespace, flowId, flows, null, null, null);
+
+                SelectConditionStep<?> executions = context
+                    .select(executionFields)
+                    .from(this.jdbcRepository.getTable())
+                    .where(this.defaultFilter(tenantId))
+                    .and(field("start_date").greaterOrEqual(startDate.toOffsetDateTime()))
+                    .and(field("start_date").lessOrEqual(endDate.toOffsetDateTime()))
+                    .and(DSL.or(
+                        field("start_date").lessThan(firstFullDay.toOffsetDateTime()),
+                        field("start_date").greaterOrEqual(lastDay.toOffsetDateTime())
+                    ));
+
+                executions = filteringQuery(executions, namespace, flowId, flows, null, null, null);
+
+                List<Field<?>> rollupGroupFields = new ArrayList<>(fields);
+                rollupGroupFields.addAll(rollupDateFields);
+
+                List<Field<?>> executionGroupFields = new ArrayList<>(fields);
+                executionGroupFields.addAll(executionDateFields);
+
+                Table<?> union = rollups
+                    .groupBy(rollupGroupFields)
+                    .unionAll(executions.groupBy(executionGroupFields))
+                    .asTable("statistics");
+
+                return context
+                    .select(selectFields)
+                    .from(union)
+                    .groupBy(groupFields)
+                    .fetchMany();
+            });
+    }
+
     private <T extends Record> SelectConditionStep<T> filteringQuery(
         SelectConditionStep<T> select,
         @Nullable String namespace,
@@ -695,20 +833,175 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
 
     @Override
     public Execution save(Execution execution) {
-        Map<Field<Object>, Object> fields = this.jdbcRepository.persistFields(execution);
-        this.jdbcRepository.persist(execution, fields);
+        Map<Field<Object>, Object> fields = this.persistFields(execution);
+        this.persist(execution, fields);
 
         return execution;
     }
 
     @Override
     public Execution save(DSLContext dslContext, Execution execution) {
-        Map<Field<Object>, Object> fields = this.jdbcRepository.persistFields(execution);
-        this.jdbcRepository.persist(execution, dslContext, fields);
+        Map<Field<Object>, Object> fields = this.persistFields(execution);
+        this.persist(dslContext, execution, fields);
 
         return execution;
     }
 
+    private void persist(Execution execution, Map<Field<Object>, Object> fields) {
+        this.jdbcRepository.persist(execution, fields);
+    }
+
+    private void persist(DSLContext context, Execution execution, @Nullable Map<Field<Object>, Object> fields) {
+        this.jdbcRepository.persist(execution, context, fields);
+    }
+
+    /**
+     * Move the executions persisted since their last rollup between the rollups, see {@link #persistFields(Execution)}.
+     * The executions are locked and the ones locked by an executor are skipped, they will be part of a next batch.
+     *
+     * @return the number of executions rolled up
+     */
+    public int applyPendingRollups(int batchSize) {
+        List<Field<?>> selectFields = new ArrayList<>(List.of(
+            field("key"),
+            field("deleted"),
+            field("tenant_id"),
+            field("namespace"),
+            field("flow_id"),
+            field("state_current"),
+            field("state_duration"),
+            field("rollup_date"),
+            field("rollup_state"),
+            field("rollup_duration")
+        ));
+        selectFields.addAll(this.groupByFields(Duration.ZERO, "start_date", DateUtils.GroupType.DAY));
+
+        return this.jdbcRepository
+            .getDslContextWrapper()
+            .transactionResult(configuration -> {
+                DSLContext context = DSL.using(configuration);
+
+                Result<Record> records = context
+                    .select(selectFields)
+                    .from(this.jdbcRepository.getTable())
+                    .where(field("rollup_pending", Boolean.class).isTrue())
+                    .limit(batchSize)
+                    .forUpdate()
+                    .skipLocked()
+                    .fetch();
+
+                List<ExecutionRollup> deltas = new ArrayList<>();
+                List<Query> updates = new ArrayList<>();
+
+                records.forEach(record -> {
+                    Optional<ExecutionRollup> previous = this.appliedRollupOf(record);
+                    Optional<ExecutionRollup> current = Boolean.TRUE.equals(record.get("deleted", Boolean.class)) ?
+                        Optional.empty() :
+                        Optional.of(this.rollupOf(record));
+
+                    previous.map(ExecutionRollup::negate).ifPresent(deltas::add);
+                    current.ifPresent(deltas::add);
+
+                    updates.add(context
+                        .update(this.jdbcRepository.getTable())
+                        .set(field("rollup_pending"), false)
+                        .set(field("rollup_date"), current.map(ExecutionRollup::getDate).orElse(null))
+                        .set(field("rollup_state"), current.map(rollup -> rollup.getState().name()).orElse(null))
+                        .set(field("rollup_duration"), current.map(ExecutionRollup::getDurationSum).orElse(null))
+                        .where(field("key").eq(record.get("key", String.class)))
+                    );
+                });
+
+                this.rollupRepository.add(context, deltas);
+
+                if (!updates.isEmpty()) {
+                    context.batch(updates).execute();
+                }
+
+                return records.size();
+            });
+    }
+
+    /**
+     * The contribution of an execution to the rollups the last time it was rolled up.
+     */
+    private Optional<ExecutionRollup> appliedRollupOf(Record record) {
+        if (record.get("rollup_state", String.class) == null) {
+            return Optional.empty();
+        }
+
+        Long duration = record.get("rollup_duration", Long.class);
+
+        return Optional.of(ExecutionRollup.builder()
+            .tenantId(record.get("tenant_id", String.class))
+            .namespace(record.get("namespace", String.class))
+            .flowId(record.get("flow_id", String.class))
+            .date(record.get("rollup_date", LocalDate.class))
+            .state(State.Type.valueOf(record.get("rollup_state", String.class)))
+            .count(1L)
+            .durationSum(duration)
+            .durationMin(duration)
+            .durationMax(duration)
+            .build()
+        );
+    }
+
+    /**
+     * The contribution of an execution to the rollups, using the same day and duration as the statistics computed
+     * from the executions table.
+     */
+    private ExecutionRollup rollupOf(Record record) {
+        Long duration = record.get("state_duration", Long.class);
+
+        return ExecutionRollup.builder()
+            .tenantId(record.get("tenant_id", String.class))
+            .namespace(record.get("namespace", String.class))
+            .flowId(record.get("flow_id", String.class))
+            .date(LocalDate.of(
+                record.get("year", Integer.class),
+                record.get("month", Integer.class),
+                record.get("day", Integer.class)
+            ))
+            .state(State.Type.valueOf(record.get("state_current", String.class)))
+            .count(1L)
+            .durationSum(duration)
+            .durationMin(duration)
+            .durationMax(duration)
+            .build();
+    }
+
+    /**
+     * Recompute all the rollups from the executions, in order to backfill them when they are enabled.
+     * Executions updated while the rollups are rebuilt may be counted twice or missed, it should be run with the
+     * executors stopped.
+     *
+     * @return the number of rollups
+     */
+    public int rebuildRollups() {
+        this.jdbcRepository
+            .getDslContextWrapper()
+            .transaction(configuration -> {
+                DSLContext context = DSL.using(configuration);
+
+                this.rollupRepository.deleteAll(context);
+
+                context
+                    .update(this.jdbcRepository.getTable())
+                    .set(field("rollup_pending"), true)
+                    .set(field("rollup_date"), (Object) null)
+                    .set(field("rollup_state"), (Object) null)
+                    .set(field("rollup_duration"), (Object) null)
+                    .execute();
+            });
+
+        int applied;
+        do {
+            applied = this.applyPendingRollups(REBUILD_BATCH_SIZE);
+        } while (applied > 0);
+
+        return this.rollupRepository.count();
+    }
+
     @SneakyThrows
     @Override
     public Execution delete(Execution execution) {
@@ -719,8 +1012,8 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
 
         Execution deleted = execution.toDeleted();
 
-        Map<Field<Object>, Object> fields = this.jdbcRepository.persistFields(deleted);
-        this.jdbcRepository.persist(deleted, fields);
+        Map<Field<Object>, Object> fields = this.persistFields(deleted);
+        this.persist(deleted, fields);
 
         executionQueue().emit(deleted);
 
@@ -731,23 +1024,53 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
 
     @Override
     public Integer purge(Execution execution) {
-        return this.jdbcRepository.delete(execution);
-    }
+        if (!this.rollupEnabled) {
+            return this.jdbcRepository.delete(execution);
+        }
 
-    public Executor lock(String executionId, Function<Pair<Execution, ExecutorState>, Pair<Executor, ExecutorState>> function) {
+        // the rollup updater can't see a purged execution, its last rollup is removed with it
         return this.jdbcRepository
             .getDslContextWrapper()
             .transactionResult(configuration -> {
                 DSLContext context = DSL.using(configuration);
 
-                SelectForUpdateOfStep<Record1<Object>> from = context
-                    .select(field("value"))
+                Optional<ExecutionRollup> applied = context
+                    .select(
+                        field("tenant_id"),
+                        field("namespace"),
+                        field("flow_id"),
+                        field("rollup_date"),
+                        field("rollup_state"),
+                        field("rollup_duration")
+                    )
                     .from(this.jdbcRepository.getTable())
-                    .where(field("key").eq(executionId))
-                    .and(this.defaultFilter())
-                    .forUpdate();
+                    .where(field("key").eq(execution.getId()))
+                    .forUpdate()
+                    .fetchOptional()
+                    .flatMap(this::appliedRollupOf);
 
-                Optional<Execution> execution = this.jdbcRepository.fetchOne(from);
+                int deleted = this.jdbcRepository.delete(context, execution);
+                applied.ifPresent(rollup -> this.rollupRepository.add(context, List.of(rollup.negate())));
+
+                return deleted;
+            });
+    }
+
+    public Executor lock(String executionId, Function<Pair<Execution, ExecutorState>, Pair<Executor, ExecutorState>> function) {
+        return this.lock(executionId, (context, pair) -> function.apply(pair));
+    }
+
+    /**
+     * Same as {@link #lock(String, Function)}, the function also receives the context of the lock transaction
+     * to update other tables atomically with the execution.
+     */
+    public Executor lock(String executionId, BiFunction<DSLContext, Pair<Execution, ExecutorState>, Pair<Executor, ExecutorState>> function) {
+        return this.jdbcRepository
+            .getDslContextWrapper()
+            .transactionResult(configuration -> {
+                DSLContext context = DSL.using(configuration);
+
+                Optional<Execution> execution = this.lockExecution(context, executionId);
 
                 // not ready for now, skip and wait for a first state
                 if (execution.isEmpty()) {
@@ -755,12 +1078,22 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
                 }
 
                 ExecutorState executorState = executorStateStorage.get(context, execution.get());
-                Pair<Executor, ExecutorState> pair = function.apply(Pair.of(execution.get(), executorState));
+                Pair<Executor, ExecutorState> pair = function.apply(context, Pair.of(execution.get(), executorState));
 
                 if (pair != null) {
-                    this.jdbcRepository.persist(pair.getKey().getExecution(), context, null);
+                    Execution current = pair.getKey().getExecution();
+                    Map<Field<Object>, Object> fields = this.persistFields(current);
+
+                    this.persist(context, current, fields);
                     this.executorStateStorage.save(context, pair.getRight());
 
+                    // if the transaction is rolled back, the stored fingerprint will not match and the execution will be fetched
+                    if (current.getState().isTerminated()) {
+                        lockCache.invalidate(executionId);
+                    } else {
+                        lockCache.put(executionId, new LockedExecution(fingerprint(fields), current));
+                    }
+
                     return pair.getKey();
                 }
 
@@ -768,6 +1101,77 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
             });
     }
 
+    /**
+     * Lock the execution row while only fetching the fingerprint stored with its value, the full document is only
+     * fetched and deserialized if it was changed since the last time this instance has persisted it.
+     */
+    private Optional<Execution> lockExecution(DSLContext context, String executionId) {
+        Optional<Record1<String>> locked = context
+            .select(field("fingerprint", String.class))
+            .from(this.jdbcRepository.getTable())
+            .where(field("key").eq(executionId))
+            .and(this.defaultFilter())
+            .forUpdate()
+            .fetchOptional();
+
+        if (locked.isEmpty()) {
+            lockCache.invalidate(executionId);
+            return Optional.empty();
+        }
+
+        LockedExecution cached = lockCache.getIfPresent(executionId);
+        if (cached != null && cached.fingerprint().equals(locked.get().value1())) {
+            return Optional.of(cached.execution());
+        }
+
+        lockCache.invalidate(executionId);
+
+        return this.jdbcRepository.fetchOne(context
+            .select(field("value"))
+            .from(this.jdbcRepository.getTable())
+            .where(field("key").eq(executionId))
+            .and(this.defaultFilter())
+        );
+    }
+
+    /**
+     * The fields to persist an execution, with a fingerprint of its serialized value used by
+     * {@link #lock(String, Function)} to detect that it was updated by another writer.
+     */
+    /**
+     * With the rollups enabled, a persisted execution is only flagged, it's moved between the rollups later by
+     * {@link #applyPendingRollups(int)} so the rollup rows are not locked while the execution is.
+     */
+    private Map<Field<Object>, Object> persistFields(Execution execution) {
+        Map<Field<Object>, Object> fields = this.jdbcRepository.persistFields(execution);
+        fields.put(field("fingerprint"), fingerprint(fields));
+
+        if (this.rollupEnabled) {
+            fields.put(field("rollup_pending"), true);
+        }
+
+        return fields;
+    }
+
+    private static String fingerprint(Map<Field<Object>, Object> fields) {
+        Object value = fields.get(field("value"));
+
+        // some dialects bind the value as a typed parameter
+        if (value instanceof Param<?> param) {
+            value = param.getValue();
+        }
+
+        if (value instanceof JSONB jsonb) {
+            value = jsonb.data();
+        }
+
+        return Hashing.murmur3_128()
+            .hashString(String.valueOf(value), StandardCharsets.UTF_8)
+            .toString();
+    }
+
+    private record LockedExecution(String fingerprint, Execution execution) {}
+
     @Override
     public Function<String, String> sortMapping() throws IllegalArgumentException {
         Map<String, String> mapper = Map.of(
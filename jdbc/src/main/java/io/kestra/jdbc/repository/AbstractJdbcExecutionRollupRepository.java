@@ -0,0 +1,75 @@
+package io.kestra.jdbc.repository;
+
+import io.kestra.core.models.executions.statistics.ExecutionRollup;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Keep the executions counts and durations per tenant, namespace, flow, day and state, maintained by
+ * {@link AbstractJdbcExecutionRepository#applyPendingRollups(int)} from the executions persisted since the last run.
+ */
+public abstract class AbstractJdbcExecutionRollupRepository extends AbstractJdbcRepository {
+    protected io.kestra.jdbc.AbstractJdbcRepository<ExecutionRollup> jdbcRepository;
+
+    public AbstractJdbcExecutionRollupRepository(io.kestra.jdbc.AbstractJdbcRepository<ExecutionRollup> jdbcRepository) {
+        this.jdbcRepository = jdbcRepository;
+    }
+
+    public Table<Record> getTable() {
+        return this.jdbcRepository.getTable();
+    }
+
+    /**
+     * Add the deltas to their buckets, the buckets are locked in a consistent order to avoid deadlocks between
+     * concurrent updates, and deleted once they are empty.
+     */
+    public void add(DSLContext context, List<ExecutionRollup> deltas) {
+        Map<String, ExecutionRollup> merged = new LinkedHashMap<>();
+        deltas.forEach(delta -> merged.merge(delta.uid(), delta, ExecutionRollup::plus));
+
+        merged.values()
+            .stream()
+            .sorted(Comparator.comparing(ExecutionRollup::uid))
+            .forEach(delta -> {
+                ExecutionRollup current = this.findForUpdate(context, delta)
+                    .map(rollup -> rollup.plus(delta))
+                    .orElse(delta);
+
+                if (current.getCount() <= 0) {
+                    this.jdbcRepository.delete(context, current);
+                } else {
+                    Map<Field<Object>, Object> fields = this.jdbcRepository.persistFields(current);
+                    this.jdbcRepository.persist(current, context, fields);
+                }
+            });
+    }
+
+    public void deleteAll(DSLContext context) {
+        context.delete(this.jdbcRepository.getTable()).execute();
+    }
+
+    public int count() {
+        return this.jdbcRepository
+            .getDslContextWrapper()
+            .transactionResult(configuration -> DSL.using(configuration).fetchCount(this.jdbcRepository.getTable()));
+    }
+
+    private Optional<ExecutionRollup> findForUpdate(DSLContext context, ExecutionRollup rollup) {
+        var select = context
+            .select(field("value"))
+            .from(this.jdbcRepository.getTable())
+            .where(field("key").eq(rollup.uid()))
+            .forUpdate();
+
+        return this.jdbcRepository.fetchOne(select);
+    }
+}
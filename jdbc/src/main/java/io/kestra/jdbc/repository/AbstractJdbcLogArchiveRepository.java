@@ -0,0 +1,51 @@
+package io.kestra.jdbc.repository;
+
+import io.kestra.core.models.executions.LogArchive;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record1;
+import org.jooq.SelectConditionStep;
+import org.jooq.impl.DSL;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Keep track of the logs of each execution archived by {@link AbstractJdbcLogRepository#archive} into the internal
+ * storage.
+ */
+public abstract class AbstractJdbcLogArchiveRepository extends AbstractJdbcRepository {
+    protected io.kestra.jdbc.AbstractJdbcRepository<LogArchive> jdbcRepository;
+
+    public AbstractJdbcLogArchiveRepository(io.kestra.jdbc.AbstractJdbcRepository<LogArchive> jdbcRepository) {
+        this.jdbcRepository = jdbcRepository;
+    }
+
+    public Optional<LogArchive> findByExecutionId(String tenantId, String executionId) {
+        return this.jdbcRepository
+            .getDslContextWrapper()
+            .transactionResult(configuration -> this.findByExecutionId(DSL.using(configuration), tenantId, executionId, false));
+    }
+
+    public Optional<LogArchive> findByExecutionId(DSLContext context, String tenantId, String executionId, boolean forUpdate) {
+        SelectConditionStep<Record1<Object>> select = context
+            .select(field("value"))
+            .from(this.jdbcRepository.getTable())
+            // the key is the execution id, so the lookup is done on the primary key
+            .where(field("key").eq(executionId))
+            .and(this.buildTenantCondition(tenantId));
+
+        return this.jdbcRepository.fetchOne(forUpdate ? select.forUpdate() : select);
+    }
+
+    public LogArchive save(DSLContext context, LogArchive logArchive) {
+        Map<Field<Object>, Object> fields = this.jdbcRepository.persistFields(logArchive);
+        this.jdbcRepository.persist(logArchive, context, fields);
+
+        return logArchive;
+    }
+
+    public void delete(DSLContext context, LogArchive logArchive) {
+        this.jdbcRepository.delete(context, logArchive);
+    }
+}
@@ -1,27 +1,65 @@
 package io.kestra.jdbc.repository;
 
 import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.executions.LogArchive;
 import io.kestra.core.models.executions.LogEntry;
 import io.kestra.core.repositories.ArrayListTotal;
 import io.kestra.core.repositories.LogRepositoryInterface;
+import io.kestra.core.serializers.FileSerde;
+import io.kestra.core.storages.StorageInterface;
+import io.kestra.core.utils.IdUtils;
 import io.kestra.jdbc.runner.JdbcIndexerInterface;
+import io.micronaut.context.ApplicationContext;
 import io.micronaut.data.model.Pageable;
 import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
 import org.jooq.*;
 import org.jooq.impl.DSL;
 import org.slf4j.event.Level;
 
 import javax.annotation.Nullable;
+import java.io.*;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 @Singleton
+@Slf4j
 public abstract class AbstractJdbcLogRepository extends AbstractJdbcRepository implements LogRepositoryInterface, JdbcIndexerInterface<LogEntry> {
     protected io.kestra.jdbc.AbstractJdbcRepository<LogEntry> jdbcRepository;
-
-    public AbstractJdbcLogRepository(io.kestra.jdbc.AbstractJdbcRepository<LogEntry> jdbcRepository) {
+    private final AbstractJdbcLogArchiveRepository logArchiveRepository;
+    private final ApplicationContext applicationContext;
+    private final boolean archiveEnabled;
+    private StorageInterface storageInterface;
+
+    public AbstractJdbcLogRepository(
+        io.kestra.jdbc.AbstractJdbcRepository<LogEntry> jdbcRepository,
+        AbstractJdbcLogArchiveRepository logArchiveRepository,
+        ApplicationContext applicationContext
+    ) {
         this.jdbcRepository = jdbcRepository;
+        this.logArchiveRepository = logArchiveRepository;
+        this.applicationContext = applicationContext;
+        this.archiveEnabled = applicationContext.getProperty("kestra.jdbc.log-archive.enabled", Boolean.class).orElse(false);
+    }
+
+    // resolved lazily as the storage is only needed once some logs are archived
+    private StorageInterface storageInterface() {
+        if (this.storageInterface == null) {
+            this.storageInterface = applicationContext.getBean(StorageInterface.class);
+        }
+
+        return this.storageInterface;
     }
 
     abstract protected Condition findCondition(String query);
@@ -79,7 +117,9 @@ public abstract class AbstractJdbcLogRepository extends AbstractJdbcRepository i
     public List<LogEntry> findByExecutionId(String tenantId, String executionId, Level minLevel) {
         return this.query(
             tenantId,
+            executionId,
             field("execution_id").eq(executionId),
+            null,
             minLevel
         );
     }
@@ -88,7 +128,9 @@ public abstract class AbstractJdbcLogRepository extends AbstractJdbcRepository i
     public ArrayListTotal<LogEntry> findByExecutionId(String tenantId, String executionId, Level minLevel, Pageable pageable) {
         return this.query(
             tenantId,
+            executionId,
             field("execution_id").eq(executionId),
+            null,
             minLevel,
             pageable
         );
@@ -98,8 +140,10 @@ public abstract class AbstractJdbcLogRepository extends AbstractJdbcRepository i
     public List<LogEntry> findByExecutionIdAndTaskId(String tenantId, String executionId, String taskId, Level minLevel) {
         return this.query(
             tenantId,
+            executionId,
             field("execution_id").eq(executionId)
                 .and(field("task_id").eq(taskId)),
+            logEntry -> taskId.equals(logEntry.getTaskId()),
             minLevel
         );
     }
@@ -107,8 +151,10 @@ public abstract class AbstractJdbcLogRepository extends AbstractJdbcRepository i
     public ArrayListTotal<LogEntry> findByExecutionIdAndTaskId(String tenantId, String executionId, String taskId, Level minLevel, Pageable pageable) {
         return this.query(
             tenantId,
+            executionId,
             field("execution_id").eq(executionId)
                 .and(field("task_id").eq(taskId)),
+            logEntry -> taskId.equals(logEntry.getTaskId()),
             minLevel,
             pageable
         );
@@ -118,8 +164,10 @@ public abstract class AbstractJdbcLogRepository extends AbstractJdbcRepository i
     public List<LogEntry> findByExecutionIdAndTaskRunId(String tenantId, String executionId, String taskRunId, Level minLevel) {
         return this.query(
             tenantId,
+            executionId,
             field("execution_id").eq(executionId)
                 .and(field("taskrun_id").eq(taskRunId)),
+            logEntry -> taskRunId.equals(logEntry.getTaskRunId()),
             minLevel
         );
     }
@@ -128,8 +176,10 @@ public abstract class AbstractJdbcLogRepository extends AbstractJdbcRepository i
     public ArrayListTotal<LogEntry> findByExecutionIdAndTaskRunId(String tenantId, String executionId, String taskRunId, Level minLevel, Pageable pageable) {
         return this.query(
             tenantId,
+            executionId,
             field("execution_id").eq(executionId)
                 .and(field("taskrun_id").eq(taskRunId)),
+            logEntry -> taskRunId.equals(logEntry.getTaskRunId()),
             minLevel,
             pageable
         );
@@ -139,9 +189,11 @@ public abstract class AbstractJdbcLogRepository extends AbstractJdbcRepository i
     public List<LogEntry> findByExecutionIdAndTaskRunIdAndAttempt(String tenantId, String executionId, String taskRunId, Level minLevel, Integer attempt) {
         return this.query(
             tenantId,
+            executionId,
             field("execution_id").eq(executionId)
                 .and(field("taskrun_id").eq(taskRunId))
                 .and(field("attempt_number").eq(attempt)),
+            logEntry -> taskRunId.equals(logEntry.getTaskRunId()) && attempt.equals(logEntry.getAttemptNumber()),
             minLevel
         );
     }
@@ -150,9 +202,11 @@ public abstract class AbstractJdbcLogRepository extends AbstractJdbcRepository i
     public ArrayListTotal<LogEntry> findByExecutionIdAndTaskRunIdAndAttempt(String tenantId, String executionId, String taskRunId, Level minLevel, Integer attempt, Pageable pageable) {
         return this.query(
             tenantId,
+            executionId,
             field("execution_id").eq(executionId)
                 .and(field("taskrun_id").eq(taskRunId))
                 .and(field("attempt_number").eq(attempt)),
+            logEntry -> taskRunId.equals(logEntry.getTaskRunId()) && attempt.equals(logEntry.getAttemptNumber()),
             minLevel,
             pageable
         );
@@ -168,15 +222,204 @@ public abstract class AbstractJdbcLogRepository extends AbstractJdbcRepository i
 
     @Override
     public Integer purge(Execution execution) {
-        return this.jdbcRepository
+        Optional<LogArchive> logArchive = this.logArchiveRepository.findByExecutionId(execution.getTenantId(), execution.getId());
+
+        Integer deleted = this.jdbcRepository
             .getDslContextWrapper()
             .transactionResult(configuration -> {
                 DSLContext context = DSL.using(configuration);
 
+                logArchive.ifPresent(archive -> this.logArchiveRepository.delete(context, archive));
+
                 return context.delete(this.jdbcRepository.getTable())
                     .where(field("execution_id", String.class).eq(execution.getId()))
                     .execute();
             });
+
+        if (logArchive.isPresent()) {
+            for (LogArchive.Segment segment : logArchive.get().getSegments()) {
+                try {
+                    this.storageInterface().delete(execution.getTenantId(), segment.getUri());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+
+            deleted += logArchive.get().getCount().intValue();
+        }
+
+        return deleted;
+    }
+
+    /**
+     * Move the logs older than a date into a new compressed segment of the internal storage, listed with the segments
+     * archived previously for the same execution, so the logs table only keeps the recent logs.
+     * The archived logs are still returned by the execution scoped finders.
+     *
+     * @return the number of logs archived
+     */
+    public int archive(ZonedDateTime before, int limit) {
+        // an index range on the timestamp, the executions still logging are only partially archived
+        List<Record2<Object, Object>> executions = this.jdbcRepository
+            .getDslContextWrapper()
+            .transactionResult(configuration -> DSL
+                .using(configuration)
+                .selectDistinct(field("tenant_id"), field("execution_id"))
+                .from(this.jdbcRepository.getTable())
+                .where(field("timestamp").lessOrEqual(before.toOffsetDateTime()))
+                .and(this.defaultFilter())
+                .and(field("execution_id").isNotNull())
+                .limit(limit)
+                .fetch()
+            );
+
+        int archived = 0;
+        for (Record2<Object, Object> execution : executions) {
+            archived += this.archive(
+                (String) execution.value1(),
+                (String) execution.value2(),
+                before
+            );
+        }
+
+        return archived;
+    }
+
+    private int archive(String tenantId, String executionId, ZonedDateTime before) {
+        // the segment is only listed in the log archive once committed, a failed commit leaves no duplicated logs
+        AtomicReference<URI> written = new AtomicReference<>();
+
+        try {
+            return this.jdbcRepository
+                .getDslContextWrapper()
+                .transactionResult(configuration -> {
+                    DSLContext context = DSL.using(configuration);
+
+                    // the transaction is retried on deadlock
+                    Optional.ofNullable(written.getAndSet(null)).ifPresent(uri -> this.deleteSegment(tenantId, uri));
+
+                    Result<Record2<Object, Object>> records = context
+                        .select(field("key"), field("value"))
+                        .from(this.jdbcRepository.getTable())
+                        .where(this.defaultFilter(tenantId))
+                        .and(field("execution_id").eq(executionId))
+                        .and(field("timestamp").lessOrEqual(before.toOffsetDateTime()))
+                        .orderBy(field("timestamp").sort(SortOrder.ASC))
+                        .forUpdate()
+                        .fetch();
+
+                    List<LogEntry> logEntries = records.map(this.jdbcRepository::map);
+
+                    // archived concurrently since the executions were listed
+                    if (logEntries.isEmpty()) {
+                        return 0;
+                    }
+
+                    Optional<LogArchive> previous = this.logArchiveRepository.findByExecutionId(context, tenantId, executionId, true);
+                    LogEntry first = logEntries.get(0);
+                    LogEntry last = logEntries.get(logEntries.size() - 1);
+
+                    URI uri = URI.create("kestra://" + this.storageInterface().executionPrefix(Execution.builder()
+                        .namespace(first.getNamespace())
+                        .flowId(first.getFlowId())
+                        .id(executionId)
+                        .build()
+                    ) + "/logs-" + IdUtils.create() + ".ion");
+
+                    written.set(uri);
+                    this.writeSegment(tenantId, uri, logEntries);
+
+                    List<LogArchive.Segment> segments = new ArrayList<>(previous.map(LogArchive::getSegments).orElse(List.of()));
+                    segments.add(LogArchive.Segment.builder()
+                        .uri(uri)
+                        .count((long) logEntries.size())
+                        .levels(logEntries.stream().collect(Collectors.groupingBy(LogEntry::getLevel, Collectors.counting())))
+                        .startDate(first.getTimestamp())
+                        .endDate(last.getTimestamp())
+                        .build()
+                    );
+
+                    this.logArchiveRepository.save(context, LogArchive.builder()
+                        .tenantId(tenantId)
+                        .namespace(first.getNamespace())
+                        .flowId(first.getFlowId())
+                        .executionId(executionId)
+                        .segments(segments)
+                        .count(previous.map(LogArchive::getCount).orElse(0L) + logEntries.size())
+                        .startDate(previous.map(LogArchive::getStartDate).orElse(first.getTimestamp()))
+                        .endDate(last.getTimestamp())
+                        .build()
+                    );
+
+                    context.delete(this.jdbcRepository.getTable())
+                        .where(field("key").in(records.map(r -> r.value1())))
+                        .execute();
+
+                    return logEntries.size();
+                });
+        } catch (RuntimeException e) {
+            Optional.ofNullable(written.get()).ifPresent(uri -> this.deleteSegment(tenantId, uri));
+            throw e;
+        }
+    }
+
+    private void deleteSegment(String tenantId, URI uri) {
+        try {
+            this.storageInterface().delete(tenantId, uri);
+        } catch (IOException e) {
+            log.warn("Unable to delete the log archive segment '{}'", uri, e);
+        }
+    }
+
+    private void writeSegment(String tenantId, URI uri, List<LogEntry> logEntries) throws IOException {
+        Path tempFile = Files.createTempFile("logs_", ".ion");
+
+        try {
+            try (
+                OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(tempFile));
+                FileSerde.BinaryWriter writer = FileSerde.binaryWriter(outputStream)
+            ) {
+                for (LogEntry logEntry : logEntries) {
+                    writer.write(logEntry);
+                }
+            }
+
+            try (InputStream inputStream = new BufferedInputStream(Files.newInputStream(tempFile))) {
+                this.storageInterface().put(tenantId, uri, inputStream);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    // the archived logs are only looked up while the archive is enabled
+    private Optional<LogArchive> logArchive(String tenantId, String executionId) {
+        if (!this.archiveEnabled) {
+            return Optional.empty();
+        }
+
+        return this.logArchiveRepository.findByExecutionId(tenantId, executionId);
+    }
+
+    /**
+     * Read the logs of a segment block by block, until the end of the segment or until done.
+     */
+    private void readSegment(String tenantId, LogArchive.Segment segment, Consumer<LogEntry> consumer, BooleanSupplier done) {
+        try (
+            InputStream inputStream = new BufferedInputStream(this.storageInterface().get(tenantId, segment.getUri()));
+            FileSerde.BinaryReader reader = FileSerde.binaryReader(inputStream)
+        ) {
+            int read;
+            do {
+                read = reader.readBlock(LogEntry.class, consumer);
+            } while (read >= 0 && !done.getAsBoolean());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Predicate<LogEntry> matches(@Nullable Predicate<LogEntry> predicate, List<String> levels) {
+        return logEntry -> levels.contains(logEntry.getLevel().name()) && (predicate == null || predicate.test(logEntry));
     }
 
     @Override
@@ -187,7 +430,23 @@ public abstract class AbstractJdbcLogRepository extends AbstractJdbcRepository i
         return logEntry;
     }
 
-    private ArrayListTotal<LogEntry> query(String tenantId, Condition condition, Level minLevel, Pageable pageable) {
+    /**
+     * A page of the logs of an execution, the archived logs being before the ones still in the table.
+     * Only the segments and the table rows of the page are read, the segments before the page are skipped with their
+     * count by level when the finder has no predicate.
+     */
+    private ArrayListTotal<LogEntry> query(String tenantId, String executionId, Condition condition, @Nullable Predicate<LogEntry> predicate, Level minLevel, Pageable pageable) {
+        Optional<LogArchive> logArchive = this.logArchive(tenantId, executionId);
+        if (logArchive.isPresent() && (pageable == null || pageable.getSize() == -1)) {
+            List<LogEntry> logEntries = this.query(tenantId, executionId, condition, predicate, minLevel);
+
+            return new ArrayListTotal<>(logEntries, logEntries.size());
+        }
+
+        if (logArchive.isPresent()) {
+            return this.query(tenantId, logArchive.get(), condition, predicate, minLevel, pageable);
+        }
+
         return this.jdbcRepository
             .getDslContextWrapper()
             .transactionResult(configuration -> {
@@ -210,6 +469,108 @@ public abstract class AbstractJdbcLogRepository extends AbstractJdbcRepository i
             });
     }
 
+    private ArrayListTotal<LogEntry> query(String tenantId, LogArchive logArchive, Condition condition, @Nullable Predicate<LogEntry> predicate, Level minLevel, Pageable pageable) {
+        long from = (long) (pageable.getNumber() - 1) * pageable.getSize();
+        long to = from + pageable.getSize();
+        List<String> levels = LogEntry.findLevelsByMin(minLevel);
+        Predicate<LogEntry> matches = matches(predicate, levels);
+        List<LogEntry> page = new ArrayList<>();
+
+        long archived = 0;
+        for (LogArchive.Segment segment : logArchive.getSegments()) {
+            long start = archived;
+
+            // without predicate, the number of logs of a segment is known without reading it
+            if (predicate == null) {
+                archived += segment.count(levels);
+
+                if (archived <= from || start >= to) {
+                    continue;
+                }
+            }
+
+            long[] position = {start};
+            this.readSegment(
+                tenantId,
+                segment,
+                logEntry -> {
+                    if (matches.test(logEntry)) {
+                        if (position[0] >= from && position[0] < to) {
+                            page.add(logEntry);
+                        }
+
+                        position[0]++;
+                    }
+                },
+                () -> predicate == null && position[0] >= to
+            );
+
+            if (predicate != null) {
+                archived = position[0];
+            }
+        }
+
+        long offset = Math.max(0, from - archived);
+        long limit = Math.max(0, to - Math.max(from, archived));
+        long archivedCount = archived;
+
+        return this.jdbcRepository
+            .getDslContextWrapper()
+            .transactionResult(configuration -> {
+                DSLContext context = DSL.using(configuration);
+
+                Condition where = this.defaultFilter(tenantId).and(condition);
+                if (minLevel != null) {
+                    where = where.and(minLevel(minLevel));
+                }
+
+                if (limit > 0) {
+                    page.addAll(this.jdbcRepository.fetch(context
+                        .select(field("value"))
+                        .from(this.jdbcRepository.getTable())
+                        .where(where)
+                        .orderBy(field("timestamp").sort(SortOrder.ASC))
+                        .limit(limit)
+                        .offset(offset)
+                    ));
+                }
+
+                return new ArrayListTotal<>(page, archivedCount + context.fetchCount(this.jdbcRepository.getTable(), where));
+            });
+    }
+
+    private List<LogEntry> query(String tenantId, String executionId, Condition condition, @Nullable Predicate<LogEntry> predicate, Level minLevel) {
+        Optional<LogArchive> logArchive = this.logArchive(tenantId, executionId);
+        if (logArchive.isEmpty()) {
+            return this.query(tenantId, condition, minLevel);
+        }
+
+        List<String> levels = LogEntry.findLevelsByMin(minLevel);
+        Predicate<LogEntry> matches = matches(predicate, levels);
+        List<LogEntry> logEntries = new ArrayList<>();
+
+        for (LogArchive.Segment segment : logArchive.get().getSegments()) {
+            if (predicate == null && segment.count(levels) == 0) {
+                continue;
+            }
+
+            this.readSegment(
+                tenantId,
+                segment,
+                logEntry -> {
+                    if (matches.test(logEntry)) {
+                        logEntries.add(logEntry);
+                    }
+                },
+                () -> false
+            );
+        }
+
+        logEntries.addAll(this.query(tenantId, condition, minLevel));
+
+        return logEntries;
+    }
+
     private List<LogEntry> query(String tenantId, Condition condition, Level minLevel) {
         return this.jdbcRepository
             .getDslContextWrapper()
@@ -19,6 +19,11 @@ import java.util.function.Function;
 @Getter
 @Slf4j
 public abstract class AbstractJdbcWorkerInstanceRepository extends AbstractJdbcRepository implements WorkerInstanceRepositoryInterface {
+    /**
+     * The worker group of the executor instances, they only use this table for their heartbeat and are not workers.
+     */
+    public static final String EXECUTOR_WORKER_GROUP = "__kestra_executor__";
+
     protected io.kestra.jdbc.AbstractJdbcRepository<WorkerInstance> jdbcRepository;
 
     public AbstractJdbcWorkerInstanceRepository(io.kestra.jdbc.AbstractJdbcRepository<WorkerInstance> jdbcRepository) {
@@ -111,7 +116,7 @@ public abstract class AbstractJdbcWorkerInstanceRepository extends AbstractJdbcR
             .getDslContextWrapper()
             .transactionResult(configuration -> {
                 DSLContext context = DSL.using(configuration);
-                return this.jdbcRepository.fetch(this.heartbeatSelectAllQuery(context));
+                return this.jdbcRepository.fetch(this.heartbeatSelectAllQuery(context).where(this.workersFilter()));
             });
     }
 
@@ -131,9 +136,30 @@ public abstract class AbstractJdbcWorkerInstanceRepository extends AbstractJdbcR
                 this.heartbeatSelectAllQuery(context)
                     .where(field("status").eq(WorkerInstance.Status.DEAD.toString()))
                     .and(field("heartbeat_date").lessThan(Instant.now().minusSeconds(2 * getNbMissed() * getFrequency().getSeconds())))
+                    .and(this.workersFilter())
             ));
     }
 
+    public List<WorkerInstance> findAllExecutorsAlive(DSLContext context) {
+        return this.jdbcRepository.fetch(
+            this.heartbeatSelectAllQuery(context)
+                .where(field("status").eq(WorkerInstance.Status.UP.toString()))
+                .and(field("worker_group").eq(EXECUTOR_WORKER_GROUP))
+        );
+    }
+
+    /**
+     * Delete the executor instances dead for long enough, they have no worker job to resubmit.
+     */
+    public void deleteDeadExecutors(DSLContext context) {
+        context
+            .delete(this.jdbcRepository.getTable())
+            .where(field("status").eq(WorkerInstance.Status.DEAD.toString()))
+            .and(field("heartbeat_date").lessThan(Instant.now().minusSeconds(2 * getNbMissed() * getFrequency().getSeconds())))
+            .and(field("worker_group").eq(EXECUTOR_WORKER_GROUP))
+            .execute();
+    }
+
     public void delete(DSLContext context, WorkerInstance workerInstance) {
         this.jdbcRepository.delete(context, workerInstance);
     }
@@ -158,6 +184,10 @@ public abstract class AbstractJdbcWorkerInstanceRepository extends AbstractJdbcR
             );
     }
 
+    private Condition workersFilter() {
+        return field("worker_group").isNull().or(field("worker_group").ne(EXECUTOR_WORKER_GROUP));
+    }
+
     private SelectJoinStep<Record1<Object>> heartbeatSelectAllQuery(DSLContext dsl) {
         return dsl.select(field("value"))
             .from(this.jdbcRepository.getTable());
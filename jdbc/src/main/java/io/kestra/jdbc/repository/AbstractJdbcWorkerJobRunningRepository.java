@@ -26,6 +26,31 @@ public abstract class AbstractJdbcWorkerJobRunningRepository extends AbstractJdb
         return workerJobRunning;
     }
 
+    /**
+     * Save the jobs with one delete and one batched insert, a job resubmitted by the executor replaces the previous one.
+     */
+    public void saveAll(List<WorkerJobRunning> workerJobRunnings, DSLContext context) {
+        if (workerJobRunnings.isEmpty()) {
+            return;
+        }
+
+        context
+            .delete(this.jdbcRepository.getTable())
+            .where(field("key").in(workerJobRunnings.stream().map(this.jdbcRepository::key).toList()))
+            .execute();
+
+        context
+            .batch(workerJobRunnings
+                .stream()
+                .map(workerJobRunning -> context.insertInto(this.jdbcRepository.getTable())
+                    .set(field("key"), this.jdbcRepository.key(workerJobRunning))
+                    .set(this.jdbcRepository.persistFields(workerJobRunning))
+                )
+                .toList()
+            )
+            .execute();
+    }
+
     @Override
     public void deleteByKey(String uid) {
         Optional<WorkerJobRunning> workerJobRunning = this.findByKey(uid);
@@ -0,0 +1,86 @@
+package io.kestra.jdbc.runner;
+
+import io.kestra.core.models.flows.Flow;
+import io.kestra.core.runners.ConcurrencyLimit;
+import io.kestra.core.utils.IdUtils;
+import io.kestra.jdbc.repository.AbstractJdbcRepository;
+import org.apache.commons.lang3.tuple.Pair;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.impl.DSL;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Keep the number of concurrency slots used by each flow with a concurrency limit, so the executor doesn't have to
+ * count the running executions of the flow.
+ * The counter row is locked for the duration of the function, which serializes admission and release for a flow.
+ */
+public abstract class AbstractJdbcConcurrencyLimitStorage extends AbstractJdbcRepository {
+    protected io.kestra.jdbc.AbstractJdbcRepository<ConcurrencyLimit> jdbcRepository;
+
+    public AbstractJdbcConcurrencyLimitStorage(io.kestra.jdbc.AbstractJdbcRepository<ConcurrencyLimit> jdbcRepository) {
+        this.jdbcRepository = jdbcRepository;
+    }
+
+    /**
+     * Lock the counter of a flow and apply the function, the returned counter is saved.
+     * It must be called inside the transaction that holds the execution lock, so the counter is rolled back with
+     * the execution and a retried transaction doesn't count the same execution twice.
+     */
+    public <T> T countThen(DSLContext context, Flow flow, Function<ConcurrencyLimit, Pair<T, ConcurrencyLimit>> function) {
+        ConcurrencyLimit current = this.findForUpdate(context, flow);
+        Pair<T, ConcurrencyLimit> result = function.apply(current);
+
+        if (!result.getRight().equals(current)) {
+            Map<Field<Object>, Object> fields = this.jdbcRepository.persistFields(result.getRight());
+            this.jdbcRepository.persist(result.getRight(), context, fields);
+        }
+
+        return result.getLeft();
+    }
+
+    public Optional<ConcurrencyLimit> findById(String tenantId, String namespace, String flowId) {
+        return this.jdbcRepository
+            .getDslContextWrapper()
+            .transactionResult(configuration -> {
+                var select = DSL
+                    .using(configuration)
+                    .select(AbstractJdbcRepository.field("value"))
+                    .from(this.jdbcRepository.getTable())
+                    .where(AbstractJdbcRepository.field("key").eq(IdUtils.fromParts(tenantId, namespace, flowId)));
+
+                return this.jdbcRepository.fetchOne(select);
+            });
+    }
+
+    public List<ConcurrencyLimit> findAll() {
+        return this.jdbcRepository
+            .getDslContextWrapper()
+            .transactionResult(configuration -> this.jdbcRepository.fetch(DSL
+                .using(configuration)
+                .select(AbstractJdbcRepository.field("value"))
+                .from(this.jdbcRepository.getTable())
+            ));
+    }
+
+    private ConcurrencyLimit findForUpdate(DSLContext context, Flow flow) {
+        ConcurrencyLimit empty = ConcurrencyLimit.builder()
+            .tenantId(flow.getTenantId())
+            .namespace(flow.getNamespace())
+            .flowId(flow.getId())
+            .running(0)
+            .build();
+
+        var select = context
+            .select(AbstractJdbcRepository.field("value"))
+            .from(this.jdbcRepository.getTable())
+            .where(AbstractJdbcRepository.field("key").eq(empty.uid()))
+            .forUpdate();
+
+        return this.jdbcRepository.fetchOne(select).orElse(empty);
+    }
+}
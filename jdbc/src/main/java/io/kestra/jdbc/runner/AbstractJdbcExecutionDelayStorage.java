@@ -2,14 +2,17 @@ package io.kestra.jdbc.runner;
 
 import io.kestra.core.runners.ExecutionDelay;
 import io.kestra.jdbc.repository.AbstractJdbcRepository;
+import org.jooq.DSLContext;
 import org.jooq.Field;
 import org.jooq.Record1;
 import org.jooq.SelectConditionStep;
 import org.jooq.impl.DSL;
 
-import java.time.ZonedDateTime;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.List;
 import java.util.Map;
-import java.util.function.Consumer;
 
 public abstract class AbstractJdbcExecutionDelayStorage extends AbstractJdbcRepository {
     protected io.kestra.jdbc.AbstractJdbcRepository<ExecutionDelay> jdbcRepository;
@@ -18,28 +21,56 @@ public abstract class AbstractJdbcExecutionDelayStorage extends AbstractJdbcRepo
         this.jdbcRepository = jdbcRepository;
     }
 
-    public void get(Consumer<ExecutionDelay> consumer) {
-        ZonedDateTime now = ZonedDateTime.now();
-
-        this.jdbcRepository
+    /**
+     * Fetch the delays due before a date, ordered by date, without claiming them.
+     */
+    public List<ExecutionDelay> findDueBefore(Instant date, int limit) {
+        return this.jdbcRepository
             .getDslContextWrapper()
-            .transaction(configuration -> {
+            .transactionResult(configuration -> {
                 SelectConditionStep<Record1<Object>> select = DSL
                     .using(configuration)
                     .select(AbstractJdbcRepository.field("value"))
                     .from(this.jdbcRepository.getTable())
                     .where(
-                        AbstractJdbcRepository.field("date").lessOrEqual(now.toOffsetDateTime())
+                        AbstractJdbcRepository.field("date").lessOrEqual(offsetDateTime(date))
                     );
 
-                this.jdbcRepository.fetch(select)
-                    .forEach(executionDelay -> {
-                        consumer.accept(executionDelay);
-                        jdbcRepository.delete(executionDelay);
-                    });
+                return this.jdbcRepository.fetch(select
+                    .orderBy(AbstractJdbcRepository.field("date").asc())
+                    .limit(limit)
+                );
             });
     }
 
+    /**
+     * Claim a delay that is due by deleting it, in the transaction that fires it so the delay is kept if the
+     * transaction is rolled back. A delay is only claimed once even if several executors try to claim it, and is not
+     * claimed if it was replaced by a delay that is not due yet.
+     *
+     * @return whether the delay was claimed
+     */
+    public boolean claim(DSLContext context, ExecutionDelay executionDelay, Instant now) {
+        return context
+            .delete(this.jdbcRepository.getTable())
+            .where(AbstractJdbcRepository.field("key").eq(executionDelay.uid()))
+            .and(AbstractJdbcRepository.field("date").lessOrEqual(offsetDateTime(now)))
+            .execute() > 0;
+    }
+
+    /**
+     * Same as {@link #claim(DSLContext, ExecutionDelay, Instant)} in its own transaction.
+     */
+    public boolean claim(ExecutionDelay executionDelay, Instant now) {
+        return this.jdbcRepository
+            .getDslContextWrapper()
+            .transactionResult(configuration -> this.claim(DSL.using(configuration), executionDelay, now));
+    }
+
+    private static OffsetDateTime offsetDateTime(Instant instant) {
+        return instant.atZone(ZoneId.systemDefault()).toOffsetDateTime();
+    }
+
     public void save(ExecutionDelay executionDelay) {
         Map<Field<Object>, Object> fields = this.jdbcRepository.persistFields(executionDelay);
         this.jdbcRepository.persist(executionDelay, fields);
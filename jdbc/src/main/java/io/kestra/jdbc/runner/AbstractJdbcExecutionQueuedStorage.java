@@ -3,12 +3,12 @@ package io.kestra.jdbc.runner;
 import io.kestra.core.models.executions.Execution;
 import io.kestra.core.runners.ExecutionQueued;
 import io.kestra.jdbc.repository.AbstractJdbcRepository;
+import org.jooq.DSLContext;
 import org.jooq.Field;
 import org.jooq.impl.DSL;
 
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.function.Consumer;
 
 public abstract class AbstractJdbcExecutionQueuedStorage extends AbstractJdbcRepository {
@@ -23,26 +23,54 @@ public abstract class AbstractJdbcExecutionQueuedStorage extends AbstractJdbcRep
         this.jdbcRepository.persist(executionQueued, fields);
     }
 
-    public void pop(String tenantId, String namespace, String flowId, Consumer<Execution> consumer) {
-        this.jdbcRepository
-            .getDslContextWrapper()
-            .transaction(configuration -> {
-                var select = DSL
-                    .using(configuration)
-                    .select(AbstractJdbcRepository.field("value"))
+    public void save(DSLContext context, ExecutionQueued executionQueued) {
+        Map<Field<Object>, Object> fields = this.jdbcRepository.persistFields(executionQueued);
+        this.jdbcRepository.persist(executionQueued, context, fields);
+    }
+
+    /**
+     * Count the executions of a flow still waiting in the queue.
+     */
+    public int count(DSLContext context, String tenantId, String namespace, String flowId) {
+        return context
+            .fetchCount(
+                context
+                    .select(AbstractJdbcRepository.field("key"))
                     .from(this.jdbcRepository.getTable())
                     .where(buildTenantCondition(tenantId))
                     .and(field("namespace").eq(namespace))
                     .and(field("flow_id").eq(flowId))
-                    .orderBy(field("date").asc())
-                    .limit(1)
-                    .forUpdate();
+            );
+    }
+
+    public void pop(String tenantId, String namespace, String flowId, Consumer<Execution> consumer) {
+        this.jdbcRepository
+            .getDslContextWrapper()
+            .transaction(configuration -> this.pop(DSL.using(configuration), tenantId, namespace, flowId, 1, consumer));
+    }
+
+    /**
+     * Remove the oldest queued executions of a flow, at most max, and pass them to the consumer.
+     */
+    public void pop(DSLContext context, String tenantId, String namespace, String flowId, int max, Consumer<Execution> consumer) {
+        if (max <= 0) {
+            return;
+        }
+
+        var select = context
+            .select(AbstractJdbcRepository.field("value"))
+            .from(this.jdbcRepository.getTable())
+            .where(buildTenantCondition(tenantId))
+            .and(field("namespace").eq(namespace))
+            .and(field("flow_id").eq(flowId))
+            .orderBy(field("date").asc())
+            .limit(max)
+            .forUpdate();
 
-                Optional<ExecutionQueued> maybeExecution = this.jdbcRepository.fetchOne(select);
-                if (maybeExecution.isPresent()) {
-                    consumer.accept(maybeExecution.get().getExecution());
-                    this.jdbcRepository.delete(maybeExecution.get());
-                }
+        this.jdbcRepository.fetch(select)
+            .forEach(executionQueued -> {
+                consumer.accept(executionQueued.getExecution());
+                this.jdbcRepository.delete(context, executionQueued);
             });
     }
 
@@ -13,10 +13,12 @@ import jakarta.inject.Singleton;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.jooq.Record;
+import org.jooq.Record2;
 import org.jooq.Table;
 import org.jooq.impl.DSL;
 
 import java.time.Duration;
+import java.time.OffsetDateTime;
 import java.time.ZonedDateTime;
 
 @Singleton
@@ -40,17 +42,42 @@ public class JdbcCleaner {
     }
 
     public void deleteQueue() throws QueueException {
-        dslContextWrapper.transaction(configuration -> {
-            int deleted = DSL
+        OffsetDateTime retention = ZonedDateTime.now().minus(this.configuration.getRetention()).toOffsetDateTime();
+
+        // bounds of the expired offsets, deletion is then done by offset range to keep each transaction small
+        Record2<Integer, Integer> bounds = dslContextWrapper.transactionResult(configuration -> DSL
+            .using(configuration)
+            .select(
+                DSL.min(AbstractJdbcRepository.field("offset", Integer.class)),
+                DSL.max(AbstractJdbcRepository.field("offset", Integer.class))
+            )
+            .from(this.queueTable)
+            .where(AbstractJdbcRepository.field("updated").lessOrEqual(retention))
+            .fetchOne()
+        );
+
+        if (bounds == null || bounds.value1() == null) {
+            log.info("Cleaned 0 records from {}", this.queueTable.getName());
+            return;
+        }
+
+        int deleted = 0;
+        int batchSize = this.configuration.getBatchSize();
+
+        for (long from = bounds.value1(); from <= bounds.value2(); from += batchSize) {
+            long start = from;
+
+            deleted += dslContextWrapper.transactionResult(configuration -> DSL
                 .using(configuration)
                 .delete(this.queueTable)
-                .where(
-                    AbstractJdbcRepository.field("updated")
-                        .lessOrEqual(ZonedDateTime.now().minus(this.configuration.getRetention()).toOffsetDateTime())
-                )
-                .execute();
-            log.info("Cleaned {} records from {}", deleted, this.queueTable.getName());
-        });
+                .where(AbstractJdbcRepository.field("offset", Long.class).greaterOrEqual(start))
+                .and(AbstractJdbcRepository.field("offset", Long.class).lessThan(start + batchSize))
+                .and(AbstractJdbcRepository.field("updated").lessOrEqual(retention))
+                .execute()
+            );
+        }
+
+        log.info("Cleaned {} records from {}", deleted, this.queueTable.getName());
     }
 
     @Scheduled(initialDelay = "${kestra.jdbc.cleaner.initial-delay}", fixedDelay = "${kestra.jdbc.cleaner.fixed-delay}")
@@ -62,5 +89,6 @@ public class JdbcCleaner {
     @Getter
     public static class Configuration {
         Duration retention;
+        Integer batchSize = 10000;
     }
 }
@@ -0,0 +1,169 @@
+package io.kestra.jdbc.runner;
+
+import io.kestra.core.runners.ExecutionDelay;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+
+/**
+ * Fire the {@link ExecutionDelay} at their due date.
+ * The delays due in the next window are preloaded from the storage into an in-memory index sorted by date, and the
+ * delays saved by this executor are added to it directly. The consumer claims each due delay by deleting it from the
+ * storage in the transaction that fires it, so only one executor fires each of them and a delay is only removed once
+ * fired. The delays not fired stay in the storage and are preloaded again, by another executor if this one dies.
+ * Failures are logged and the loop goes on.
+ */
+@Slf4j
+class JdbcExecutionDelayDispatcher {
+    static final Duration PRELOAD_WINDOW = Duration.ofSeconds(10);
+    static final Duration PRELOAD_INTERVAL = Duration.ofSeconds(1);
+    static final int PRELOAD_SIZE = 1000;
+    static final int FIRE_BATCH_SIZE = 100;
+
+    private static final Comparator<ExecutionDelay> COMPARATOR = Comparator
+        .comparing(ExecutionDelay::getDate)
+        .thenComparing(ExecutionDelay::uid);
+
+    private final AbstractJdbcExecutionDelayStorage executionDelayStorage;
+    private final Consumer<ExecutionDelay> consumer;
+
+    private final TreeSet<ExecutionDelay> index = new TreeSet<>(COMPARATOR);
+    private final Map<String, ExecutionDelay> byUid = new HashMap<>();
+
+    private Instant horizon = Instant.EPOCH;
+    private Instant nextPreload = Instant.EPOCH;
+    private volatile boolean running = true;
+
+    JdbcExecutionDelayDispatcher(AbstractJdbcExecutionDelayStorage executionDelayStorage, Consumer<ExecutionDelay> consumer) {
+        this.executionDelayStorage = executionDelayStorage;
+        this.consumer = consumer;
+    }
+
+    /**
+     * Add a delay that was just saved so it is fired without waiting for the next preload.
+     */
+    synchronized void add(ExecutionDelay executionDelay) {
+        if (executionDelay.getDate().isAfter(horizon)) {
+            return;
+        }
+
+        this.put(executionDelay);
+        this.notifyAll();
+    }
+
+    void run() {
+        while (running) {
+            try {
+                Instant now = Instant.now();
+
+                if (!now.isBefore(nextPreload)) {
+                    this.preload(now);
+                }
+
+                List<ExecutionDelay> due = this.pollDue(now);
+                if (!due.isEmpty()) {
+                    this.fire(due);
+                    continue;
+                }
+
+                this.await(now);
+            } catch (RuntimeException e) {
+                log.error("Unable to dispatch the execution delays", e);
+
+                // don't retry in a loop while the storage is unavailable
+                this.await(Instant.now(), Instant.now().plus(PRELOAD_INTERVAL));
+            }
+        }
+    }
+
+    void close() {
+        running = false;
+
+        synchronized (this) {
+            this.notifyAll();
+        }
+    }
+
+    private void preload(Instant now) {
+        Instant until = now.plus(PRELOAD_WINDOW);
+        List<ExecutionDelay> executionDelays = executionDelayStorage.findDueBefore(until, PRELOAD_SIZE);
+
+        synchronized (this) {
+            index.clear();
+            byUid.clear();
+            executionDelays.forEach(this::put);
+
+            // when the window is truncated, the delays after the last one loaded are not known yet
+            horizon = executionDelays.size() < PRELOAD_SIZE ? until : executionDelays.get(executionDelays.size() - 1).getDate();
+            nextPreload = now.plus(PRELOAD_INTERVAL);
+        }
+    }
+
+    private void put(ExecutionDelay executionDelay) {
+        ExecutionDelay previous = byUid.put(executionDelay.uid(), executionDelay);
+        if (previous != null) {
+            index.remove(previous);
+        }
+
+        index.add(executionDelay);
+    }
+
+    private synchronized List<ExecutionDelay> pollDue(Instant now) {
+        List<ExecutionDelay> due = new ArrayList<>();
+
+        while (!index.isEmpty() && !index.first().getDate().isAfter(now) && due.size() < FIRE_BATCH_SIZE) {
+            ExecutionDelay executionDelay = index.pollFirst();
+            byUid.remove(executionDelay.uid());
+            due.add(executionDelay);
+        }
+
+        return due;
+    }
+
+    private void fire(List<ExecutionDelay> due) {
+        for (ExecutionDelay executionDelay : due) {
+            // closing, the delays not fired yet are still in the storage for another executor
+            if (!running) {
+                return;
+            }
+
+            try {
+                consumer.accept(executionDelay);
+            } catch (RuntimeException e) {
+                // the claim was rolled back with the transaction, the delay is fired again after the next preload
+                log.error("Unable to fire the execution delay of execution '{}', it will be retried", executionDelay.getExecutionId(), e);
+            }
+        }
+    }
+
+    private synchronized void await(Instant now) {
+        Instant next = nextPreload;
+        if (!index.isEmpty() && index.first().getDate().isBefore(next)) {
+            next = index.first().getDate();
+        }
+
+        this.await(now, next);
+    }
+
+    private synchronized void await(Instant now, Instant next) {
+        long timeout = Duration.between(now, next).toMillis();
+        if (timeout <= 0) {
+            return;
+        }
+
+        try {
+            this.wait(timeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
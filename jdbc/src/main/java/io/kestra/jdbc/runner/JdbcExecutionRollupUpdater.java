@@ -0,0 +1,45 @@
+package io.kestra.jdbc.runner;
+
+import io.kestra.jdbc.repository.AbstractJdbcExecutionRepository;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.scheduling.annotation.Scheduled;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+
+@Singleton
+@JdbcRunnerEnabled
+@Slf4j
+@Requires(property = "kestra.jdbc.statistics.rollup-enabled", value = "true")
+public class JdbcExecutionRollupUpdater {
+    private final AbstractJdbcExecutionRepository executionRepository;
+    private final int batchSize;
+
+    @Inject
+    public JdbcExecutionRollupUpdater(
+        AbstractJdbcExecutionRepository executionRepository,
+        @Value("${kestra.jdbc.statistics.rollup-batch-size:1000}") int batchSize
+    ) {
+        this.executionRepository = executionRepository;
+        this.batchSize = batchSize;
+    }
+
+    public void update() {
+        int updated = 0;
+        int batch;
+        do {
+            batch = this.executionRepository.applyPendingRollups(this.batchSize);
+            updated += batch;
+        } while (batch >= this.batchSize);
+
+        if (log.isDebugEnabled()) {
+            log.debug("Rolled up {} executions", updated);
+        }
+    }
+
+    @Scheduled(initialDelay = "${kestra.jdbc.statistics.rollup-initial-delay:30s}", fixedDelay = "${kestra.jdbc.statistics.rollup-fixed-delay:10s}")
+    public void report() {
+        update();
+    }
+}
@@ -9,7 +9,6 @@ import io.kestra.core.models.executions.ExecutionKilled;
 import io.kestra.core.models.executions.LogEntry;
 import io.kestra.core.models.executions.TaskRun;
 import io.kestra.core.models.executions.TaskRunAttempt;
-import io.kestra.core.models.executions.statistics.ExecutionCount;
 import io.kestra.core.models.flows.Concurrency;
 import io.kestra.core.models.flows.Flow;
 import io.kestra.core.models.flows.FlowWithException;
@@ -31,7 +30,9 @@ import io.kestra.core.tasks.flows.Template;
 import io.kestra.core.topologies.FlowTopologyService;
 import io.kestra.core.utils.Await;
 import io.kestra.core.utils.Either;
+import io.kestra.core.utils.ExecutorsUtils;
 import io.kestra.jdbc.JdbcMapper;
+import io.kestra.jdbc.JooqDSLContextWrapper;
 import io.kestra.jdbc.repository.AbstractJdbcExecutionRepository;
 import io.kestra.jdbc.repository.AbstractJdbcFlowTopologyRepository;
 import io.kestra.jdbc.repository.AbstractJdbcWorkerInstanceRepository;
@@ -45,13 +46,20 @@ import jakarta.inject.Singleton;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.tuple.Pair;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
 import org.slf4j.event.Level;
 
 import java.io.IOException;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -96,7 +104,7 @@ public class JdbcExecutor implements ExecutorInterface {
     private RunContextFactory runContextFactory;
 
     @Inject
-    private TaskDefaultService taskDefaultService;
+    private CompiledFlowCache compiledFlowCache;
 
     @Inject
     private Optional<Template.TemplateExecutorInterface> templateExecutorInterface;
@@ -129,12 +137,17 @@ public class JdbcExecutor implements ExecutorInterface {
     @Inject
     private AbstractJdbcExecutionDelayStorage executionDelayStorage;
 
+    private JdbcExecutionDelayDispatcher executionDelayDispatcher;
+
     @Inject
     private AbstractJdbcExecutionQueuedStorage executionQueuedStorage;
 
     @Inject
     private AbstractJdbcExecutorStateStorage executorStateStorage;
 
+    @Inject
+    private AbstractJdbcConcurrencyLimitStorage concurrencyLimitStorage;
+
     @Inject
     private FlowTopologyService flowTopologyService;
 
@@ -159,9 +172,26 @@ public class JdbcExecutor implements ExecutorInterface {
     @Inject
     private AbstractJdbcWorkerJobRunningRepository workerJobRunningRepository;
 
+    @Inject
+    private JdbcExecutorSharding executorSharding;
+
     @Value("${kestra.heartbeat.frequency}")
     private Duration frequency;
 
+    @Value("${kestra.jdbc.executor.lanes:1}")
+    private int lanes;
+
+    @Value("${kestra.jdbc.executor.concurrency-reconcile-interval:5m}")
+    private Duration concurrencyReconcileInterval;
+
+    @Inject
+    private JooqDSLContextWrapper dslContextWrapper;
+
+    @Inject
+    private ExecutorsUtils executorsUtils;
+
+    private JdbcQueueLanes queueLanes;
+
     @Inject
     @Named(QueueFactoryInterface.KILL_NAMED)
     protected QueueInterface<ExecutionKilled> killQueue;
@@ -170,27 +200,41 @@ public class JdbcExecutor implements ExecutorInterface {
     @Named(QueueFactoryInterface.SUBFLOWEXECUTIONRESULT_NAMED)
     private QueueInterface<SubflowExecutionResult> subflowExecutionResultQueue;
 
+    @SuppressWarnings("unchecked")
     @SneakyThrows
     @Override
     public void run() {
         flowListeners.run();
         flowListeners.listen(flows -> this.allFlows = flows);
+        flowListeners.listen((flow, previous) -> compiledFlowCache.invalidate(flow));
 
         Await.until(() -> this.allFlows != null, Duration.ofMillis(100), Duration.ofMinutes(5));
 
         applicationContext.registerSingleton(new DefaultFlowExecutor(flowListeners, this.flowRepository));
 
-        this.executionQueue.receive(Executor.class, this::executionQueue);
-        this.workerTaskResultQueue.receive(Executor.class, this::workerTaskResultQueue);
-        this.killQueue.receive(Executor.class, this::killQueue);
-        this.subflowExecutionResultQueue.receive(Executor.class, this::subflowExecutionResultQueue);
+        if (executorSharding.isEnabled()) {
+            executorSharding.register();
+            executorSharding.rebalance();
+        }
 
-        ScheduledFuture<?> handle = schedulerDelay.scheduleAtFixedRate(
-            this::executionDelaySend,
-            0,
-            1,
-            TimeUnit.SECONDS
-        );
+        this.executionDelayDispatcher = new JdbcExecutionDelayDispatcher(executionDelayStorage, this::executionDelaySend);
+
+        if (lanes > 1) {
+            // the lanes are shared by all the queues, the messages of an execution are always on the same lane
+            this.queueLanes = new JdbcQueueLanes(lanes, "jdbc-executor-lane", executorsUtils);
+
+            ((JdbcQueue<Execution>) this.executionQueue).receive(null, Executor.class, executorSharding::shards, queueLanes, this::executionQueue);
+            ((JdbcQueue<WorkerTaskResult>) this.workerTaskResultQueue).receive(null, Executor.class, executorSharding::shards, queueLanes, this::workerTaskResultQueue);
+            ((JdbcQueue<ExecutionKilled>) this.killQueue).receive(null, Executor.class, executorSharding::shards, queueLanes, this::killQueue);
+            ((JdbcQueue<SubflowExecutionResult>) this.subflowExecutionResultQueue).receive(null, Executor.class, executorSharding::shards, queueLanes, this::subflowExecutionResultQueue);
+        } else {
+            ((JdbcQueue<Execution>) this.executionQueue).receive(null, Executor.class, executorSharding::shards, this::executionQueue);
+            ((JdbcQueue<WorkerTaskResult>) this.workerTaskResultQueue).receive(null, Executor.class, executorSharding::shards, this::workerTaskResultQueue);
+            ((JdbcQueue<ExecutionKilled>) this.killQueue).receive(null, Executor.class, executorSharding::shards, this::killQueue);
+            ((JdbcQueue<SubflowExecutionResult>) this.subflowExecutionResultQueue).receive(null, Executor.class, executorSharding::shards, this::subflowExecutionResultQueue);
+        }
+
+        Future<?> handle = schedulerDelay.submit(executionDelayDispatcher::run);
 
         schedulerHeartbeat.scheduleAtFixedRate(
             this::workersUpdate,
@@ -199,6 +243,13 @@ public class JdbcExecutor implements ExecutorInterface {
             TimeUnit.SECONDS
         );
 
+        schedulerHeartbeat.scheduleWithFixedDelay(
+            this::reconcileConcurrencySlots,
+            concurrencyReconcileInterval.toSeconds(),
+            concurrencyReconcileInterval.toSeconds(),
+            TimeUnit.SECONDS
+        );
+
         // look at exception on the main thread
         Thread schedulerDelayThread = new Thread(
             () -> {
@@ -313,6 +364,10 @@ public class JdbcExecutor implements ExecutorInterface {
 
             return null;
         });
+
+        if (executorSharding.isEnabled()) {
+            executorSharding.rebalance();
+        }
     }
 
     private void executionQueue(Either<Execution, DeserializationException> either) {
@@ -327,7 +382,7 @@ public class JdbcExecutor implements ExecutorInterface {
             return;
         }
 
-        Executor result = executionRepository.lock(message.getId(), pair -> {
+        Executor result = executionRepository.lock(message.getId(), (context, pair) -> {
             Execution execution = pair.getLeft();
             ExecutorState executorState = pair.getRight();
 
@@ -336,19 +391,23 @@ public class JdbcExecutor implements ExecutorInterface {
 
             // queue execution if needed (limit concurrency)
             if (execution.getState().getCurrent() == State.Type.CREATED && flow.getConcurrency() != null) {
-                ExecutionCount count = executionRepository.executionCounts(
-                    flow.getTenantId(),
-                    List.of(new io.kestra.core.models.executions.statistics.Flow(flow.getNamespace(), flow.getId())),
-                    List.of(State.Type.RUNNING, State.Type.PAUSED),
-                    null,
-                    null
-                ).get(0);
+                Executor current = executor;
+                executor = concurrencyLimitStorage.countThen(context, flow, concurrencyLimit -> {
+                    Executor checked = executorService.checkConcurrencyLimit(current, flow, execution, concurrencyLimit.getRunning());
+
+                    // the execution is admitted, it holds a slot until it's terminated
+                    if (checked.getExecutionQueued() == null && !checked.getExecution().getState().isTerminated()) {
+                        executorState.setConcurrencySlot(true);
 
-                executor = executorService.checkConcurrencyLimit(executor, flow, execution, count.getCount());
+                        return Pair.of(checked, concurrencyLimit.withRunning(concurrencyLimit.getRunning() + 1));
+                    }
+
+                    return Pair.of(checked, concurrencyLimit);
+                });
 
                 // the execution has been queued, we save the queued execution and stops here
                 if (executor.getExecutionQueued() != null) {
-                    executionQueuedStorage.save(executor.getExecutionQueued());
+                    executionQueuedStorage.save(context, executor.getExecutionQueued());
                     return Pair.of(
                         executor,
                         executorState
@@ -385,72 +444,49 @@ public class JdbcExecutor implements ExecutorInterface {
                     .filter(workerTask -> this.deduplicateWorkerTask(execution, executorState, workerTask.getTaskRun()))
                     .toList();
 
-                // WorkerTask not flowable to workerTask
+                // WorkerTask not flowable to workerTask, batched by worker group
                 workerTasksDedup
                     .stream()
                     .filter(workerTask -> workerTask.getTask().isSendToWorkerTask())
-                    .forEach(workerTask -> workerTaskQueue.emit(workerGroupService.resolveGroupFromJob(workerTask), workerTask));
+                    .collect(Collectors.groupingBy(
+                        workerTask -> Optional.ofNullable(workerGroupService.resolveGroupFromJob(workerTask)),
+                        LinkedHashMap::new,
+                        Collectors.<WorkerJob>toList()
+                    ))
+                    .forEach((workerGroup, workerJobs) -> workerTaskQueue.emitAll(workerGroup.orElse(null), workerJobs));
 
                 // WorkerTask flowable to workerTaskResult as Running
-                workerTasksDedup
-                    .stream()
-                    .filter(workerTask -> workerTask.getTask().isFlowable())
-                    .map(workerTask -> new WorkerTaskResult(workerTask.withTaskRun(workerTask.getTaskRun().withState(State.Type.RUNNING))))
-                    .forEach(workerTaskResultQueue::emit);
+                workerTaskResultQueue.emitAll(
+                    workerTasksDedup
+                        .stream()
+                        .filter(workerTask -> workerTask.getTask().isFlowable())
+                        .map(workerTask -> new WorkerTaskResult(workerTask.withTaskRun(workerTask.getTaskRun().withState(State.Type.RUNNING))))
+                        .toList()
+                );
             }
 
             // worker tasks results
             if (!executor.getWorkerTaskResults().isEmpty()) {
-                executor.getWorkerTaskResults()
-                    .forEach(workerTaskResultQueue::emit);
+                workerTaskResultQueue.emitAll(executor.getWorkerTaskResults());
             }
 
             // subflow execution results
             if (!executor.getSubflowExecutionResults().isEmpty()) {
-                executor.getSubflowExecutionResults()
-                    .forEach(subflowExecutionResultQueue::emit);
+                subflowExecutionResultQueue.emitAll(executor.getSubflowExecutionResults());
             }
 
             // schedulerDelay
             if (!executor.getExecutionDelays().isEmpty()) {
                 executor.getExecutionDelays()
-                    .forEach(executionDelay -> executionDelayStorage.save(executionDelay));
+                    .forEach(executionDelay -> {
+                        executionDelayStorage.save(executionDelay);
+                        executionDelayDispatcher.add(executionDelay);
+                    });
             }
 
             // subflow execution watchers
             if (!executor.getSubflowExecutions().isEmpty()) {
-                subflowExecutionStorage.save(executor.getSubflowExecutions());
-
-                List<SubflowExecution<?>> subflowExecutionDedup = executor
-                    .getSubflowExecutions()
-                    .stream()
-                    .filter(subflowExecution -> this.deduplicateSubflowExecution(execution, executorState, subflowExecution.getParentTaskRun()))
-                    .toList();
-
-                subflowExecutionDedup
-                    .forEach(subflowExecution -> {
-                        String log = "Create new execution for flow '" +
-                            subflowExecution.getExecution()
-                                .getNamespace() + "'.'" + subflowExecution.getExecution().getFlowId() +
-                            "' with id '" + subflowExecution.getExecution().getId() + "'";
-
-                        JdbcExecutor.log.info(log);
-
-                        logQueue.emit(LogEntry.of(subflowExecution.getParentTaskRun()).toBuilder()
-                            .level(Level.INFO)
-                            .message(log)
-                            .timestamp(subflowExecution.getParentTaskRun().getState().getStartDate())
-                            .thread(Thread.currentThread().getName())
-                            .build()
-                        );
-
-                        executionQueue.emit(subflowExecution.getExecution());
-
-                        // send a running worker task result to track running vs created status
-                        if (subflowExecution.getParentTask().waitForExecution()) {
-                            sendSubflowExecutionResult(execution, subflowExecution, subflowExecution.getParentTaskRun());
-                        }
-                    });
+                this.emitSubflowExecutions(execution, executorState, executor.getSubflowExecutions());
             }
 
             // multiple condition
@@ -474,13 +510,9 @@ public class JdbcExecutor implements ExecutorInterface {
                         subflowExecutionStorage.delete(subflowExecution);
                     });
 
-                if (flow.getConcurrency() != null && flow.getConcurrency().getBehavior() == Concurrency.Behavior.QUEUE) {
-                    // as the execution is terminated, we can check if there exist a queued execution and submit it to the execution queue
-                    executionQueuedStorage.pop(flow.getTenantId(),
-                        flow.getNamespace(),
-                        flow.getId(),
-                        queued -> executionQueue.emit(queued.withState(State.Type.RUNNING))
-                    );
+                if (flow.getConcurrency() != null && executorState.getConcurrencySlot()) {
+                    executorState.setConcurrencySlot(false);
+                    this.releaseConcurrencySlot(context, flow);
                 }
             }
 
@@ -495,6 +527,40 @@ public class JdbcExecutor implements ExecutorInterface {
         }
     }
 
+    private void emitSubflowExecutions(Execution execution, ExecutorState executorState, List<SubflowExecution<?>> subflowExecutions) {
+        subflowExecutionStorage.save(subflowExecutions);
+
+        List<SubflowExecution<?>> subflowExecutionDedup = subflowExecutions
+            .stream()
+            .filter(subflowExecution -> this.deduplicateSubflowExecution(execution, executorState, subflowExecution.getParentTaskRun()))
+            .toList();
+
+        subflowExecutionDedup
+            .forEach(subflowExecution -> {
+                String log = "Create new execution for flow '" +
+                    subflowExecution.getExecution()
+                        .getNamespace() + "'.'" + subflowExecution.getExecution().getFlowId() +
+                    "' with id '" + subflowExecution.getExecution().getId() + "'";
+
+                JdbcExecutor.log.info(log);
+
+                logQueue.emit(LogEntry.of(subflowExecution.getParentTaskRun()).toBuilder()
+                    .level(Level.INFO)
+                    .message(log)
+                    .timestamp(subflowExecution.getParentTaskRun().getState().getStartDate())
+                    .thread(Thread.currentThread().getName())
+                    .build()
+                );
+
+                executionQueue.emit(subflowExecution.getExecution());
+
+                // send a running worker task result to track running vs created status
+                if (subflowExecution.getParentTask().waitForExecution()) {
+                    sendSubflowExecutionResult(execution, subflowExecution, subflowExecution.getParentTaskRun());
+                }
+            });
+    }
+
     private void sendSubflowExecutionResult(Execution execution, SubflowExecution<?> subflowExecution, TaskRun taskRun) {
         Flow workerTaskFlow = this.flowRepository.findByExecution(execution);
 
@@ -657,6 +723,15 @@ public class JdbcExecutor implements ExecutorInterface {
 
                     current = current.withExecution(newExecution, "joinSubflowExecutionResult");
 
+                    // a subflow execution is terminated, the next ones can be created
+                    if (task instanceof ForEachItem forEachItem && message.getParentTaskRun().getState().isTerminated()) {
+                        current = executorService.releaseSubflowExecutions(current.withFlow(transform(flow, newExecution)), forEachItem, taskRun);
+
+                        if (!current.getSubflowExecutions().isEmpty()) {
+                            this.emitSubflowExecutions(current.getExecution(), pair.getRight(), current.getSubflowExecutions());
+                        }
+                    }
+
                     // send metrics on parent taskRun terminated
                     if (taskRun.getState().isTerminated()) {
                         metricRegistry
@@ -772,43 +847,57 @@ public class JdbcExecutor implements ExecutorInterface {
             }
         }
 
-        return taskDefaultService.injectDefaults(flow, execution);
+        return compiledFlowCache.injectDefaults(flow, execution);
     }
 
-    private void executionDelaySend() {
+    private void executionDelaySend(ExecutionDelay executionDelay) {
         if (isShutdown) {
-            return;
+            // the delay is not claimed and stays in the storage for another executor
+            throw new IllegalStateException("The executor is shutting down");
         }
 
-        executionDelayStorage.get(executionDelay -> {
-            Executor result = executionRepository.lock(executionDelay.getExecutionId(), pair -> {
-                Executor executor = new Executor(pair.getLeft(), null);
+        Instant now = Instant.now();
+        AtomicBoolean locked = new AtomicBoolean(false);
 
-                try {
-                    if (executor.getExecution().findTaskRunByTaskRunId(executionDelay.getTaskRunId()).getState().getCurrent() == State.Type.PAUSED) {
+        Executor result = executionRepository.lock(executionDelay.getExecutionId(), (context, pair) -> {
+            locked.set(true);
 
-                        Execution markAsExecution = executionService.markAs(
-                            pair.getKey(),
-                            executionDelay.getTaskRunId(),
-                            executionDelay.getState()
-                        );
+            // the delay is deleted with the update of the execution, it is kept if the executor dies before
+            if (!executionDelayStorage.claim(context, executionDelay, now)) {
+                return null;
+            }
 
-                        executor = executor.withExecution(markAsExecution, "pausedRestart");
-                    }
-                } catch (Exception e) {
-                    executor = handleFailedExecutionFromExecutor(executor, e);
-                }
+            Executor executor = new Executor(pair.getLeft(), null);
 
-                return Pair.of(
-                    executor,
-                    pair.getRight()
-                );
-            });
+            try {
+                if (executor.getExecution().findTaskRunByTaskRunId(executionDelay.getTaskRunId()).getState().getCurrent() == State.Type.PAUSED) {
+
+                    Execution markAsExecution = executionService.markAs(
+                        pair.getKey(),
+                        executionDelay.getTaskRunId(),
+                        executionDelay.getState()
+                    );
 
-            if (result != null) {
-                this.toExecution(result);
+                    executor = executor.withExecution(markAsExecution, "pausedRestart");
+                }
+            } catch (Exception e) {
+                executor = handleFailedExecutionFromExecutor(executor, e);
             }
+
+            return Pair.of(
+                executor,
+                pair.getRight()
+            );
         });
+
+        // the execution doesn't exist anymore
+        if (!locked.get()) {
+            executionDelayStorage.claim(executionDelay, now);
+        }
+
+        if (result != null) {
+            this.toExecution(result);
+        }
     }
 
     private boolean deduplicateNexts(Execution execution, ExecutorState executorState, List<TaskRun> taskRuns) {
@@ -854,6 +943,107 @@ public class JdbcExecutor implements ExecutorInterface {
         }
     }
 
+    /**
+     * Release the slot of a terminated execution and, as the execution is terminated, pop the queued executions
+     * that now fit in the concurrency limit.
+     */
+    private void releaseConcurrencySlot(DSLContext context, Flow flow) {
+        concurrencyLimitStorage.countThen(context, flow, concurrencyLimit -> {
+            int running = Math.max(0, concurrencyLimit.getRunning() - 1);
+
+            return Pair.of(null, concurrencyLimit.withRunning(running + this.popQueued(context, flow, running)));
+        });
+    }
+
+    /**
+     * Pop the queued executions that fit in the concurrency limit, they take their slot right away and are submitted
+     * in the same transaction, so they can't be popped without being submitted.
+     *
+     * @return the number of popped executions
+     */
+    @SuppressWarnings("unchecked")
+    private int popQueued(DSLContext context, Flow flow, int running) {
+        if (flow.getConcurrency().getBehavior() != Concurrency.Behavior.QUEUE) {
+            return 0;
+        }
+
+        List<Execution> popped = new ArrayList<>();
+        executionQueuedStorage.pop(
+            context,
+            flow.getTenantId(),
+            flow.getNamespace(),
+            flow.getId(),
+            flow.getConcurrency().getLimit() - running,
+            popped::add
+        );
+
+        for (Execution queued : popped) {
+            ExecutorState queuedState = executorStateStorage.get(context, queued);
+            queuedState.setConcurrencySlot(true);
+            executorStateStorage.save(context, queuedState);
+
+            ((JdbcQueue<Execution>) this.executionQueue).emit(context, null, queued.withState(State.Type.RUNNING));
+        }
+
+        return popped.size();
+    }
+
+    /**
+     * Rebuild the slot counters from the executions, executions deleted or purged while running, or started before the
+     * counter existed, are accounted for again and the queued executions that now fit in the limit are popped.
+     * The executions are only counted here and not on admission, so the admission stays a single counter update.
+     */
+    void reconcileConcurrencySlots() {
+        try {
+            for (ConcurrencyLimit concurrencyLimit : concurrencyLimitStorage.findAll()) {
+                Optional<Flow> flow = this.allFlows
+                    .stream()
+                    .filter(f -> Objects.equals(f.getTenantId(), concurrencyLimit.getTenantId()) &&
+                        f.getNamespace().equals(concurrencyLimit.getNamespace()) &&
+                        f.getId().equals(concurrencyLimit.getFlowId())
+                    )
+                    .findFirst();
+
+                if (flow.isEmpty() || flow.get().getConcurrency() == null) {
+                    continue;
+                }
+
+                dslContextWrapper.transaction(configuration -> {
+                    DSLContext context = DSL.using(configuration);
+
+                    concurrencyLimitStorage.countThen(context, flow.get(), current -> {
+                        int running = this.countConcurrencySlots(context, flow.get());
+                        if (running != current.getRunning()) {
+                            log.warn("Concurrency slots of flow '{}.{}' reconciled from {} to {}", flow.get().getNamespace(), flow.get().getId(), current.getRunning(), running);
+                        }
+
+                        return Pair.of(null, current.withRunning(running + this.popQueued(context, flow.get(), running)));
+                    });
+                });
+            }
+        } catch (RuntimeException e) {
+            log.error("Unable to reconcile the concurrency slots", e);
+        }
+    }
+
+    /**
+     * Rebuild the number of slots used by a flow from its executions: the running and paused ones, and the queued
+     * ones that were popped but not yet processed.
+     */
+    private int countConcurrencySlots(DSLContext context, Flow flow) {
+        long executions = executionRepository.executionCounts(
+            flow.getTenantId(),
+            List.of(new io.kestra.core.models.executions.statistics.Flow(flow.getNamespace(), flow.getId())),
+            List.of(State.Type.RUNNING, State.Type.PAUSED, State.Type.KILLING, State.Type.QUEUED),
+            null,
+            null
+        ).get(0).getCount();
+
+        int waiting = executionQueuedStorage.count(context, flow.getTenantId(), flow.getNamespace(), flow.getId());
+
+        return (int) Math.max(0, executions - waiting);
+    }
+
     private boolean deduplicateFlowTrigger(Execution execution, ExecutorState executorState) {
         Boolean flowTriggerDeduplication = executorState.getFlowTriggerDeduplication();
 
@@ -880,12 +1070,21 @@ public class JdbcExecutor implements ExecutorInterface {
 
     @Override
     public void close() throws IOException {
+        if (executionDelayDispatcher != null) {
+            executionDelayDispatcher.close();
+        }
         isShutdown = true;
         schedulerDelay.shutdown();
         schedulerHeartbeat.shutdown();
+        if (executorSharding.isEnabled()) {
+            executorSharding.close();
+        }
         executionQueue.close();
         workerTaskQueue.close();
         workerTaskResultQueue.close();
         logQueue.close();
+        if (queueLanes != null) {
+            queueLanes.close();
+        }
     }
 }
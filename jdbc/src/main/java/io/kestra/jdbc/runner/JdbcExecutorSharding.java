@@ -0,0 +1,144 @@
+package io.kestra.jdbc.runner;
+
+import com.google.common.hash.Hashing;
+import io.kestra.core.runners.WorkerInstance;
+import io.kestra.jdbc.repository.AbstractJdbcWorkerInstanceRepository;
+import io.micronaut.context.annotation.Value;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Split the executor messages between the alive executor instances.
+ * Each executor registers itself in the worker instance table (using a dedicated worker group, hidden from the workers
+ * list and the dead worker resubmission) in order to reuse the heartbeat and eviction mechanism, then the {@link JdbcQueue#SHARDS} shards are assigned using rendezvous hashing so
+ * only the shards of a dead or new instance are moved.
+ */
+@Singleton
+@JdbcRunnerEnabled
+@Slf4j
+public class JdbcExecutorSharding {
+    @Inject
+    private AbstractJdbcWorkerInstanceRepository workerInstanceRepository;
+
+    @Value("${kestra.jdbc.executor.sharding.enabled:false}")
+    @Getter
+    private boolean enabled;
+
+    private volatile WorkerInstance executorInstance;
+
+    private volatile Set<Integer> shards;
+
+    public synchronized void register() {
+        if (executorInstance != null) {
+            return;
+        }
+
+        String hostname;
+        try {
+            hostname = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            throw new RuntimeException(e);
+        }
+
+        this.executorInstance = WorkerInstance.builder()
+            .workerUuid(UUID.randomUUID())
+            .hostname(hostname)
+            .workerGroup(AbstractJdbcWorkerInstanceRepository.EXECUTOR_WORKER_GROUP)
+            .build();
+
+        this.workerInstanceRepository.save(executorInstance);
+
+        log.info("Registered executor instance {}", executorInstance.getWorkerUuid());
+    }
+
+    /**
+     * Update the heartbeat of the current executor and recompute the shards it owns.
+     */
+    public void rebalance() {
+        if (executorInstance == null) {
+            return;
+        }
+
+        if (workerInstanceRepository.heartbeatCheckUp(executorInstance.getWorkerUuid().toString()).isEmpty()) {
+            // we were evicted, register a new instance and take our share again
+            log.warn("Executor instance {} was evicted, registering a new one", executorInstance.getWorkerUuid());
+
+            synchronized (this) {
+                this.executorInstance = null;
+            }
+            this.register();
+        }
+
+        List<String> executors = workerInstanceRepository.getJdbcRepository()
+            .getDslContextWrapper()
+            .transactionResult(configuration -> {
+                DSLContext context = DSL.using(configuration);
+                workerInstanceRepository.deleteDeadExecutors(context);
+
+                return workerInstanceRepository.findAllExecutorsAlive(context);
+            })
+            .stream()
+            .map(instance -> instance.getWorkerUuid().toString())
+            .sorted(Comparator.naturalOrder())
+            .toList();
+
+        Set<Integer> owned = ownedShards(executorInstance.getWorkerUuid().toString(), executors);
+
+        if (shards == null || !shards.equals(owned)) {
+            log.info("Executor instance {} now owns {} shards out of {} across {} executors", executorInstance.getWorkerUuid(), owned.size(), JdbcQueue.SHARDS, executors.size());
+        }
+
+        this.shards = owned;
+    }
+
+    /**
+     * The shards owned by the current executor, null if sharding is disabled, meaning all shards.
+     */
+    public Set<Integer> shards() {
+        if (!enabled) {
+            return null;
+        }
+
+        return shards == null ? Set.of() : shards;
+    }
+
+    public void close() {
+        if (executorInstance != null) {
+            workerInstanceRepository.delete(executorInstance);
+        }
+    }
+
+    static Set<Integer> ownedShards(String executor, List<String> executors) {
+        if (!executors.contains(executor)) {
+            return Set.of();
+        }
+
+        return IntStream.range(0, JdbcQueue.SHARDS)
+            .filter(shard -> executors
+                .stream()
+                .max(Comparator.comparingInt(candidate -> weight(candidate, shard)))
+                .map(executor::equals)
+                .orElse(false)
+            )
+            .boxed()
+            .collect(Collectors.toUnmodifiableSet());
+    }
+
+    private static int weight(String executor, int shard) {
+        return Hashing.murmur3_32_fixed().hashString(executor + ":" + shard, StandardCharsets.UTF_8).asInt();
+    }
+}
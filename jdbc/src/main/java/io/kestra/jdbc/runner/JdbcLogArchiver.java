@@ -0,0 +1,53 @@
+package io.kestra.jdbc.runner;
+
+import io.kestra.jdbc.repository.AbstractJdbcLogRepository;
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.scheduling.annotation.Scheduled;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+
+@Singleton
+@JdbcRunnerEnabled
+@Slf4j
+@Requires(property = "kestra.jdbc.log-archive.enabled", value = "true")
+public class JdbcLogArchiver {
+    private final AbstractJdbcLogRepository logRepository;
+    private final Configuration configuration;
+
+    @Inject
+    public JdbcLogArchiver(AbstractJdbcLogRepository logRepository, Configuration configuration) {
+        this.logRepository = logRepository;
+        this.configuration = configuration;
+    }
+
+    public void archive() {
+        ZonedDateTime before = ZonedDateTime.now().minus(this.configuration.getAfter());
+
+        int archived = 0;
+        int batch;
+        do {
+            batch = this.logRepository.archive(before, this.configuration.getBatchSize());
+            archived += batch;
+        } while (batch > 0);
+
+        log.info("Archived {} logs older than {}", archived, before);
+    }
+
+    @Scheduled(initialDelay = "${kestra.jdbc.log-archive.initial-delay}", fixedDelay = "${kestra.jdbc.log-archive.fixed-delay}")
+    public void report() {
+        archive();
+    }
+
+    @ConfigurationProperties("kestra.jdbc.log-archive")
+    @Getter
+    public static class Configuration {
+        Duration after;
+        Integer batchSize = 1000;
+    }
+}
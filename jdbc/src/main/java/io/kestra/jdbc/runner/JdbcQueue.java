@@ -3,7 +3,9 @@ package io.kestra.jdbc.runner;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.CaseFormat;
+import com.google.common.collect.Lists;
 import io.kestra.core.exceptions.DeserializationException;
+import io.kestra.core.metrics.MetricRegistry;
 import io.kestra.core.queues.QueueException;
 import io.kestra.core.queues.QueueInterface;
 import io.kestra.core.queues.QueueService;
@@ -31,6 +33,7 @@ import java.time.ZonedDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -38,12 +41,17 @@ import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.IntSupplier;
 import java.util.function.Supplier;
 
 @Slf4j
 public abstract class JdbcQueue<T> implements QueueInterface<T> {
     protected static final ObjectMapper MAPPER = JdbcMapper.of();
 
+    private static final int EMIT_BATCH_SIZE = 500;
+
+    public static final int SHARDS = 128;
+
     private static ExecutorService poolExecutor;
 
     protected final QueueService queueService;
@@ -62,10 +70,17 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
 
     protected Boolean isShutdown = false;
 
+    private final MetricRegistry metricRegistry;
+
+    private final ExecutorsUtils executorsUtils;
+
+    private volatile JdbcQueueAsyncEmitter<T> asyncEmitter;
+
     public JdbcQueue(Class<T> cls, ApplicationContext applicationContext) {
+        this.executorsUtils = applicationContext.getBean(ExecutorsUtils.class);
+
         if (poolExecutor == null) {
-            ExecutorsUtils executorsUtils = applicationContext.getBean(ExecutorsUtils.class);
-            poolExecutor = executorsUtils.cachedThreadPool("jdbc-queue");
+            poolExecutor = this.executorsUtils.cachedThreadPool("jdbc-queue");
         }
 
         this.queueService = applicationContext.getBean(QueueService.class);
@@ -79,6 +94,8 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
         this.table = DSL.table(jdbcConfiguration.tableConfig("queues").getTable());
 
         this.jdbcQueueIndexer = applicationContext.getBean(JdbcQueueIndexer.class);
+
+        this.metricRegistry = applicationContext.getBean(MetricRegistry.class);
     }
 
     @SneakyThrows
@@ -87,6 +104,7 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
         fields.put(AbstractJdbcRepository.field("type"), this.cls.getName());
         fields.put(AbstractJdbcRepository.field("key"), key != null ? key : IdUtils.create());
         fields.put(AbstractJdbcRepository.field("value"), JSONB.valueOf(MAPPER.writeValueAsString(message)));
+        fields.put(AbstractJdbcRepository.field("shard"), shard(queueService.shardKey(message)));
 
         if (consumerGroup != null) {
             fields.put(AbstractJdbcRepository.field("consumer_group"), consumerGroup);
@@ -100,17 +118,52 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
             log.trace("New message: topic '{}', value {}", this.cls.getName(), message);
         }
 
+        dslContextWrapper.transaction(configuration -> this.produce(DSL.using(configuration), consumerGroup, key, message, skipIndexer));
+    }
+
+    private void produce(DSLContext context, String consumerGroup, String key, T message, Boolean skipIndexer) {
+        if (!skipIndexer) {
+            jdbcQueueIndexer.accept(context, message);
+        }
+
+        context
+            .insertInto(table)
+            .set(this.produceFields(consumerGroup, key, message))
+            .execute();
+
+        this.afterProduce(context);
+    }
+
+    /**
+     * Called inside the producing transaction, after the message was inserted.
+     * Implementations can use it to wake up consumers, the default does nothing.
+     */
+    protected void afterProduce(DSLContext context) {
+
+    }
+
+    private void produceAll(String consumerGroup, List<T> messages) {
+        if (log.isTraceEnabled()) {
+            log.trace("New messages: topic '{}', count {}", this.cls.getName(), messages.size());
+        }
+
         dslContextWrapper.transaction(configuration -> {
             DSLContext context = DSL.using(configuration);
 
-            if (!skipIndexer) {
-                jdbcQueueIndexer.accept(context, message);
+            for (List<T> batch : Lists.partition(messages, EMIT_BATCH_SIZE)) {
+                InsertSetMoreStep<Record> insert = null;
+
+                for (T message : batch) {
+                    jdbcQueueIndexer.accept(context, message);
+
+                    Map<Field<Object>, Object> fields = this.produceFields(consumerGroup, queueService.key(message), message);
+                    insert = insert == null ? context.insertInto(table).set(fields) : insert.newRecord().set(fields);
+                }
+
+                insert.execute();
             }
 
-            context
-                .insertInto(table)
-                .set(this.produceFields(consumerGroup, key, message))
-                .execute();
+            this.afterProduce(context);
         });
     }
 
@@ -123,9 +176,56 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
         this.produce(consumerGroup, queueService.key(message), message, false);
     }
 
+    /**
+     * Emit a message in an existing transaction, the message is only visible once the transaction is committed and is
+     * discarded with it on rollback.
+     */
+    public void emit(DSLContext context, String consumerGroup, T message) {
+        if (log.isTraceEnabled()) {
+            log.trace("New message: topic '{}', value {}", this.cls.getName(), message);
+        }
+
+        this.produce(context, consumerGroup, queueService.key(message), message, false);
+    }
+
+    @Override
+    public void emitAll(String consumerGroup, List<T> messages) throws QueueException {
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        this.produceAll(consumerGroup, messages);
+    }
+
     @Override
     public void emitAsync(String consumerGroup, T message) throws QueueException {
-        this.emit(consumerGroup, message);
+        if (this.configuration.getAsyncEnabled() && !this.isShutdown) {
+            this.asyncEmitter().emit(consumerGroup, message);
+        } else {
+            this.emit(consumerGroup, message);
+        }
+    }
+
+    /**
+     * Most queues are never emitted asynchronously, the emitter and its thread are only created when needed.
+     */
+    private JdbcQueueAsyncEmitter<T> asyncEmitter() {
+        if (this.asyncEmitter == null) {
+            synchronized (this) {
+                if (this.asyncEmitter == null) {
+                    this.asyncEmitter = new JdbcQueueAsyncEmitter<>(
+                        cls,
+                        this.configuration,
+                        EMIT_BATCH_SIZE,
+                        this::produceAll,
+                        this.metricRegistry,
+                        this.executorsUtils
+                    );
+                }
+            }
+        }
+
+        return this.asyncEmitter;
     }
 
     @Override
@@ -140,7 +240,14 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
 
     abstract protected Result<Record> receiveFetch(DSLContext ctx, String consumerGroup, Integer offset);
 
-    abstract protected Result<Record> receiveFetch(DSLContext ctx, String consumerGroup, String queueType);
+    abstract protected Result<Record> receiveFetch(DSLContext ctx, String consumerGroup, String queueType, Condition filter, int limit);
+
+    /**
+     * The shard of a message, used to split executor messages between executor instances.
+     */
+    public static Integer shard(String shardKey) {
+        return shardKey == null ? null : Math.floorMod(shardKey.hashCode(), SHARDS);
+    }
 
     abstract protected void updateGroupOffsets(DSLContext ctx, String consumerGroup, String queueType, List<Integer> offsets);
 
@@ -190,7 +297,41 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
             (dslContext, eithers) -> {
                 eithers.forEach(consumer);
             },
-            false
+            false,
+            () -> null
+        );
+    }
+
+    /**
+     * Receive only the messages belonging to the given shards, the supplier is called on each poll so the shards can
+     * change over time. A null supplied value means all shards.
+     */
+    public Runnable receive(String consumerGroup, Class<?> queueType, Supplier<Set<Integer>> shards, Consumer<Either<T, DeserializationException>> consumer) {
+        return this.receiveImpl(
+            consumerGroup,
+            queueType,
+            (dslContext, eithers) -> {
+                eithers.forEach(consumer);
+            },
+            false,
+            shards
+        );
+    }
+
+    /**
+     * Receive only the messages belonging to the given shards and process them on parallel lanes split by shard key.
+     * As for the other receivers, the offsets are committed with the fetch, so the locks are not held while the lanes
+     * process the messages, and the next poll waits for all the lanes.
+     */
+    public Runnable receive(String consumerGroup, Class<?> queueType, Supplier<Set<Integer>> shards, JdbcQueueLanes lanes, Consumer<Either<T, DeserializationException>> consumer) {
+        return this.receiveImpl(
+            consumerGroup,
+            queueType,
+            (dslContext, eithers) -> {
+                lanes.dispatch(eithers, queueService::shardKey, consumer);
+            },
+            false,
+            shards
         );
     }
 
@@ -199,7 +340,23 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
             consumerGroup,
             queueType,
             consumer,
-            true
+            true,
+            () -> null
+        );
+    }
+
+    /**
+     * Receive in a transaction at most the number of messages given by the credits supplier on each poll, and no more
+     * than the poll size. No message is fetched while there is no credit.
+     */
+    public Runnable receiveTransaction(String consumerGroup, Class<?> queueType, IntSupplier credits, BiConsumer<DSLContext, List<Either<T, DeserializationException>>> consumer) {
+        return this.receiveImpl(
+            consumerGroup,
+            queueType,
+            consumer,
+            true,
+            () -> null,
+            credits
         );
     }
 
@@ -207,15 +364,48 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
         String consumerGroup,
         Class<?> queueType,
         BiConsumer<DSLContext, List<Either<T, DeserializationException>>> consumer,
-        Boolean inTransaction
+        Boolean inTransaction,
+        Supplier<Set<Integer>> shards
+    ) {
+        return this.receiveImpl(consumerGroup, queueType, consumer, inTransaction, shards, configuration::getPollSize);
+    }
+
+    private Runnable receiveImpl(
+        String consumerGroup,
+        Class<?> queueType,
+        BiConsumer<DSLContext, List<Either<T, DeserializationException>>> consumer,
+        Boolean inTransaction,
+        Supplier<Set<Integer>> shards,
+        IntSupplier credits
     ) {
         String queueName = queueName(queueType);
 
         return this.poll(() -> {
+            Set<Integer> currentShards = shards.get();
+            if (currentShards != null && currentShards.isEmpty()) {
+                return 0;
+            }
+
+            int limit = Math.min(credits.getAsInt(), configuration.getPollSize());
+            if (limit <= 0) {
+                return 0;
+            }
+
+            Condition filter = DSL.noCondition();
+            if (currentShards != null) {
+                filter = AbstractJdbcRepository.field("shard", Integer.class).in(currentShards);
+
+                // messages produced before sharding was available are handled by the owner of the first shard
+                if (currentShards.contains(0)) {
+                    filter = filter.or(AbstractJdbcRepository.field("shard").isNull());
+                }
+            }
+            Condition shardFilter = filter;
+
             Result<Record> fetch = dslContextWrapper.transactionResult(configuration -> {
                 DSLContext ctx = DSL.using(configuration);
 
-                Result<Record> result = this.receiveFetch(ctx, consumerGroup, queueName);
+                Result<Record> result = this.receiveFetch(ctx, consumerGroup, queueName, shardFilter, limit);
 
                 if (!result.isEmpty()) {
                     if (inTransaction) {
@@ -273,7 +463,7 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
                 }
 
                 try {
-                    Thread.sleep(sleep.get());
+                    this.waitForMessages(sleep.get());
                 } catch (InterruptedException e) {
                     throw new RuntimeException(e);
                 }
@@ -285,6 +475,13 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
         };
     }
 
+    /**
+     * Wait between two polls, implementations able to be notified of new messages can return early.
+     */
+    protected void waitForMessages(long timeout) throws InterruptedException {
+        Thread.sleep(timeout);
+    }
+
     protected List<Either<T, DeserializationException>> map(Result<Record> fetch) {
         return fetch
             .map(record -> {
@@ -309,6 +506,13 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
     @Override
     public void close() throws IOException {
         this.isShutdown = true;
+
+        synchronized (this) {
+            if (asyncEmitter != null) {
+                asyncEmitter.close();
+            }
+        }
+
         poolExecutor.shutdown();
     }
 
@@ -319,5 +523,10 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
         Duration maxPollInterval = Duration.ofMillis(500);
         Duration pollSwitchInterval = Duration.ofSeconds(30);
         Integer pollSize = 100;
+
+        // emitAsync buffers messages and emits them in batches from a dedicated thread, see JdbcQueueAsyncEmitter
+        Boolean asyncEnabled = false;
+        Integer asyncBufferSize = 10000;
+        Duration asyncFlushInterval = Duration.ofMillis(100);
     }
 }
@@ -0,0 +1,156 @@
+package io.kestra.jdbc.runner;
+
+import io.kestra.core.metrics.MetricRegistry;
+import io.kestra.core.utils.ExecutorsUtils;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * Emit the messages of {@link JdbcQueue#emitAsync(String, Object)} from a bounded buffer, on a dedicated thread,
+ * in batches of everything that was buffered since the previous one.
+ * Producers never wait for the database: when the buffer is full, the message is dropped and counted.
+ * A batch that can't be inserted is retried a few times before its messages are dropped and counted the same way.
+ */
+@Slf4j
+class JdbcQueueAsyncEmitter<T> {
+    static final int MAX_ATTEMPTS = 3;
+
+    private final String type;
+    private final BlockingQueue<Pending<T>> buffer;
+    private final int batchSize;
+    private final Duration flushInterval;
+    private final BiConsumer<String, List<T>> producer;
+    private final MetricRegistry metricRegistry;
+    private final ExecutorService executorService;
+
+    private volatile boolean running = true;
+
+    JdbcQueueAsyncEmitter(
+        Class<T> cls,
+        JdbcQueue.Configuration configuration,
+        int batchSize,
+        BiConsumer<String, List<T>> producer,
+        MetricRegistry metricRegistry,
+        ExecutorsUtils executorsUtils
+    ) {
+        this.type = cls.getName();
+        this.buffer = new ArrayBlockingQueue<>(configuration.getAsyncBufferSize());
+        this.batchSize = batchSize;
+        this.flushInterval = configuration.getAsyncFlushInterval();
+        this.producer = producer;
+        this.metricRegistry = metricRegistry;
+
+        this.executorService = executorsUtils.singleThreadExecutor("jdbc-queue-async-" + cls.getSimpleName());
+        this.executorService.execute(this::run);
+    }
+
+    void emit(String consumerGroup, T message) {
+        if (!running || !buffer.offer(new Pending<>(consumerGroup, message, Instant.now()))) {
+            this.dropped(1);
+
+            if (log.isDebugEnabled()) {
+                log.debug("Async buffer full, dropping message: topic '{}'", type);
+            }
+        }
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                Pending<T> first = buffer.poll(flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+
+                if (first != null) {
+                    List<Pending<T>> batch = new ArrayList<>();
+                    batch.add(first);
+                    buffer.drainTo(batch, batchSize - 1);
+
+                    this.produce(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void produce(List<Pending<T>> batch) {
+        Map<String, List<T>> byConsumerGroup = new LinkedHashMap<>();
+        batch.forEach(pending -> byConsumerGroup
+            .computeIfAbsent(pending.consumerGroup(), k -> new ArrayList<>())
+            .add(pending.message())
+        );
+
+        byConsumerGroup.forEach(this::produce);
+
+        metricRegistry
+            .timer(MetricRegistry.JDBC_QUEUE_ASYNC_LAG_DURATION, "type", type)
+            .record(Duration.between(batch.get(0).created(), Instant.now()));
+    }
+
+    private void produce(String consumerGroup, List<T> messages) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                producer.accept(consumerGroup, messages);
+                return;
+            } catch (Exception e) {
+                if (attempt >= MAX_ATTEMPTS) {
+                    log.error("Unable to emit {} async messages after {} attempts, dropping them: topic '{}'", messages.size(), attempt, type, e);
+                    this.dropped(messages.size());
+                    return;
+                }
+
+                log.warn("Unable to emit {} async messages, retrying: topic '{}'", messages.size(), type, e);
+            }
+
+            try {
+                Thread.sleep(flushInterval.toMillis() * attempt);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                this.dropped(messages.size());
+                return;
+            }
+        }
+    }
+
+    private void dropped(int count) {
+        metricRegistry
+            .counter(MetricRegistry.JDBC_QUEUE_ASYNC_DROPPED_COUNT, "type", type)
+            .increment(count);
+    }
+
+    /**
+     * Stop the emitting thread and emit what is still buffered.
+     */
+    void close() {
+        running = false;
+        executorService.shutdown();
+
+        try {
+            if (!executorService.awaitTermination(flushInterval.toMillis() * 2, TimeUnit.MILLISECONDS)) {
+                executorService.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        List<Pending<T>> remaining = new ArrayList<>();
+        buffer.drainTo(remaining);
+
+        if (!remaining.isEmpty()) {
+            this.produce(remaining);
+        }
+    }
+
+    private record Pending<T>(String consumerGroup, T message, Instant created) {}
+}
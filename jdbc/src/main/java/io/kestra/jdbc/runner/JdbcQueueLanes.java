@@ -0,0 +1,82 @@
+package io.kestra.jdbc.runner;
+
+import io.kestra.core.exceptions.DeserializationException;
+import io.kestra.core.utils.Either;
+import io.kestra.core.utils.ExecutorsUtils;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Process the messages fetched by a poll on several lanes in parallel.
+ * The messages are split between the lanes by shard key, so the messages with the same key are processed in order on
+ * the same lane, and the poll waits for all the lanes before fetching the next messages.
+ * A message that fails is logged and skipped, so it doesn't stop its lane nor the poll.
+ */
+@Slf4j
+public class JdbcQueueLanes {
+    private final int lanes;
+    private final ExecutorService executorService;
+
+    public JdbcQueueLanes(int lanes, String name, ExecutorsUtils executorsUtils) {
+        this.lanes = lanes;
+        this.executorService = executorsUtils.fixedThreadPool(lanes, name);
+    }
+
+    <T> void dispatch(
+        List<Either<T, DeserializationException>> messages,
+        Function<T, String> shardKey,
+        Consumer<Either<T, DeserializationException>> consumer
+    ) {
+        List<List<Either<T, DeserializationException>>> split = new ArrayList<>(lanes);
+        for (int i = 0; i < lanes; i++) {
+            split.add(new ArrayList<>());
+        }
+
+        // messages that can't be deserialized have no key and are all processed on the first lane
+        messages.forEach(message -> split.get(message.isLeft() ? lane(shardKey.apply(message.getLeft())) : 0).add(message));
+
+        List<Future<?>> futures = split
+            .stream()
+            .filter(lane -> !lane.isEmpty())
+            .<Future<?>>map(lane -> executorService.submit(() -> lane.forEach(message -> this.accept(message, shardKey, consumer))))
+            .toList();
+
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                log.error("Unable to process the messages of a lane", e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    private <T> void accept(
+        Either<T, DeserializationException> message,
+        Function<T, String> shardKey,
+        Consumer<Either<T, DeserializationException>> consumer
+    ) {
+        try {
+            consumer.accept(message);
+        } catch (RuntimeException e) {
+            log.error("Unable to process the message with key '{}'", message.isLeft() ? shardKey.apply(message.getLeft()) : null, e);
+        }
+    }
+
+    private int lane(String shardKey) {
+        return shardKey == null ? 0 : Math.floorMod(shardKey.hashCode(), lanes);
+    }
+
+    public void close() {
+        executorService.shutdown();
+    }
+}
@@ -1,11 +1,23 @@
 package io.kestra.jdbc.repository;
 
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.executions.statistics.DailyExecutionStatistics;
+import io.kestra.core.models.flows.State;
+import io.kestra.core.runners.Executor;
 import io.kestra.jdbc.JdbcTestUtils;
 import jakarta.inject.Inject;
+import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
 
 public abstract class AbstractJdbcExecutionRepositoryTest extends io.kestra.core.repositories.AbstractExecutionRepositoryTest {
     @Inject
@@ -16,4 +28,66 @@ public abstract class AbstractJdbcExecutionRepositoryTest extends io.kestra.core
         jdbcTestUtils.drop();
         jdbcTestUtils.migrate();
     }
-}
\ No newline at end of file
+
+    @Test
+    protected void rebuildRollups() {
+        for (int i = 0; i < 28; i++) {
+            executionRepository.save(builder(
+                i < 5 ? State.Type.RUNNING : (i < 8 ? State.Type.FAILED : State.Type.SUCCESS),
+                i < 15 ? null : "second"
+            ).build());
+        }
+
+        Execution deleted = executionRepository.save(builder(State.Type.FAILED, "second").build());
+        executionRepository.delete(deleted);
+
+        AbstractJdbcExecutionRepository jdbcExecutionRepository = (AbstractJdbcExecutionRepository) executionRepository;
+        assertThat(jdbcExecutionRepository.rebuildRollups(), is(4));
+
+        List<DailyExecutionStatistics> result = executionRepository.dailyStatistics(
+            null,
+            null,
+            null,
+            null,
+            ZonedDateTime.now().minusDays(10),
+            ZonedDateTime.now(),
+            null,
+            false
+        );
+
+        assertThat(result.size(), is(11));
+        assertThat(result.get(10).getExecutionCounts().get(State.Type.FAILED), is(3L));
+        assertThat(result.get(10).getExecutionCounts().get(State.Type.RUNNING), is(5L));
+        assertThat(result.get(10).getExecutionCounts().get(State.Type.SUCCESS), is(20L));
+    }
+
+    @Test
+    protected void lockCache() {
+        AbstractJdbcExecutionRepository jdbcExecutionRepository = (AbstractJdbcExecutionRepository) executionRepository;
+        Execution execution = executionRepository.save(builder(State.Type.RUNNING, null).build());
+        Execution paused = execution.withState(State.Type.PAUSED);
+
+        AtomicReference<Execution> locked = new AtomicReference<>();
+        Runnable lock = () -> jdbcExecutionRepository.lock(execution.getId(), pair -> {
+            locked.set(pair.getLeft());
+
+            return Pair.of(new Executor(paused, null), pair.getRight());
+        });
+
+        // first lock, the execution is fetched
+        lock.run();
+        assertThat(locked.get(), not(sameInstance(paused)));
+        assertThat(locked.get().getState().getCurrent(), is(State.Type.RUNNING));
+
+        // unchanged since the previous lock, the persisted execution is reused
+        lock.run();
+        assertThat(locked.get(), sameInstance(paused));
+
+        // updated by another writer, the stale execution is fetched again
+        executionRepository.save(paused.withState(State.Type.RUNNING));
+
+        lock.run();
+        assertThat(locked.get(), not(sameInstance(paused)));
+        assertThat(locked.get().getState().getCurrent(), is(State.Type.RUNNING));
+    }
+}
@@ -0,0 +1,148 @@
+package io.kestra.jdbc.repository;
+
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.executions.statistics.DailyExecutionStatistics;
+import io.kestra.core.models.flows.State;
+import io.kestra.core.repositories.ExecutionRepositoryInterface;
+import io.kestra.core.utils.IdUtils;
+import io.kestra.jdbc.JdbcTestUtils;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+@MicronautTest(transactional = false)
+@Property(name = "kestra.jdbc.statistics.rollup-enabled", value = "true")
+public abstract class AbstractJdbcExecutionRollupTest {
+    @Inject
+    ExecutionRepositoryInterface executionRepository;
+
+    @Inject
+    JdbcTestUtils jdbcTestUtils;
+
+    @Test
+    void applyPendingRollups() {
+        AbstractJdbcExecutionRepository repository = (AbstractJdbcExecutionRepository) executionRepository;
+        ZonedDateTime day = ZonedDateTime.now().truncatedTo(ChronoUnit.DAYS).minusDays(3).plusHours(12);
+
+        Execution running1 = executionRepository.save(execution(day, State.Type.RUNNING));
+        executionRepository.save(execution(day, State.Type.RUNNING));
+        Execution success = executionRepository.save(execution(day, State.Type.SUCCESS));
+        Execution purged = executionRepository.save(execution(day, State.Type.SUCCESS));
+        executionRepository.save(execution(day, State.Type.SUCCESS));
+
+        // persisting an execution doesn't touch the rollups
+        assertThat(count(day, State.Type.SUCCESS), is(0L));
+
+        assertThat(repository.applyPendingRollups(100), is(5));
+        assertThat(repository.applyPendingRollups(100), is(0));
+        assertThat(count(day, State.Type.RUNNING), is(2L));
+        assertThat(count(day, State.Type.SUCCESS), is(3L));
+
+        // moved between the states and removed once deleted
+        executionRepository.save(running1.withState(State.Type.SUCCESS));
+        executionRepository.delete(success);
+
+        assertThat(repository.applyPendingRollups(100), is(2));
+        assertThat(count(day, State.Type.RUNNING), is(1L));
+        assertThat(count(day, State.Type.SUCCESS), is(3L));
+
+        // a purged execution is removed right away
+        executionRepository.purge(purged);
+        assertThat(count(day, State.Type.SUCCESS), is(2L));
+    }
+
+    @Test
+    void partialFirstDay() {
+        AbstractJdbcExecutionRepository repository = (AbstractJdbcExecutionRepository) executionRepository;
+        ZonedDateTime startDate = ZonedDateTime.now().truncatedTo(ChronoUnit.DAYS).minusDays(5).plusHours(12);
+
+        executionRepository.save(execution(startDate.minusHours(1), State.Type.SUCCESS));
+        executionRepository.save(execution(startDate.plusHours(1), State.Type.SUCCESS));
+        executionRepository.save(execution(startDate.plusDays(1), State.Type.SUCCESS));
+        repository.applyPendingRollups(100);
+
+        List<DailyExecutionStatistics> result = executionRepository.dailyStatistics(
+            null,
+            null,
+            null,
+            null,
+            startDate,
+            ZonedDateTime.now(),
+            null,
+            false
+        );
+
+        // only the executions started after the start date are counted on the first day
+        assertThat(count(result, startDate.toLocalDate(), State.Type.SUCCESS), is(1L));
+        assertThat(count(result, startDate.plusDays(1).toLocalDate(), State.Type.SUCCESS), is(1L));
+    }
+
+    @Test
+    void rebuildRollups() {
+        AbstractJdbcExecutionRepository repository = (AbstractJdbcExecutionRepository) executionRepository;
+        ZonedDateTime day = ZonedDateTime.now().truncatedTo(ChronoUnit.DAYS).minusDays(3).plusHours(12);
+
+        executionRepository.save(execution(day, State.Type.SUCCESS));
+        executionRepository.save(execution(day.minusDays(1), State.Type.FAILED));
+        repository.applyPendingRollups(100);
+        executionRepository.save(execution(day, State.Type.SUCCESS));
+
+        assertThat(repository.rebuildRollups(), is(2));
+        assertThat(count(day, State.Type.SUCCESS), is(2L));
+        assertThat(count(day.minusDays(1), State.Type.FAILED), is(1L));
+    }
+
+    private long count(ZonedDateTime day, State.Type state) {
+        List<DailyExecutionStatistics> result = executionRepository.dailyStatistics(
+            null,
+            null,
+            null,
+            null,
+            ZonedDateTime.now().minusDays(10),
+            ZonedDateTime.now(),
+            null,
+            false
+        );
+
+        return count(result, day.toLocalDate(), state);
+    }
+
+    private static long count(List<DailyExecutionStatistics> result, LocalDate date, State.Type state) {
+        return result
+            .stream()
+            .filter(statistics -> statistics.getStartDate().atZone(ZoneId.systemDefault()).toLocalDate().equals(date))
+            .findFirst()
+            .map(statistics -> statistics.getExecutionCounts().getOrDefault(state, 0L))
+            .orElse(0L);
+    }
+
+    private static Execution execution(ZonedDateTime startDate, State.Type state) {
+        return Execution.builder()
+            .id(IdUtils.create())
+            .namespace("io.kestra.unittest")
+            .flowId("rollup")
+            .flowRevision(1)
+            .state(State.of(state, List.of(
+                new State.History(State.Type.CREATED, startDate.toInstant()),
+                new State.History(state, startDate.plusSeconds(10).toInstant())
+            )))
+            .build();
+    }
+
+    @BeforeEach
+    protected void init() {
+        jdbcTestUtils.drop();
+        jdbcTestUtils.migrate();
+    }
+}
@@ -1,16 +1,168 @@
 package io.kestra.jdbc.repository;
 
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.executions.LogArchive;
+import io.kestra.core.models.executions.LogEntry;
+import io.kestra.core.repositories.ArrayListTotal;
+import io.kestra.core.storages.StorageInterface;
+import io.kestra.core.utils.IdUtils;
 import io.kestra.jdbc.JdbcTestUtils;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.data.model.Pageable;
 import jakarta.inject.Inject;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.event.Level;
 
+import java.net.URI;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+@Property(name = "kestra.jdbc.log-archive.enabled", value = "true")
+@Property(name = "kestra.jdbc.log-archive.initial-delay", value = "1h")
+@Property(name = "kestra.jdbc.log-archive.fixed-delay", value = "1h")
+@Property(name = "kestra.jdbc.log-archive.after", value = "30d")
 public abstract class AbstractJdbcLogRepositoryTest extends io.kestra.core.repositories.AbstractLogRepositoryTest {
     @Inject
     JdbcTestUtils jdbcTestUtils;
 
+    @Inject
+    AbstractJdbcLogArchiveRepository logArchiveRepository;
+
+    @Inject
+    StorageInterface storageInterface;
+
     @BeforeEach
     protected void init() {
         jdbcTestUtils.drop();
         jdbcTestUtils.migrate();
     }
-}
\ No newline at end of file
+
+    @Test
+    void archive() {
+        String executionId = IdUtils.create();
+        Instant timestamp = Instant.now().minus(2, ChronoUnit.DAYS).truncatedTo(ChronoUnit.MILLIS);
+
+        for (int i = 0; i < 10; i++) {
+            logRepository.save(LogEntry.builder()
+                .namespace("io.kestra.unittest")
+                .flowId("archive")
+                .taskId("taskId")
+                .executionId(executionId)
+                .taskRunId(i < 5 ? "taskRunId1" : "taskRunId2")
+                .attemptNumber(0)
+                .timestamp(timestamp.plusMillis(i))
+                .level(i % 2 == 0 ? Level.INFO : Level.DEBUG)
+                .thread("")
+                .message("log " + i)
+                .build()
+            );
+        }
+
+        AbstractJdbcLogRepository jdbcLogRepository = (AbstractJdbcLogRepository) logRepository;
+        assertThat(jdbcLogRepository.archive(ZonedDateTime.now().minusDays(1), 100), is(10));
+        assertThat(jdbcLogRepository.archive(ZonedDateTime.now().minusDays(1), 100), is(0));
+        assertThat(logRepository.find(Pageable.from(1, 50), null, null, "io.kestra.unittest", null, null, null, null).size(), is(0));
+
+        // a new log after the archive is returned after the archived ones
+        logRepository.save(LogEntry.builder()
+            .namespace("io.kestra.unittest")
+            .flowId("archive")
+            .taskId("taskId")
+            .executionId(executionId)
+            .taskRunId("taskRunId2")
+            .attemptNumber(0)
+            .timestamp(Instant.now())
+            .level(Level.INFO)
+            .thread("")
+            .message("log 10")
+            .build()
+        );
+
+        List<LogEntry> find = logRepository.findByExecutionId(null, executionId, null);
+        assertThat(find.size(), is(11));
+        assertThat(find.get(0).getMessage(), is("log 0"));
+        assertThat(find.get(10).getMessage(), is("log 10"));
+
+        find = logRepository.findByExecutionId(null, executionId, Level.INFO, Pageable.from(2, 3));
+        assertThat(find.size(), is(3));
+        assertThat(find.get(0).getMessage(), is("log 6"));
+        assertThat(((ArrayListTotal<LogEntry>) find).getTotal(), is(6L));
+
+        find = logRepository.findByExecutionIdAndTaskRunId(null, executionId, "taskRunId2", null);
+        assertThat(find.size(), is(6));
+
+        // each archive pass writes a new segment and keeps the previous ones
+        URI first = logArchiveRepository.findByExecutionId(null, executionId).orElseThrow().getSegments().get(0).getUri();
+        assertThat(jdbcLogRepository.archive(ZonedDateTime.now().plusSeconds(1), 100), is(1));
+        LogArchive logArchive = logArchiveRepository.findByExecutionId(null, executionId).orElseThrow();
+        assertThat(logArchive.getSegments().size(), is(2));
+        assertThat(logArchive.getSegments().get(0).getUri(), is(first));
+        assertThat(logArchive.getCount(), is(11L));
+        assertThat(storageInterface.exists(null, first), is(true));
+        find = logRepository.findByExecutionId(null, executionId, null);
+        assertThat(find.size(), is(11));
+        assertThat(find.get(10).getMessage(), is("log 10"));
+
+        // a page over both segments only reads the segments it needs
+        find = logRepository.findByExecutionId(null, executionId, Level.INFO, Pageable.from(2, 4));
+        assertThat(find.size(), is(2));
+        assertThat(find.get(0).getMessage(), is("log 8"));
+        assertThat(find.get(1).getMessage(), is("log 10"));
+        assertThat(((ArrayListTotal<LogEntry>) find).getTotal(), is(6L));
+
+        find = logRepository.findByExecutionIdAndTaskRunId(null, executionId, "taskRunId2", null, Pageable.from(2, 5));
+        assertThat(find.size(), is(1));
+        assertThat(find.get(0).getMessage(), is("log 10"));
+        assertThat(((ArrayListTotal<LogEntry>) find).getTotal(), is(6L));
+
+        Execution execution = Execution.builder()
+            .namespace("io.kestra.unittest")
+            .flowId("archive")
+            .id(executionId)
+            .build();
+        assertThat(logRepository.purge(execution), is(11));
+        assertThat(logRepository.findByExecutionId(null, executionId, null).size(), is(0));
+        for (LogArchive.Segment segment : logArchive.getSegments()) {
+            assertThat(storageInterface.exists(null, segment.getUri()), is(false));
+        }
+    }
+
+    @Test
+    void archiveOnlyOldLogs() {
+        String executionId = IdUtils.create();
+        Instant timestamp = Instant.now().minus(2, ChronoUnit.DAYS).truncatedTo(ChronoUnit.MILLIS);
+
+        for (int i = 0; i < 4; i++) {
+            logRepository.save(LogEntry.builder()
+                .namespace("io.kestra.unittest")
+                .flowId("archive")
+                .taskId("taskId")
+                .executionId(executionId)
+                .taskRunId("taskRunId")
+                .attemptNumber(0)
+                // an execution still logging
+                .timestamp(i < 3 ? timestamp.plusMillis(i) : Instant.now())
+                .level(Level.INFO)
+                .thread("")
+                .message("log " + i)
+                .build()
+            );
+        }
+
+        AbstractJdbcLogRepository jdbcLogRepository = (AbstractJdbcLogRepository) logRepository;
+        assertThat(jdbcLogRepository.archive(ZonedDateTime.now().minusDays(1), 1), is(3));
+        assertThat(jdbcLogRepository.archive(ZonedDateTime.now().minusDays(1), 1), is(0));
+        assertThat(logArchiveRepository.findByExecutionId(null, executionId).orElseThrow().getCount(), is(3L));
+
+        List<LogEntry> find = logRepository.findByExecutionId(null, executionId, null);
+        assertThat(find.size(), is(4));
+        assertThat(find.get(0).getMessage(), is("log 0"));
+        assertThat(find.get(3).getMessage(), is("log 3"));
+    }
+}
@@ -0,0 +1,147 @@
+package io.kestra.jdbc.runner;
+
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.flows.Concurrency;
+import io.kestra.core.models.flows.Flow;
+import io.kestra.core.models.flows.State;
+import io.kestra.core.runners.ConcurrencyLimit;
+import io.kestra.core.runners.ExecutionQueued;
+import io.kestra.core.utils.IdUtils;
+import io.kestra.jdbc.JdbcTestUtils;
+import io.kestra.jdbc.JooqDSLContextWrapper;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.apache.commons.lang3.tuple.Pair;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@MicronautTest(transactional = false)
+public abstract class AbstractConcurrencyLimitStorageTest {
+    @Inject
+    AbstractJdbcConcurrencyLimitStorage concurrencyLimitStorage;
+
+    @Inject
+    AbstractJdbcExecutionQueuedStorage executionQueuedStorage;
+
+    @Inject
+    JooqDSLContextWrapper dslContextWrapper;
+
+    @Inject
+    JdbcTestUtils jdbcTestUtils;
+
+    @Test
+    void admitAndRelease() {
+        Flow flow = flow();
+
+        assertThat(this.count(flow, 1), is(1));
+        assertThat(this.count(flow, 1), is(2));
+        assertThat(this.count(flow, -1), is(1));
+        assertThat(running(flow), is(1));
+    }
+
+    @Test
+    void rollbackWithTransaction() {
+        Flow flow = flow();
+        this.count(flow, 1);
+
+        // the counter is updated in the caller transaction, a rolled back admission doesn't keep its slot
+        assertThrows(RuntimeException.class, () -> dslContextWrapper.transaction(configuration -> {
+            concurrencyLimitStorage.countThen(DSL.using(configuration), flow, concurrencyLimit ->
+                Pair.of(null, concurrencyLimit.withRunning(concurrencyLimit.getRunning() + 1))
+            );
+
+            throw new IllegalStateException("lock rolled back");
+        }));
+
+        assertThat(running(flow), is(1));
+    }
+
+    @Test
+    void queueAndPop() {
+        Flow flow = flow();
+        List<Execution> executions = new ArrayList<>();
+        Instant now = Instant.now();
+
+        for (int i = 0; i < 3; i++) {
+            Execution execution = Execution.builder()
+                .id(IdUtils.create())
+                .namespace(flow.getNamespace())
+                .flowId(flow.getId())
+                .state(new State().withState(State.Type.QUEUED))
+                .build();
+
+            executions.add(execution);
+            executionQueuedStorage.save(ExecutionQueued.builder()
+                .namespace(flow.getNamespace())
+                .flowId(flow.getId())
+                .execution(execution)
+                .date(now.plusSeconds(i))
+                .build()
+            );
+        }
+
+        assertThat(this.waiting(flow), is(3));
+
+        // oldest first, at most the number of free slots
+        List<Execution> popped = new ArrayList<>();
+        dslContextWrapper.transaction(configuration -> executionQueuedStorage.pop(
+            DSL.using(configuration),
+            null,
+            flow.getNamespace(),
+            flow.getId(),
+            2,
+            popped::add
+        ));
+
+        assertThat(popped.size(), is(2));
+        assertThat(popped.get(0).getId(), is(executions.get(0).getId()));
+        assertThat(popped.get(1).getId(), is(executions.get(1).getId()));
+        assertThat(this.waiting(flow), is(1));
+    }
+
+    private int count(Flow flow, int delta) {
+        return dslContextWrapper.transactionResult(configuration -> concurrencyLimitStorage.countThen(
+            DSL.using(configuration),
+            flow,
+            concurrencyLimit -> {
+                ConcurrencyLimit updated = concurrencyLimit.withRunning(concurrencyLimit.getRunning() + delta);
+                return Pair.of(updated.getRunning(), updated);
+            }
+        ));
+    }
+
+    private int running(Flow flow) {
+        return concurrencyLimitStorage.findById(null, flow.getNamespace(), flow.getId())
+            .map(ConcurrencyLimit::getRunning)
+            .orElse(0);
+    }
+
+    private int waiting(Flow flow) {
+        return dslContextWrapper.transactionResult(configuration ->
+            executionQueuedStorage.count(DSL.using(configuration), null, flow.getNamespace(), flow.getId())
+        );
+    }
+
+    private static Flow flow() {
+        return Flow.builder()
+            .id(IdUtils.create())
+            .namespace("io.kestra.unittest")
+            .concurrency(Concurrency.builder().behavior(Concurrency.Behavior.QUEUE).limit(1).build())
+            .build();
+    }
+
+    @BeforeEach
+    protected void init() {
+        jdbcTestUtils.drop();
+        jdbcTestUtils.migrate();
+    }
+}
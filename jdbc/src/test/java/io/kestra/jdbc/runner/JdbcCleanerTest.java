@@ -0,0 +1,123 @@
+package io.kestra.jdbc.runner;
+
+import io.kestra.core.models.flows.Flow;
+import io.kestra.core.queues.QueueFactoryInterface;
+import io.kestra.core.queues.QueueInterface;
+import io.kestra.core.tasks.debugs.Return;
+import io.kestra.core.utils.IdUtils;
+import io.kestra.jdbc.JdbcConfiguration;
+import io.kestra.jdbc.JdbcTestUtils;
+import io.kestra.jdbc.JooqDSLContextWrapper;
+import io.kestra.jdbc.repository.AbstractJdbcRepository;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import org.jooq.Record;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+@MicronautTest(transactional = false)
+@Property(name = "kestra.jdbc.cleaner.retention", value = "1d")
+@Property(name = "kestra.jdbc.cleaner.batch-size", value = "2")
+@Property(name = "kestra.jdbc.cleaner.initial-delay", value = "1h")
+@Property(name = "kestra.jdbc.cleaner.fixed-delay", value = "1h")
+public abstract class JdbcCleanerTest {
+    @Inject
+    JdbcCleaner jdbcCleaner;
+
+    @Inject
+    @Named(QueueFactoryInterface.FLOW_NAMED)
+    QueueInterface<Flow> flowQueue;
+
+    @Inject
+    JooqDSLContextWrapper dslContextWrapper;
+
+    @Inject
+    JdbcConfiguration jdbcConfiguration;
+
+    @Inject
+    JdbcTestUtils jdbcTestUtils;
+
+    @Test
+    void deleteQueue() {
+        for (int i = 0; i < 7; i++) {
+            flowQueue.emit(builder());
+        }
+
+        List<Integer> offsets = offsets();
+        assertThat(offsets.size(), is(7));
+
+        // the 4th and the last messages are not expired, the others are deleted over several batches
+        expire(List.of(offsets.get(0), offsets.get(1), offsets.get(2), offsets.get(4), offsets.get(5)));
+
+        jdbcCleaner.deleteQueue();
+
+        assertThat(offsets(), contains(offsets.get(3), offsets.get(6)));
+    }
+
+    @Test
+    void deleteQueueNothingExpired() {
+        flowQueue.emit(builder());
+        flowQueue.emit(builder());
+
+        jdbcCleaner.deleteQueue();
+
+        assertThat(offsets().size(), is(2));
+
+        // nothing is left to clean
+        jdbcTestUtils.drop();
+        jdbcCleaner.deleteQueue();
+
+        assertThat(offsets().size(), is(0));
+    }
+
+    private Table<Record> queueTable() {
+        return DSL.table(jdbcConfiguration.tableConfig("queues").getTable());
+    }
+
+    private List<Integer> offsets() {
+        return dslContextWrapper.transactionResult(configuration -> DSL
+            .using(configuration)
+            .select(AbstractJdbcRepository.field("offset", Integer.class))
+            .from(this.queueTable())
+            .orderBy(AbstractJdbcRepository.field("offset").asc())
+            .fetch(AbstractJdbcRepository.field("offset", Integer.class))
+        );
+    }
+
+    private void expire(List<Integer> offsets) {
+        dslContextWrapper.transaction(configuration -> DSL
+            .using(configuration)
+            .update(this.queueTable())
+            .set(AbstractJdbcRepository.field("updated"), ZonedDateTime.now().minus(Duration.ofDays(2)).toOffsetDateTime())
+            .where(AbstractJdbcRepository.field("offset", Integer.class).in(offsets))
+            .execute()
+        );
+    }
+
+    private static Flow builder() {
+        return Flow.builder()
+            .id(IdUtils.create())
+            .namespace("io.kestra.cleaner")
+            .tasks(Collections.singletonList(Return.builder().id("test").type(Return.class.getName()).format("test").build()))
+            .build();
+    }
+
+    @BeforeEach
+    protected void init() {
+        jdbcTestUtils.drop();
+        jdbcTestUtils.migrate();
+    }
+}
@@ -0,0 +1,239 @@
+package io.kestra.jdbc.runner;
+
+import io.kestra.core.models.flows.State;
+import io.kestra.core.runners.ExecutionDelay;
+import io.kestra.core.utils.Await;
+import io.kestra.core.utils.IdUtils;
+import org.jooq.DSLContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+class JdbcExecutionDelayDispatcherTest {
+    private final InMemoryExecutionDelayStorage storage = new InMemoryExecutionDelayStorage();
+    private final List<JdbcExecutionDelayDispatcher> dispatchers = new ArrayList<>();
+    private final List<Thread> threads = new ArrayList<>();
+
+    @AfterEach
+    void close() throws InterruptedException {
+        dispatchers.forEach(JdbcExecutionDelayDispatcher::close);
+
+        for (Thread thread : threads) {
+            thread.join(5000);
+        }
+    }
+
+    @Test
+    void preload() throws TimeoutException {
+        List<ExecutionDelay> fired = new CopyOnWriteArrayList<>();
+        ExecutionDelay due = delay(Instant.now().minusSeconds(1));
+        ExecutionDelay soon = delay(Instant.now().plusMillis(500));
+        ExecutionDelay later = delay(Instant.now().plus(Duration.ofHours(1)));
+        storage.save(due);
+        storage.save(soon);
+        storage.save(later);
+
+        start(claimed(fired));
+
+        Await.until(() -> fired.size() == 2, Duration.ofMillis(10), Duration.ofSeconds(5));
+        assertThat(fired, containsInAnyOrder(due, soon));
+
+        // the fired delays are removed from the storage, the others are kept
+        assertThat(storage.delays.values(), containsInAnyOrder(later));
+    }
+
+    @Test
+    void add() throws TimeoutException {
+        List<ExecutionDelay> fired = new CopyOnWriteArrayList<>();
+        JdbcExecutionDelayDispatcher dispatcher = start(claimed(fired));
+
+        // wait for the first preload
+        Await.until(() -> storage.preloads > 0, Duration.ofMillis(10), Duration.ofSeconds(5));
+
+        ExecutionDelay executionDelay = delay(Instant.now().plusMillis(100));
+        storage.save(executionDelay);
+        dispatcher.add(executionDelay);
+
+        Await.until(() -> fired.size() == 1, Duration.ofMillis(10), Duration.ofSeconds(5));
+        assertThat(fired.get(0), is(executionDelay));
+    }
+
+    @Test
+    void claimOnce() throws TimeoutException {
+        List<ExecutionDelay> fired = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            storage.save(delay(Instant.now().plusMillis(200)));
+        }
+
+        // two executors preload the same delays, each one is fired by only one of them
+        start(claimed(fired));
+        start(claimed(fired));
+
+        Await.until(() -> fired.size() >= 50, Duration.ofMillis(10), Duration.ofSeconds(5));
+        assertThat(fired.stream().map(ExecutionDelay::uid).distinct().count(), is(50L));
+        assertThat(fired, hasSize(50));
+        assertThat(storage.delays.isEmpty(), is(true));
+    }
+
+    @Test
+    void retryFailed() throws TimeoutException {
+        List<ExecutionDelay> fired = new CopyOnWriteArrayList<>();
+        AtomicBoolean failed = new AtomicBoolean(false);
+        ExecutionDelay first = delay(Instant.now().minusSeconds(3));
+        ExecutionDelay second = delay(Instant.now().minusSeconds(2));
+        ExecutionDelay third = delay(Instant.now().minusSeconds(1));
+        storage.save(first);
+        storage.save(second);
+        storage.save(third);
+
+        Consumer<ExecutionDelay> claimed = claimed(fired);
+        start(executionDelay -> {
+            // a failure rolls back the claim with the transaction
+            if (executionDelay.equals(second) && failed.compareAndSet(false, true)) {
+                throw new IllegalStateException("unable to emit");
+            }
+
+            claimed.accept(executionDelay);
+        });
+
+        // the failing delay is kept in the storage and fired after the next preload, the next ones are not delayed
+        Await.until(() -> fired.size() == 3, Duration.ofMillis(10), Duration.ofSeconds(5));
+        assertThat(failed.get(), is(true));
+        assertThat(fired, contains(first, third, second));
+        assertThat(storage.delays.isEmpty(), is(true));
+    }
+
+    @Test
+    void closeKeepsDelays() throws InterruptedException {
+        List<ExecutionDelay> fired = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            storage.save(delay(Instant.now().minusSeconds(10 - i)));
+        }
+
+        // the executor stops while firing a batch
+        Consumer<ExecutionDelay> claimed = claimed(fired);
+        start(executionDelay -> {
+            claimed.accept(executionDelay);
+            dispatchers.get(0).close();
+        });
+        threads.get(0).join(5000);
+
+        // the delays not fired are still in the storage
+        assertThat(fired, hasSize(1));
+        assertThat(storage.delays.size(), is(9));
+    }
+
+    @Test
+    void storageFailure() throws TimeoutException {
+        List<ExecutionDelay> fired = new CopyOnWriteArrayList<>();
+        storage.failures = 1;
+        storage.save(delay(Instant.now()));
+
+        start(claimed(fired));
+
+        // the loop goes on after a failed preload
+        Await.until(() -> fired.size() == 1, Duration.ofMillis(10), Duration.ofSeconds(5));
+    }
+
+    @Test
+    void closeStopsTheLoop() throws InterruptedException {
+        JdbcExecutionDelayDispatcher dispatcher = start(executionDelay -> {});
+        Thread thread = threads.get(0);
+
+        dispatcher.close();
+        thread.join(2000);
+
+        assertThat(thread.isAlive(), is(false));
+    }
+
+    /**
+     * Claim the delay before firing it, as the executor does in the execution lock transaction.
+     */
+    private Consumer<ExecutionDelay> claimed(List<ExecutionDelay> fired) {
+        return executionDelay -> {
+            if (storage.claim(null, executionDelay, Instant.now())) {
+                fired.add(executionDelay);
+            }
+        };
+    }
+
+    private JdbcExecutionDelayDispatcher start(Consumer<ExecutionDelay> consumer) {
+        JdbcExecutionDelayDispatcher dispatcher = new JdbcExecutionDelayDispatcher(storage, consumer);
+        Thread thread = new Thread(dispatcher::run);
+
+        dispatchers.add(dispatcher);
+        threads.add(thread);
+        thread.start();
+
+        return dispatcher;
+    }
+
+    private static ExecutionDelay delay(Instant date) {
+        return ExecutionDelay.builder()
+            .executionId(IdUtils.create())
+            .taskRunId(IdUtils.create())
+            .date(date)
+            .state(State.Type.RUNNING)
+            .build();
+    }
+
+    private static class InMemoryExecutionDelayStorage extends AbstractJdbcExecutionDelayStorage {
+        private final Map<String, ExecutionDelay> delays = new ConcurrentHashMap<>();
+        private volatile int preloads = 0;
+        private volatile int failures = 0;
+
+        private InMemoryExecutionDelayStorage() {
+            super(null);
+        }
+
+        @Override
+        public synchronized List<ExecutionDelay> findDueBefore(Instant date, int limit) {
+            if (failures > 0) {
+                failures--;
+                throw new IllegalStateException("storage unavailable");
+            }
+
+            preloads++;
+
+            return delays.values()
+                .stream()
+                .filter(executionDelay -> !executionDelay.getDate().isAfter(date))
+                .sorted(Comparator.comparing(ExecutionDelay::getDate))
+                .limit(limit)
+                .toList();
+        }
+
+        @Override
+        public synchronized boolean claim(DSLContext context, ExecutionDelay executionDelay, Instant now) {
+            ExecutionDelay current = delays.get(executionDelay.uid());
+            if (current == null || current.getDate().isAfter(now)) {
+                return false;
+            }
+
+            delays.remove(executionDelay.uid());
+            return true;
+        }
+
+        @Override
+        public synchronized void save(ExecutionDelay executionDelay) {
+            delays.put(executionDelay.uid(), executionDelay);
+        }
+    }
+}
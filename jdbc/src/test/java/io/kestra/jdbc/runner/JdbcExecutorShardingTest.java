@@ -0,0 +1,110 @@
+package io.kestra.jdbc.runner;
+
+import io.kestra.core.runners.WorkerInstance;
+import io.kestra.jdbc.JdbcTestUtils;
+import io.kestra.jdbc.repository.AbstractJdbcWorkerInstanceRepository;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@MicronautTest(transactional = false)
+@Property(name = "kestra.jdbc.executor.sharding.enabled", value = "true")
+public abstract class JdbcExecutorShardingTest {
+    @Inject
+    JdbcExecutorSharding executorSharding;
+
+    @Inject
+    AbstractJdbcWorkerInstanceRepository workerInstanceRepository;
+
+    @Inject
+    JdbcTestUtils jdbcTestUtils;
+
+    @Test
+    void ownedShards() {
+        List<String> executors = List.of("executor-1", "executor-2", "executor-3");
+
+        Set<Integer> all = new HashSet<>();
+        int total = 0;
+        for (String executor : executors) {
+            Set<Integer> owned = JdbcExecutorSharding.ownedShards(executor, executors);
+            assertThat(owned, not(empty()));
+
+            all.addAll(owned);
+            total += owned.size();
+        }
+
+        // each shard has exactly one owner
+        assertThat(all.size(), is(JdbcQueue.SHARDS));
+        assertThat(total, is(JdbcQueue.SHARDS));
+    }
+
+    @Test
+    void rebalanceOnlyMovesDeadShards() {
+        Set<Integer> before = JdbcExecutorSharding.ownedShards("executor-1", List.of("executor-1", "executor-2", "executor-3"));
+        Set<Integer> after = JdbcExecutorSharding.ownedShards("executor-1", List.of("executor-1", "executor-2"));
+
+        assertThat(after.containsAll(before), is(true));
+        assertThat(JdbcExecutorSharding.ownedShards("executor-4", List.of("executor-1")), empty());
+    }
+
+    @Test
+    void rebalance() {
+        executorSharding.register();
+        executorSharding.rebalance();
+
+        // alone, all the shards are owned
+        assertThat(executorSharding.shards().size(), is(JdbcQueue.SHARDS));
+
+        // a second executor takes its share
+        WorkerInstance other = WorkerInstance.builder()
+            .workerUuid(UUID.randomUUID())
+            .hostname("other")
+            .workerGroup(AbstractJdbcWorkerInstanceRepository.EXECUTOR_WORKER_GROUP)
+            .build();
+        workerInstanceRepository.save(other);
+
+        executorSharding.rebalance();
+        assertThat(executorSharding.shards().size(), allOf(greaterThan(0), lessThan(JdbcQueue.SHARDS)));
+
+        List<String> executors = workerInstanceRepository.getJdbcRepository()
+            .getDslContextWrapper()
+            .transactionResult(configuration -> workerInstanceRepository.findAllExecutorsAlive(DSL.using(configuration)))
+            .stream()
+            .map(instance -> instance.getWorkerUuid().toString())
+            .sorted()
+            .toList();
+        assertThat(executors.size(), is(2));
+
+        Set<Integer> others = JdbcExecutorSharding.ownedShards(other.getWorkerUuid().toString(), executors);
+        assertThat(executorSharding.shards().size() + others.size(), is(JdbcQueue.SHARDS));
+        assertThat(executorSharding.shards().stream().noneMatch(others::contains), is(true));
+
+        // executors are not workers
+        assertThat(workerInstanceRepository.findAll(), empty());
+
+        // the second executor is dead, its shards come back
+        workerInstanceRepository.save(other.toBuilder().status(WorkerInstance.Status.DEAD).build());
+
+        executorSharding.rebalance();
+        assertThat(executorSharding.shards().size(), is(JdbcQueue.SHARDS));
+
+        executorSharding.close();
+    }
+
+    @BeforeEach
+    protected void init() {
+        jdbcTestUtils.drop();
+        jdbcTestUtils.migrate();
+    }
+}
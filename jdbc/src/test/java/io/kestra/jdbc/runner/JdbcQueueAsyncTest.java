@@ -0,0 +1,143 @@
+package io.kestra.jdbc.runner;
+
+import io.kestra.core.metrics.MetricRegistry;
+import io.kestra.core.models.flows.Flow;
+import io.kestra.core.queues.QueueFactoryInterface;
+import io.kestra.core.queues.QueueInterface;
+import io.kestra.core.tasks.debugs.Return;
+import io.kestra.core.utils.Await;
+import io.kestra.core.utils.ExecutorsUtils;
+import io.kestra.core.utils.IdUtils;
+import io.kestra.jdbc.JdbcTestUtils;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+@MicronautTest(transactional = false)
+@Property(name = "kestra.jdbc.queues.async-enabled", value = "true")
+abstract public class JdbcQueueAsyncTest {
+    @Inject
+    @Named(QueueFactoryInterface.FLOW_NAMED)
+    protected QueueInterface<Flow> flowQueue;
+
+    @Inject
+    JdbcTestUtils jdbcTestUtils;
+
+    @Inject
+    MetricRegistry metricRegistry;
+
+    @Inject
+    ExecutorsUtils executorsUtils;
+
+    @Test
+    void emitAsync() throws InterruptedException {
+        // the emitter thread is only started on the first emitAsync
+        assertThat(asyncThreads(), is(0L));
+
+        CountDownLatch countDownLatch = new CountDownLatch(50);
+        flowQueue.receive(either -> countDownLatch.countDown());
+
+        for (int i = 0; i < 50; i++) {
+            flowQueue.emitAsync(builder());
+        }
+
+        assertThat(countDownLatch.await(5, TimeUnit.SECONDS), is(true));
+        assertThat(asyncThreads(), is(1L));
+    }
+
+    @Test
+    void retryFailedBatch() throws InterruptedException {
+        AtomicInteger attempts = new AtomicInteger();
+        List<String> produced = new CopyOnWriteArrayList<>();
+        CountDownLatch countDownLatch = new CountDownLatch(1);
+
+        JdbcQueueAsyncEmitter<String> emitter = emitter((consumerGroup, messages) -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new IllegalStateException("database unavailable");
+            }
+
+            produced.addAll(messages);
+            countDownLatch.countDown();
+        });
+
+        emitter.emit(null, "first");
+        emitter.emit(null, "second");
+
+        assertThat(countDownLatch.await(5, TimeUnit.SECONDS), is(true));
+        assertThat(produced, is(List.of("first", "second")));
+        assertThat(dropped(), is(0D));
+
+        emitter.close();
+    }
+
+    @Test
+    void droppedAfterRetries() throws TimeoutException {
+        AtomicInteger attempts = new AtomicInteger();
+
+        JdbcQueueAsyncEmitter<String> emitter = emitter((consumerGroup, messages) -> {
+            attempts.incrementAndGet();
+            throw new IllegalStateException("database unavailable");
+        });
+
+        double before = dropped();
+        emitter.emit(null, "first");
+        emitter.emit(null, "second");
+
+        Await.until(() -> dropped() - before >= 2D, Duration.ofMillis(10), Duration.ofSeconds(5));
+        emitter.close();
+
+        assertThat(attempts.get() >= JdbcQueueAsyncEmitter.MAX_ATTEMPTS, is(true));
+        assertThat(dropped() - before, is(2D));
+    }
+
+    private JdbcQueueAsyncEmitter<String> emitter(BiConsumer<String, List<String>> producer) {
+        JdbcQueue.Configuration configuration = new JdbcQueue.Configuration();
+        configuration.asyncFlushInterval = Duration.ofMillis(10);
+
+        return new JdbcQueueAsyncEmitter<>(String.class, configuration, 100, producer, metricRegistry, executorsUtils);
+    }
+
+    private double dropped() {
+        return metricRegistry
+            .counter(MetricRegistry.JDBC_QUEUE_ASYNC_DROPPED_COUNT, "type", String.class.getName())
+            .count();
+    }
+
+    private static long asyncThreads() {
+        return Thread.getAllStackTraces()
+            .keySet()
+            .stream()
+            .filter(thread -> thread.getName().startsWith("jdbc-queue-async-Flow"))
+            .count();
+    }
+
+    private static Flow builder() {
+        return Flow.builder()
+            .id(IdUtils.create())
+            .namespace("io.kestra.async")
+            .tasks(Collections.singletonList(Return.builder().id("test").type(Return.class.getName()).format("test").build()))
+            .build();
+    }
+
+    @BeforeEach
+    protected void init() {
+        jdbcTestUtils.drop();
+        jdbcTestUtils.migrate();
+    }
+}
@@ -0,0 +1,118 @@
+package io.kestra.jdbc.runner;
+
+import io.kestra.core.exceptions.DeserializationException;
+import io.kestra.core.models.flows.Flow;
+import io.kestra.core.queues.QueueFactoryInterface;
+import io.kestra.core.queues.QueueInterface;
+import io.kestra.core.tasks.debugs.Return;
+import io.kestra.core.utils.Await;
+import io.kestra.core.utils.Either;
+import io.kestra.core.utils.ExecutorsUtils;
+import io.kestra.core.utils.IdUtils;
+import io.kestra.jdbc.JdbcTestUtils;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.is;
+
+@MicronautTest(transactional = false)
+abstract public class JdbcQueueLanesTest {
+    @Inject
+    @Named(QueueFactoryInterface.FLOW_NAMED)
+    protected QueueInterface<Flow> flowQueue;
+
+    @Inject
+    JdbcTestUtils jdbcTestUtils;
+
+    @Inject
+    ExecutorsUtils executorsUtils;
+
+    private JdbcQueueLanes lanes;
+
+    @Test
+    void failingMessage() throws TimeoutException, InterruptedException {
+        List<Flow> flows = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            flows.add(builder());
+        }
+        String failing = flows.get(3).getId();
+
+        Map<String, AtomicInteger> processed = new ConcurrentHashMap<>();
+        Runnable cancel = ((JdbcQueue<Flow>) flowQueue).receive(null, JdbcQueueLanesTest.class, () -> null, lanes, either -> {
+            String id = either.getLeft().getId();
+            processed.computeIfAbsent(id, k -> new AtomicInteger()).incrementAndGet();
+
+            if (id.equals(failing)) {
+                throw new IllegalStateException("failing message");
+            }
+        });
+
+        flows.forEach(flowQueue::emit);
+        Await.until(() -> processed.size() == 20, Duration.ofMillis(10), Duration.ofSeconds(10));
+
+        // the poll survived the failure
+        for (int i = 0; i < 5; i++) {
+            flowQueue.emit(builder());
+        }
+        Await.until(() -> processed.size() == 25, Duration.ofMillis(10), Duration.ofSeconds(10));
+
+        // a few more polls, no message of the failing poll is fetched again
+        Thread.sleep(500);
+        cancel.run();
+
+        assertThat(processed.size(), is(25));
+        assertThat(processed.values().stream().map(AtomicInteger::get).toList(), everyItem(is(1)));
+    }
+
+    @Test
+    void sameKeyInOrder() {
+        List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+        List<Either<Integer, DeserializationException>> messages = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            messages.add(Either.left(i));
+        }
+
+        lanes.dispatch(messages, i -> "key", either -> received.add(either.getLeft()));
+
+        assertThat(received.size(), is(100));
+        for (int i = 0; i < 100; i++) {
+            assertThat(received.get(i), is(i));
+        }
+    }
+
+    private static Flow builder() {
+        return Flow.builder()
+            .id(IdUtils.create())
+            .namespace("io.kestra.lanes")
+            .tasks(Collections.singletonList(Return.builder().id("test").type(Return.class.getName()).format("test").build()))
+            .build();
+    }
+
+    @BeforeEach
+    protected void init() {
+        jdbcTestUtils.drop();
+        jdbcTestUtils.migrate();
+
+        lanes = new JdbcQueueLanes(4, "jdbc-queue-lanes-test", executorsUtils);
+    }
+
+    @AfterEach
+    protected void close() {
+        lanes.close();
+    }
+}
@@ -3,22 +3,33 @@ package io.kestra.jdbc.runner;
 import io.kestra.core.models.flows.Flow;
 import io.kestra.core.queues.QueueFactoryInterface;
 import io.kestra.core.queues.QueueInterface;
+import io.kestra.core.queues.QueueService;
 import io.kestra.core.runners.Indexer;
+import io.kestra.core.runners.Worker;
 import io.kestra.core.tasks.debugs.Return;
 import io.kestra.core.utils.IdUtils;
+import io.kestra.jdbc.JdbcConfiguration;
 import io.kestra.jdbc.JdbcTestUtils;
+import io.kestra.jdbc.JooqDSLContextWrapper;
+import io.kestra.jdbc.repository.AbstractJdbcRepository;
 import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
+import org.jooq.impl.DSL;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.is;
 
 @MicronautTest(transactional = false)
@@ -30,6 +41,15 @@ abstract public class JdbcQueueTest {
     @Inject
     JdbcTestUtils jdbcTestUtils;
 
+    @Inject
+    JooqDSLContextWrapper dslContextWrapper;
+
+    @Inject
+    JdbcConfiguration jdbcConfiguration;
+
+    @Inject
+    QueueService queueService;
+
     @Test
     void noGroup() throws InterruptedException {
         CountDownLatch countDownLatch = new CountDownLatch(2);
@@ -134,6 +154,109 @@ abstract public class JdbcQueueTest {
         assertThat(namespace.get(), is("io.kestra.f2"));
     }
 
+    @SuppressWarnings("unchecked")
+    @Test
+    void withCredits() throws InterruptedException {
+        flowQueue.emitAll("consumer_group", List.of(builder("io.kestra.f1"), builder("io.kestra.f2"), builder("io.kestra.f3")));
+
+        AtomicInteger credits = new AtomicInteger(2);
+        List<Integer> polls = new CopyOnWriteArrayList<>();
+        CountDownLatch countDownLatch = new CountDownLatch(3);
+
+        ((JdbcQueue<Flow>) flowQueue).receiveTransaction("consumer_group", Indexer.class, credits::get, (dslContext, eithers) -> {
+            polls.add(eithers.size());
+            credits.addAndGet(-eithers.size());
+            eithers.forEach(either -> countDownLatch.countDown());
+        });
+
+        Thread.sleep(500);
+        assertThat(countDownLatch.getCount(), is(1L));
+
+        credits.set(1);
+        countDownLatch.await(5, TimeUnit.SECONDS);
+
+        assertThat(countDownLatch.getCount(), is(0L));
+        assertThat(polls, contains(2, 1));
+    }
+
+    @Test
+    void emitAll() throws InterruptedException {
+        CountDownLatch countDownLatch = new CountDownLatch(3);
+
+        flowQueue.receive("consumer_group", either -> {
+            countDownLatch.countDown();
+        });
+
+        flowQueue.emitAll("consumer_group", List.of(
+            builder("io.kestra.f1"),
+            builder("io.kestra.f2"),
+            builder("io.kestra.f3")
+        ));
+
+        countDownLatch.await(5, TimeUnit.SECONDS);
+
+        assertThat(countDownLatch.getCount(), is(0L));
+    }
+
+    @Test
+    void emitAsync() throws InterruptedException {
+        CountDownLatch countDownLatch = new CountDownLatch(3);
+
+        flowQueue.receive("consumer_group", either -> {
+            countDownLatch.countDown();
+        });
+
+        flowQueue.emitAsync("consumer_group", builder("io.kestra.f1"));
+        flowQueue.emitAsync("consumer_group", builder("io.kestra.f2"));
+        flowQueue.emitAsync("consumer_group", builder("io.kestra.f3"));
+
+        countDownLatch.await(5, TimeUnit.SECONDS);
+
+        assertThat(countDownLatch.getCount(), is(0L));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void withShards() throws InterruptedException {
+        Flow sharded;
+        do {
+            sharded = builder("io.kestra.f1");
+        } while (JdbcQueue.shard(queueService.shardKey(sharded)) == 0);
+        Flow legacy = builder("io.kestra.f2");
+
+        flowQueue.emit(sharded);
+        flowQueue.emit(legacy);
+
+        // a message produced before sharding was available has no shard
+        dslContextWrapper.transaction(configuration -> DSL
+            .using(configuration)
+            .update(DSL.table(jdbcConfiguration.tableConfig("queues").getTable()))
+            .set(AbstractJdbcRepository.field("shard"), (Object) null)
+            .where(AbstractJdbcRepository.field("key").eq(queueService.key(legacy)))
+            .execute()
+        );
+
+        List<String> owner = new CopyOnWriteArrayList<>();
+        List<String> firstShardOwner = new CopyOnWriteArrayList<>();
+        CountDownLatch countDownLatch = new CountDownLatch(2);
+        Integer shard = JdbcQueue.shard(queueService.shardKey(sharded));
+
+        ((JdbcQueue<Flow>) flowQueue).receive(null, Indexer.class, () -> Set.of(shard), either -> {
+            owner.add(either.getLeft().getNamespace());
+            countDownLatch.countDown();
+        });
+        ((JdbcQueue<Flow>) flowQueue).receive(null, Worker.class, () -> Set.of(0), either -> {
+            firstShardOwner.add(either.getLeft().getNamespace());
+            countDownLatch.countDown();
+        });
+
+        countDownLatch.await(5, TimeUnit.SECONDS);
+        Thread.sleep(500);
+
+        assertThat(owner, contains("io.kestra.f1"));
+        assertThat(firstShardOwner, contains("io.kestra.f2"));
+    }
+
     private static Flow builder(String namespace) {
         return Flow.builder()
             .id(IdUtils.create())
@@ -3,10 +3,12 @@ package io.kestra.jdbc.runner;
 import io.kestra.core.exceptions.InternalException;
 import io.kestra.core.models.executions.Execution;
 import io.kestra.core.models.executions.LogEntry;
+import io.kestra.core.models.flows.Flow;
 import io.kestra.core.models.flows.State;
 import io.kestra.core.queues.QueueException;
 import io.kestra.core.queues.QueueFactoryInterface;
 import io.kestra.core.queues.QueueInterface;
+import io.kestra.core.repositories.FlowRepositoryInterface;
 import io.kestra.core.repositories.LocalFlowRepositoryLoader;
 import io.kestra.core.runners.*;
 import io.kestra.core.tasks.flows.EachSequentialTest;
@@ -14,11 +16,15 @@ import io.kestra.core.tasks.flows.FlowCaseTest;
 import io.kestra.core.tasks.flows.ForEachItemCaseTest;
 import io.kestra.core.tasks.flows.PauseTest;
 import io.kestra.core.tasks.flows.WorkingDirectoryTest;
+import io.kestra.core.utils.Await;
 import io.kestra.core.utils.TestsUtils;
 import io.kestra.jdbc.JdbcTestUtils;
+import io.kestra.jdbc.JooqDSLContextWrapper;
 import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
+import org.apache.commons.lang3.tuple.Pair;
+import org.jooq.impl.DSL;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
@@ -83,6 +89,22 @@ public abstract class JdbcRunnerTest {
     @Inject
     private FlowConcurrencyCaseTest flowConcurrencyCaseTest;
 
+    @Inject
+    private FlowRepositoryInterface flowRepository;
+
+    @Inject
+    private AbstractJdbcConcurrencyLimitStorage concurrencyLimitStorage;
+
+    @Inject
+    private JooqDSLContextWrapper dslContextWrapper;
+
+    @Inject
+    private JdbcExecutor jdbcExecutor;
+
+    @Inject
+    @Named(QueueFactoryInterface.EXECUTION_NAMED)
+    private QueueInterface<Execution> executionQueue;
+
     @BeforeAll
     void init() throws IOException, URISyntaxException {
         jdbcTestUtils.drop();
@@ -283,6 +305,11 @@ public abstract class JdbcRunnerTest {
         forEachItemCaseTest.forEachItemFailed();
     }
 
+    @Test
+    void forEachItemConcurrencyLimit() throws URISyntaxException, IOException, InterruptedException, TimeoutException {
+        forEachItemCaseTest.forEachItemConcurrencyLimit();
+    }
+
     @Test
     void concurrencyCancel() throws TimeoutException, InterruptedException {
         flowConcurrencyCaseTest.flowConcurrencyCancel();
@@ -298,6 +325,52 @@ public abstract class JdbcRunnerTest {
         flowConcurrencyCaseTest.flowConcurrencyQueue();
     }
 
+    @Test
+    void concurrencyQueueReleaseSlots() throws TimeoutException, InterruptedException {
+        flowConcurrencyCaseTest.flowConcurrencyQueue();
+
+        // both executions have released their slot
+        Await.until(
+            () -> concurrencyLimitStorage.findById(null, "io.kestra.tests", "flow-concurrency-queue").orElseThrow().getRunning() == 0,
+            Duration.ofMillis(50),
+            Duration.ofSeconds(10)
+        );
+    }
+
+    @Test
+    void concurrencyLeakedSlot() throws TimeoutException {
+        Flow flow = flowRepository.findById(null, "io.kestra.tests", "flow-concurrency-queue").orElseThrow();
+
+        // a slot is leaked, as if its execution had been deleted while running
+        dslContextWrapper.transaction(configuration -> concurrencyLimitStorage.countThen(
+            DSL.using(configuration),
+            flow,
+            concurrencyLimit -> Pair.of(null, concurrencyLimit.withRunning(flow.getConcurrency().getLimit()))
+        ));
+
+        // the admission only trusts the counter, the execution is queued
+        Execution execution = runnerUtils.newExecution(flow, null, null);
+        runnerUtils.awaitExecution(
+            e -> e.getId().equals(execution.getId()) && e.getState().getCurrent() == State.Type.QUEUED,
+            () -> executionQueue.emit(execution),
+            Duration.ofSeconds(10)
+        );
+
+        // the reconciliation rebuilds the counter from the executions and pops the queued execution
+        Execution success = runnerUtils.awaitExecution(
+            e -> e.getId().equals(execution.getId()) && e.getState().getCurrent() == State.Type.SUCCESS,
+            () -> jdbcExecutor.reconcileConcurrencySlots(),
+            Duration.ofSeconds(30)
+        );
+
+        assertThat(success.getState().getCurrent(), is(State.Type.SUCCESS));
+        Await.until(
+            () -> concurrencyLimitStorage.findById(null, "io.kestra.tests", "flow-concurrency-queue").orElseThrow().getRunning() == 0,
+            Duration.ofMillis(50),
+            Duration.ofSeconds(10)
+        );
+    }
+
     @Test
     void concurrencyQueuePause() throws TimeoutException, InterruptedException  {
         flowConcurrencyCaseTest.flowConcurrencyQueuePause();
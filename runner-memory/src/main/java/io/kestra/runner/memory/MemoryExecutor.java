@@ -72,7 +72,7 @@ public class MemoryExecutor implements ExecutorInterface {
     private QueueInterface<LogEntry> logQueue;
 
     @Inject
-    private TaskDefaultService taskDefaultService;
+    private CompiledFlowCache compiledFlowCache;
 
     @Inject
     private Optional<Template.TemplateExecutorInterface> templateExecutorInterface;
@@ -115,6 +115,7 @@ public class MemoryExecutor implements ExecutorInterface {
     public void run() {
         flowListeners.run();
         flowListeners.listen(flows -> this.allFlows = flows);
+        flowListeners.listen((flow, previous) -> compiledFlowCache.invalidate(flow));
 
         applicationContext.registerSingleton(new DefaultFlowExecutor(flowListeners, this.flowRepository));
 
@@ -154,7 +155,7 @@ public class MemoryExecutor implements ExecutorInterface {
             }
         }
 
-        return taskDefaultService.injectDefaults(flow, execution);
+        return compiledFlowCache.injectDefaults(flow, execution);
     }
 
     private void handleExecution(ExecutionState state) {
@@ -248,17 +249,7 @@ public class MemoryExecutor implements ExecutorInterface {
 
 
             if (!executor.getSubflowExecutions().isEmpty()) {
-                executor.getSubflowExecutions()
-                    .forEach(subflowExecution -> {
-                        SUBFLOWEXECUTIONS_WATCHER.put(subflowExecution.getExecution().getId(), subflowExecution);
-
-                        executionQueue.emit(subflowExecution.getExecution());
-
-                        // send a running worker task result to track running vs created status
-                        if (subflowExecution.getParentTask().waitForExecution()) {
-                            sendSubflowExecutionResult(execution, subflowExecution, subflowExecution.getParentTaskRun());
-                        }
-                    });
+                this.emitSubflowExecutions(execution, executor.getSubflowExecutions());
             }
 
             // Listeners need the last emit
@@ -286,6 +277,20 @@ public class MemoryExecutor implements ExecutorInterface {
         }
     }
 
+    private void emitSubflowExecutions(Execution execution, List<SubflowExecution<?>> subflowExecutions) {
+        subflowExecutions
+            .forEach(subflowExecution -> {
+                SUBFLOWEXECUTIONS_WATCHER.put(subflowExecution.getExecution().getId(), subflowExecution);
+
+                executionQueue.emit(subflowExecution.getExecution());
+
+                // send a running worker task result to track running vs created status
+                if (subflowExecution.getParentTask().waitForExecution()) {
+                    sendSubflowExecutionResult(execution, subflowExecution, subflowExecution.getParentTaskRun());
+                }
+            });
+    }
+
     private void sendSubflowExecutionResult(Execution execution, SubflowExecution<?> subflowExecution, TaskRun taskRun) {
         try {
             Flow workerTaskFlow = this.flowRepository.findByExecution(execution);
@@ -463,10 +468,38 @@ public class MemoryExecutor implements ExecutorInterface {
             Flow flow = this.flowRepository.findByExecution(EXECUTIONS.get(message.getParentTaskRun().getExecutionId()).execution);
             flow = transform(flow, EXECUTIONS.get(message.getParentTaskRun().getExecutionId()).execution);
 
+            // a subflow execution is terminated, the next ones can be created
+            if (message.getParentTaskRun().getState().isTerminated()) {
+                this.releaseSubflowExecutions(flow, message.getParentTaskRun());
+            }
+
             this.toExecution(new Executor(EXECUTIONS.get(message.getParentTaskRun().getExecutionId()).execution, null).withFlow(flow));
         }
     }
 
+    private void releaseSubflowExecutions(Flow flow, TaskRun parentTaskRun) {
+        ExecutionState executionState = EXECUTIONS.get(parentTaskRun.getExecutionId());
+        Execution execution = executionState.from(executionState.execution).execution;
+
+        try {
+            if (!(flow.findTaskByTaskId(parentTaskRun.getTaskId()) instanceof ForEachItem forEachItem)) {
+                return;
+            }
+
+            TaskRun taskRun = execution.findTaskRunByTaskRunId(parentTaskRun.getId());
+            Executor executor = executorService.releaseSubflowExecutions(new Executor(execution, null).withFlow(flow), forEachItem, taskRun);
+
+            if (!executor.getSubflowExecutions().isEmpty()) {
+                TaskRun released = executor.getExecution().findTaskRunByTaskRunId(taskRun.getId());
+                executionState.taskRuns.put(ExecutionState.taskRunKey(released), released);
+
+                this.emitSubflowExecutions(executor.getExecution(), executor.getSubflowExecutions());
+            }
+        } catch (InternalException e) {
+            EXECUTIONS.put(execution.getId(), new ExecutionState(executionState, executionState.execution.failedExecutionFromExecutor(e).getExecution()));
+        }
+    }
+
     private boolean deduplicateWorkerTask(Execution execution, TaskRun taskRun) {
         ExecutionState executionState = EXECUTIONS.get(execution.getId());
 
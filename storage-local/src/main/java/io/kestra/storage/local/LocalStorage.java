@@ -1,13 +1,17 @@
 package io.kestra.storage.local;
 
+import com.google.common.io.ByteStreams;
 import io.kestra.core.storages.FileAttributes;
 import io.kestra.core.storages.StorageInterface;
+import io.kestra.core.storages.StorageRange;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import org.apache.commons.io.FileUtils;
 
 import java.io.*;
 import java.net.URI;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.file.*;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.Collections;
@@ -45,12 +49,35 @@ public class LocalStorage implements StorageInterface {
 
     @Override
     public InputStream get(String tenantId, URI uri) throws IOException {
+        if (StorageRange.of(uri).isPresent()) {
+            return StorageRange.get(this, tenantId, uri);
+        }
+
         return new BufferedInputStream(new FileInputStream(getPath(tenantId, uri)
             .toAbsolutePath()
             .toString())
         );
     }
 
+    @Override
+    public InputStream get(String tenantId, URI uri, long start, long length) throws IOException {
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(getPath(tenantId, uri).toAbsolutePath(), StandardOpenOption.READ);
+        } catch (NoSuchFileException e) {
+            throw new FileNotFoundException(e.getMessage());
+        }
+
+        channel.position(start);
+
+        return new BufferedInputStream(ByteStreams.limit(Channels.newInputStream(channel), length));
+    }
+
+    @Override
+    public boolean supportsRange() {
+        return true;
+    }
+
     @Override
     public List<URI> allByPrefix(String tenantId, URI prefix, boolean includeDirectories) throws IOException {
         Path fsPath = getPath(tenantId, prefix);
@@ -27,12 +27,14 @@ import io.kestra.core.runners.RunnerUtils;
 import io.kestra.core.services.ConditionService;
 import io.kestra.core.services.ExecutionService;
 import io.kestra.core.storages.StorageInterface;
+import io.kestra.core.storages.StorageRange;
 import io.kestra.core.tenant.TenantService;
 import io.kestra.core.utils.Await;
 import io.kestra.core.utils.GraphUtils;
 import io.kestra.webserver.responses.BulkErrorResponse;
 import io.kestra.webserver.responses.BulkResponse;
 import io.kestra.webserver.responses.PagedResults;
+import io.kestra.webserver.services.ExecutionStreamingService;
 import io.kestra.webserver.utils.PageableUtils;
 import io.kestra.webserver.utils.RequestUtils;
 import io.kestra.webserver.utils.filepreview.FileRender;
@@ -117,6 +119,9 @@ public class ExecutionController {
     @Named(QueueFactoryInterface.KILL_NAMED)
     protected QueueInterface<ExecutionKilled> killQueue;
 
+    @Inject
+    protected ExecutionStreamingService executionStreamingService;
+
     @Inject
     private ApplicationEventPublisher<CrudEvent<Execution>> eventPublisher;
 
@@ -497,22 +502,13 @@ public class ExecutionController {
         }
 
         AtomicReference<Runnable> cancel = new AtomicReference<>();
+        Flow flow = flowRepository.findByExecution(current);
 
         return Single
             .<Execution>create(emitter -> {
-                Runnable receive = this.executionQueue.receive(either -> {
-                    if (either.isRight()) {
-                        log.error("Unable to deserialize the execution: {}", either.getRight().getMessage());
-                        return;
-                    }
-
-                    Execution item = either.getLeft();
-                    if (item.getId().equals(current.getId())) {
-                        Flow flow = flowRepository.findByExecution(current);
-
-                        if (this.isStopFollow(flow, item)) {
-                            emitter.onSuccess(item);
-                        }
+                Runnable receive = this.executionStreamingService.subscribeExecution(current.getId(), item -> {
+                    if (this.isStopFollow(flow, item)) {
+                        emitter.onSuccess(item);
                     }
                 });
 
@@ -583,9 +579,9 @@ public class ExecutionController {
             return httpResponse;
         }
 
-        InputStream fileHandler = storageInterface.get(tenantService.resolveTenant(), path);
+        InputStream fileHandler = StorageRange.get(storageInterface, tenantService.resolveTenant(), path);
         return HttpResponse.ok(new StreamedFile(fileHandler, MediaType.APPLICATION_OCTET_STREAM_TYPE)
-            .attach(FilenameUtils.getName(path.toString()))
+            .attach(FilenameUtils.getName(path.getPath()))
         );
     }
 
@@ -602,7 +598,7 @@ public class ExecutionController {
         }
 
         return HttpResponse.ok(FileMetas.builder()
-            .size(storageInterface.getAttributes(tenantService.resolveTenant(), path).getSize())
+            .size(StorageRange.size(storageInterface, tenantService.resolveTenant(), path))
             .build()
         );
     }
@@ -965,26 +961,17 @@ public class ExecutionController {
                 emitter.onNext(Event.of(execution).id("progress"));
 
                 // consume new value
-                Runnable receive = this.executionQueue.receive(either -> {
-                    if (either.isRight()) {
-                        log.error("Unable to deserialize the execution: {}", either.getRight().getMessage());
-                        return;
-                    }
-
-                    Execution current = either.getLeft();
-                    if (current.getId().equals(executionId)) {
-
-                        emitter.onNext(Event.of(current).id("progress"));
+                Runnable receive = this.executionStreamingService.subscribeExecution(executionId, current -> {
+                    emitter.onNext(Event.of(current).id("progress"));
 
-                        if (this.isStopFollow(flow, current)) {
-                            emitter.onNext(Event.of(current).id("end"));
-                            emitter.onComplete();
-                        }
+                    if (this.isStopFollow(flow, current)) {
+                        emitter.onNext(Event.of(current).id("end"));
+                        emitter.onComplete();
                     }
                 });
 
                 cancel.set(receive);
-            }, BackpressureStrategy.BUFFER)
+            }, BackpressureStrategy.LATEST) // each event is the whole execution, a slow client only needs the latest one
             .doOnCancel(() -> {
                 if (cancel.get() != null) {
                     cancel.get().run();
@@ -1008,7 +995,7 @@ public class ExecutionController {
     ) throws IOException {
         this.validateFile(executionId, path, "/api/v1/executions/{executionId}/file?path=" + path);
 
-        String extension = FilenameUtils.getExtension(path.toString());
+        String extension = FilenameUtils.getExtension(path.getPath());
         Optional<Charset> charset;
 
         try {
@@ -1017,7 +1004,7 @@ public class ExecutionController {
             throw new IllegalArgumentException("Unable to preview using encoding '" + encoding + "'");
         }
 
-        try (InputStream fileStream = storageInterface.get(tenantService.resolveTenant(), path)){
+        try (InputStream fileStream = StorageRange.get(storageInterface, tenantService.resolveTenant(), path)){
             FileRender fileRender = FileRenderBuilder.of(
                 extension,
                 fileStream,
@@ -1,11 +1,10 @@
 package io.kestra.webserver.controllers;
 
 import io.kestra.core.models.executions.LogEntry;
-import io.kestra.core.queues.QueueFactoryInterface;
-import io.kestra.core.queues.QueueInterface;
 import io.kestra.core.repositories.LogRepositoryInterface;
 import io.kestra.core.tenant.TenantService;
 import io.kestra.webserver.responses.PagedResults;
+import io.kestra.webserver.services.ExecutionStreamingService;
 import io.kestra.webserver.utils.PageableUtils;
 import io.micronaut.context.annotation.Requires;
 import io.micronaut.core.annotation.Nullable;
@@ -20,12 +19,13 @@ import io.micronaut.http.sse.Event;
 import io.micronaut.scheduling.TaskExecutors;
 import io.micronaut.scheduling.annotation.ExecuteOn;
 import io.micronaut.validation.Validated;
+import io.reactivex.BackpressureOverflowStrategy;
 import io.reactivex.BackpressureStrategy;
 import io.reactivex.Flowable;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import jakarta.inject.Inject;
-import jakarta.inject.Named;
+import lombok.extern.slf4j.Slf4j;
 import org.slf4j.event.Level;
 
 import java.io.ByteArrayInputStream;
@@ -38,13 +38,15 @@ import java.util.stream.Collectors;
 @Validated
 @Controller("/api/v1/")
 @Requires(beans = LogRepositoryInterface.class)
+@Slf4j
 public class LogController {
+    private static final int FOLLOW_BUFFER_SIZE = 10_000;
+
     @Inject
     private LogRepositoryInterface logRepository;
 
     @Inject
-    @Named(QueueFactoryInterface.WORKERTASKLOG_NAMED)
-    protected QueueInterface<LogEntry> logQueue;
+    protected ExecutionStreamingService executionStreamingService;
 
     @Inject
     private TenantService tenantService;
@@ -135,21 +137,19 @@ public class LogController {
                     .forEach(logEntry -> emitter.onNext(Event.of(logEntry).id("progress")));
 
                 // consume in realtime
-                Runnable receive = this.logQueue.receive(either -> {
-                    if (either.isRight()) {
-                        return;
-                    }
-
-                    LogEntry current = either.getLeft();
-                    if (current.getExecutionId() != null && current.getExecutionId().equals(executionId)) {
-                        if (levels.contains(current.getLevel().name())) {
-                            emitter.onNext(Event.of(current).id("progress"));
-                        }
+                Runnable receive = this.executionStreamingService.subscribeLogs(executionId, current -> {
+                    if (levels.contains(current.getLevel().name())) {
+                        emitter.onNext(Event.of(current).id("progress"));
                     }
                 });
 
                 cancel.set(receive);
             }, BackpressureStrategy.BUFFER)
+            .onBackpressureBuffer(
+                FOLLOW_BUFFER_SIZE,
+                () -> log.warn("Too many logs pending for a follow of execution '{}', dropping the oldest ones", executionId),
+                BackpressureOverflowStrategy.DROP_OLDEST
+            )
             .doOnCancel(() -> {
                 if (cancel.get() != null) {
                     cancel.get().run();
@@ -0,0 +1,137 @@
+package io.kestra.webserver.services;
+
+import io.kestra.core.exceptions.DeserializationException;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.executions.LogEntry;
+import io.kestra.core.queues.QueueFactoryInterface;
+import io.kestra.core.queues.QueueInterface;
+import io.kestra.core.utils.Either;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Shared change-feed used by the follow endpoints.
+ * Each queue is consumed only once per webserver, the first time someone subscribes, and its messages are routed
+ * by execution id to the subscribers, so following an execution doesn't start a new queue consumer.
+ * Subscribers are called on the queue consumer thread and must not block.
+ */
+@Singleton
+@Slf4j
+public class ExecutionStreamingService {
+    private final Feed<Execution> executions;
+
+    private final Feed<LogEntry> logs;
+
+    @Inject
+    public ExecutionStreamingService(
+        @Named(QueueFactoryInterface.EXECUTION_NAMED) QueueInterface<Execution> executionQueue,
+        @Named(QueueFactoryInterface.WORKERTASKLOG_NAMED) QueueInterface<LogEntry> logQueue
+    ) {
+        this.executions = new Feed<>(executionQueue, Execution::getId);
+        this.logs = new Feed<>(logQueue, LogEntry::getExecutionId);
+    }
+
+    /**
+     * Receive all the updates of an execution.
+     *
+     * @return a runnable to call to unsubscribe
+     */
+    public Runnable subscribeExecution(String executionId, Consumer<Execution> consumer) {
+        return this.executions.subscribe(executionId, consumer);
+    }
+
+    /**
+     * Receive all the logs of an execution.
+     *
+     * @return a runnable to call to unsubscribe
+     */
+    public Runnable subscribeLogs(String executionId, Consumer<LogEntry> consumer) {
+        return this.logs.subscribe(executionId, consumer);
+    }
+
+    @PreDestroy
+    public void close() {
+        this.executions.close();
+        this.logs.close();
+    }
+
+    private static class Feed<T> {
+        private final QueueInterface<T> queue;
+        private final Function<T, String> executionId;
+        private final Map<String, Set<Consumer<T>>> subscribers = new ConcurrentHashMap<>();
+        private Runnable cancel;
+
+        private Feed(QueueInterface<T> queue, Function<T, String> executionId) {
+            this.queue = queue;
+            this.executionId = executionId;
+        }
+
+        private Runnable subscribe(String executionId, Consumer<T> consumer) {
+            this.start();
+
+            this.subscribers.compute(executionId, (key, consumers) -> {
+                Set<Consumer<T>> current = consumers == null ? new CopyOnWriteArraySet<>() : consumers;
+                current.add(consumer);
+
+                return current;
+            });
+
+            return () -> this.subscribers.computeIfPresent(executionId, (key, consumers) -> {
+                consumers.remove(consumer);
+
+                return consumers.isEmpty() ? null : consumers;
+            });
+        }
+
+        private synchronized void start() {
+            if (this.cancel == null) {
+                this.cancel = this.queue.receive(this::route);
+            }
+        }
+
+        private void route(Either<T, DeserializationException> either) {
+            if (either.isRight()) {
+                log.error("Unable to deserialize a followed message: {}", either.getRight().getMessage());
+                return;
+            }
+
+            T item = either.getLeft();
+            String id = this.executionId.apply(item);
+            if (id == null) {
+                return;
+            }
+
+            Set<Consumer<T>> consumers = this.subscribers.get(id);
+            if (consumers == null) {
+                return;
+            }
+
+            consumers.forEach(consumer -> {
+                try {
+                    consumer.accept(item);
+                } catch (Exception e) {
+                    log.warn("Unable to send a followed message for execution '{}'", id, e);
+                }
+            });
+        }
+
+        private synchronized void close() {
+            if (this.cancel != null) {
+                this.cancel.run();
+                this.cancel = null;
+            }
+
+            this.subscribers.clear();
+        }
+    }
+}
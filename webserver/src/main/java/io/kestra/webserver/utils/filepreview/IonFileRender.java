@@ -3,10 +3,8 @@ package io.kestra.webserver.utils.filepreview;
 import io.kestra.core.serializers.FileSerde;
 import lombok.Getter;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -22,7 +20,8 @@ public class IonFileRender extends FileRender {
     }
 
     private void renderContent(InputStream filestream) throws IOException {
-        try (BufferedReader inputStream = new BufferedReader(new InputStreamReader(filestream))) {
+        // the reader detects whether the file is in the text or the binary format
+        try (InputStream inputStream = filestream) {
             List<Object> list = new ArrayList<>();
             this.truncated = FileSerde.reader(inputStream, this.maxLine, throwConsumer(list::add));
 
@@ -0,0 +1,171 @@
+package io.kestra.webserver.services;
+
+import io.kestra.core.exceptions.DeserializationException;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.executions.LogEntry;
+import io.kestra.core.models.flows.State;
+import io.kestra.core.queues.QueueInterface;
+import io.kestra.core.utils.Either;
+import io.kestra.core.utils.IdUtils;
+import io.reactivex.BackpressureStrategy;
+import io.reactivex.Flowable;
+import io.reactivex.subscribers.TestSubscriber;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class ExecutionStreamingServiceTest {
+    private FakeQueue<Execution> executionQueue;
+
+    private FakeQueue<LogEntry> logQueue;
+
+    private ExecutionStreamingService executionStreamingService;
+
+    @BeforeEach
+    void init() {
+        executionQueue = new FakeQueue<>();
+        logQueue = new FakeQueue<>();
+        executionStreamingService = new ExecutionStreamingService(executionQueue, logQueue);
+    }
+
+    @Test
+    void subscribeAndUnsubscribe() {
+        Execution execution = execution();
+        List<Execution> received = new ArrayList<>();
+
+        // the queue is only consumed on the first subscription
+        assertThat(executionQueue.consumers, is(0));
+
+        Runnable unsubscribe = executionStreamingService.subscribeExecution(execution.getId(), received::add);
+        executionStreamingService.subscribeExecution(execution.getId(), e -> {});
+        assertThat(executionQueue.consumers, is(1));
+
+        executionQueue.send(execution);
+        executionQueue.send(execution());
+        assertThat(received, contains(execution));
+
+        unsubscribe.run();
+        executionQueue.send(execution);
+        assertThat(received, hasSize(1));
+
+        executionStreamingService.close();
+        assertThat(executionQueue.consumers, is(0));
+    }
+
+    @Test
+    void fanOut() {
+        Execution execution = execution();
+        List<Execution> first = new ArrayList<>();
+        List<Execution> second = new ArrayList<>();
+        List<LogEntry> logs = new ArrayList<>();
+
+        executionStreamingService.subscribeExecution(execution.getId(), first::add);
+        executionStreamingService.subscribeExecution(execution.getId(), e -> {
+            throw new IllegalStateException("closed emitter");
+        });
+        executionStreamingService.subscribeExecution(execution.getId(), second::add);
+        executionStreamingService.subscribeLogs(execution.getId(), logs::add);
+
+        executionQueue.send(execution);
+        logQueue.send(LogEntry.builder().executionId(execution.getId()).message("log").build());
+        logQueue.send(LogEntry.builder().executionId(IdUtils.create()).message("other").build());
+
+        // a failing follower doesn't prevent the others to receive the message
+        assertThat(first, contains(execution));
+        assertThat(second, contains(execution));
+        assertThat(logs, hasSize(1));
+        assertThat(logs.get(0).getMessage(), is("log"));
+    }
+
+    @Test
+    void backpressureLatest() {
+        Execution execution = execution();
+        AtomicReference<Runnable> cancel = new AtomicReference<>();
+
+        // same emitter as the execution follow endpoint
+        TestSubscriber<Execution> subscriber = Flowable
+            .<Execution>create(
+                emitter -> cancel.set(executionStreamingService.subscribeExecution(execution.getId(), emitter::onNext)),
+                BackpressureStrategy.LATEST
+            )
+            .doOnCancel(() -> cancel.get().run())
+            .test(0);
+
+        Execution running = execution.withState(State.Type.RUNNING);
+        Execution success = running.withState(State.Type.SUCCESS);
+        executionQueue.send(execution);
+        executionQueue.send(running);
+        executionQueue.send(success);
+
+        // a slow client only receives the latest execution
+        subscriber.request(1);
+        subscriber.assertValues(success);
+
+        subscriber.cancel();
+        executionQueue.send(execution);
+        subscriber.assertValueCount(1);
+    }
+
+    private static Execution execution() {
+        return Execution.builder()
+            .id(IdUtils.create())
+            .namespace("io.kestra.unittest")
+            .flowId("streaming")
+            .state(new State())
+            .build();
+    }
+
+    private static class FakeQueue<T> implements QueueInterface<T> {
+        private final List<Consumer<Either<T, DeserializationException>>> receivers = new ArrayList<>();
+        private int consumers = 0;
+
+        private void send(T message) {
+            receivers.forEach(consumer -> consumer.accept(Either.left(message)));
+        }
+
+        @Override
+        public void emit(String consumerGroup, T message) {
+            this.send(message);
+        }
+
+        @Override
+        public void emitAsync(String consumerGroup, T message) {
+            this.send(message);
+        }
+
+        @Override
+        public void delete(String consumerGroup, T message) {
+        }
+
+        @Override
+        public Runnable receive(String consumerGroup, Consumer<Either<T, DeserializationException>> consumer) {
+            receivers.add(consumer);
+            consumers++;
+
+            return () -> {
+                receivers.remove(consumer);
+                consumers--;
+            };
+        }
+
+        @Override
+        public Runnable receive(String consumerGroup, Class<?> queueType, Consumer<Either<T, DeserializationException>> consumer) {
+            return this.receive(consumerGroup, consumer);
+        }
+
+        @Override
+        public void pause() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}